@@ -14,6 +14,9 @@ import amidst.settings.biomeprofile.BiomeProfileSelection;
 
 @ThreadSafe
 public class AmidstSettings {
+	private static final Runnable NOOP = () -> {
+	};
+
 	public final Setting<Dimension> dimension;
 	public final Setting<Boolean> showGrid;
 	public final Setting<Boolean> showSlimeChunks;
@@ -44,23 +47,25 @@ public class AmidstSettings {
 	 */
 	public final BiomeProfileSelection biomeProfileSelection;
 
+	private volatile Runnable onLayerSettingChanged = NOOP;
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public AmidstSettings(Preferences preferences) {
 		// @formatter:off
-		dimension                  = Settings.createDimension(preferences, "dimension",            Dimension.OVERWORLD);
-		showGrid                   = Settings.createBoolean(  preferences, "grid",                 false);
-		showSlimeChunks            = Settings.createBoolean(  preferences, "slimeChunks",          false);
-		showSpawn                  = Settings.createBoolean(  preferences, "spawnIcon",            true);
-		showStrongholds            = Settings.createBoolean(  preferences, "strongholdIcons",      true);
-		showPlayers                = Settings.createBoolean(  preferences, "playerIcons",          true);
-		showVillages               = Settings.createBoolean(  preferences, "villageIcons",         true);
-		showTemples                = Settings.createBoolean(  preferences, "templeIcons",          true);
-		showMineshafts             = Settings.createBoolean(  preferences, "mineshaftIcons",       false);
-		showOceanMonuments         = Settings.createBoolean(  preferences, "oceanMonumentIcons",   true);
-		showWoodlandMansions       = Settings.createBoolean(  preferences, "woodlandMansionIcons", true);
-		showOceanFeatures          = Settings.createBoolean(  preferences, "oceanFeaturesIcons",   true);
-		showNetherFortresses       = Settings.createBoolean(  preferences, "netherFortressIcons",  false);
-		showEndCities              = Settings.createBoolean(  preferences, "endCityIcons",         false);
+		dimension                  = layerSetting(Settings.createDimension(preferences, "dimension",            Dimension.OVERWORLD));
+		showGrid                   = layerSetting(Settings.createBoolean(  preferences, "grid",                 false));
+		showSlimeChunks            = layerSetting(Settings.createBoolean(  preferences, "slimeChunks",          false));
+		showSpawn                  = layerSetting(Settings.createBoolean(  preferences, "spawnIcon",            true));
+		showStrongholds            = layerSetting(Settings.createBoolean(  preferences, "strongholdIcons",      true));
+		showPlayers                = layerSetting(Settings.createBoolean(  preferences, "playerIcons",          true));
+		showVillages               = layerSetting(Settings.createBoolean(  preferences, "villageIcons",         true));
+		showTemples                = layerSetting(Settings.createBoolean(  preferences, "templeIcons",          true));
+		showMineshafts             = layerSetting(Settings.createBoolean(  preferences, "mineshaftIcons",       false));
+		showOceanMonuments         = layerSetting(Settings.createBoolean(  preferences, "oceanMonumentIcons",   true));
+		showWoodlandMansions       = layerSetting(Settings.createBoolean(  preferences, "woodlandMansionIcons", true));
+		showOceanFeatures          = layerSetting(Settings.createBoolean(  preferences, "oceanFeaturesIcons",   true));
+		showNetherFortresses       = layerSetting(Settings.createBoolean(  preferences, "netherFortressIcons",  false));
+		showEndCities              = layerSetting(Settings.createBoolean(  preferences, "endCityIcons",         false));
 
 		smoothScrolling            = Settings.createBoolean(  preferences, "mapFlicking",          true);
 		fragmentFading             = Settings.createBoolean(  preferences, "mapFading",            true);
@@ -74,4 +79,17 @@ public class AmidstSettings {
 		biomeProfileSelection = new BiomeProfileSelection(BiomeProfile.getDefaultProfile());
 		// @formatter:on
 	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private <T> Setting<T> layerSetting(Setting<T> setting) {
+		return Settings.createWithListener(setting, () -> onLayerSettingChanged.run());
+	}
+
+	/**
+	 * The listener is called after the dimension or the visibility of a layer
+	 * was changed.
+	 */
+	public void setOnLayerSettingChanged(Runnable onLayerSettingChanged) {
+		this.onLayerSettingChanged = onLayerSettingChanged;
+	}
 }
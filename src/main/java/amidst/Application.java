@@ -29,6 +29,7 @@ public class Application {
 
 	private volatile ProfileSelectWindow profileSelectWindow;
 	private volatile MainWindow mainWindow;
+	private volatile RunningLauncherProfile runningLauncherProfile;
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public Application(
@@ -71,6 +72,7 @@ public class Application {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public MainWindow displayMainWindow(RunningLauncherProfile runningLauncherProfile) {
 		setMainWindow(mainWindowFactory.create(runningLauncherProfile));
+		setRunningLauncherProfile(runningLauncherProfile);
 		setProfileSelectWindow(null);
 		return mainWindow;
 	}
@@ -79,6 +81,7 @@ public class Application {
 	public ProfileSelectWindow displayProfileSelectWindow() {
 		setProfileSelectWindow(profileSelectWindowFactory.create());
 		setMainWindow(null);
+		setRunningLauncherProfile(null);
 		return profileSelectWindow;
 	}
 
@@ -94,6 +97,19 @@ public class Application {
 		this.mainWindow = mainWindow;
 	}
 
+	/**
+	 * The previous profile is disposed after its main window, so no world of
+	 * it is displayed anymore.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void setRunningLauncherProfile(RunningLauncherProfile runningLauncherProfile) {
+		RunningLauncherProfile previous = this.runningLauncherProfile;
+		if (previous != null && previous != runningLauncherProfile) {
+			previous.dispose();
+		}
+		this.runningLauncherProfile = runningLauncherProfile;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void disposeProfileSelectWindow() {
 		ProfileSelectWindow profileSelectWindow = this.profileSelectWindow;
@@ -125,5 +141,6 @@ public class Application {
 	public void dispose() {
 		setProfileSelectWindow(null);
 		setMainWindow(null);
+		setRunningLauncherProfile(null);
 	}
 }
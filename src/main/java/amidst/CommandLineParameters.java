@@ -23,12 +23,33 @@ public class CommandLineParameters {
 	@Option(name = "-biome-profiles",         usage = "location of the biome profile directory",             metaVar = "<directory>")
 	public volatile String biomeProfilesDirectory;
 
+	@Option(name = "-biome-cache",            usage = "location of the biome tile cache directory",          metaVar = "<directory>")
+	public volatile String biomeTileCacheDirectory;
+
+	@Option(name = "-class-cache",            usage = "location of the class translation cache directory",   metaVar = "<directory>")
+	public volatile String classTranslationCacheDirectory;
+
 	@Option(name = "-history",                usage = "location of the seed history file",                   metaVar = "<file>")
 	public volatile String seedHistoryFile;
 
 	@Option(name = "-log",                    usage = "location of the log file",                            metaVar = "<file>")
 	public volatile String logFile;
 	
+	@Option(name = "-fragment-loaders",       usage = "number of fragment loading threads",                  metaVar = "<count>")
+	public volatile int numberOfFragmentLoaders;
+
+	@Option(name = "-fragment-cache-size",    usage = "number of fragments the cache shrinks back to",       metaVar = "<count>")
+	public volatile int maxFragmentCacheSize;
+
+	@Option(name = "-minecraft-instances",    usage = "number of minecraft instances, 0 for one per cpu",    metaVar = "<count>")
+	public volatile int numberOfMinecraftInterfaces;
+
+	@Option(name = "-minecraft-processes",    usage = "run the minecraft instances in worker processes")
+	public volatile boolean useMinecraftWorkerProcesses;
+
+	@Option(name = "-builtin-biomes",         usage = "generate the biomes of 1.8 to 1.12.2 without minecraft (experimental)")
+	public volatile boolean useBuiltInBiomeGenerator;
+
 	@Option(name = "-help",                   usage = "print usage information")
 	public volatile boolean printHelp;
 
@@ -3,6 +3,7 @@ package amidst;
 import java.io.IOException;
 import java.util.Optional;
 
+import amidst.clazz.ClassTranslationCache;
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
@@ -27,6 +28,7 @@ import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.PlayerInformationCache;
 import amidst.mojangapi.file.PlayerInformationProvider;
 import amidst.mojangapi.file.VersionListProvider;
+import amidst.mojangapi.minecraftinterface.BiomeTileCacheDirectory;
 import amidst.mojangapi.world.SeedHistoryLogger;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.WorldBuilder;
@@ -43,6 +45,7 @@ public class PerApplicationInjector {
 	private final MinecraftInstallation minecraftInstallation;
 	private final Optional<LauncherProfile> preferredLauncherProfile;
 	private final WorldBuilder worldBuilder;
+	private final BiomeTileCacheDirectory biomeTileCacheDirectory;
 	private final LauncherProfileRunner launcherProfileRunner;
 	private final BiomeProfileDirectory biomeProfileDirectory;
 	private final ThreadMaster threadMaster;
@@ -67,14 +70,26 @@ public class PerApplicationInjector {
 		this.preferredLauncherProfile = minecraftInstallation
 				.tryReadLauncherProfile(parameters.minecraftJarFile, parameters.minecraftJsonFile);
 		this.worldBuilder = new WorldBuilder(playerInformationProvider, seedHistoryLogger);
-		this.launcherProfileRunner = new LauncherProfileRunner(worldBuilder);
+		this.biomeTileCacheDirectory = BiomeTileCacheDirectory.create(parameters.biomeTileCacheDirectory);
+		this.launcherProfileRunner = new LauncherProfileRunner(
+				worldBuilder,
+				biomeTileCacheDirectory,
+				ClassTranslationCache.create(parameters.classTranslationCacheDirectory),
+				parameters.numberOfMinecraftInterfaces,
+				parameters.useMinecraftWorkerProcesses,
+				parameters.useBuiltInBiomeGenerator);
 		this.biomeProfileDirectory = BiomeProfileDirectory.create(parameters.biomeProfilesDirectory);
-		this.threadMaster = new ThreadMaster();
+		this.threadMaster = new ThreadMaster(parameters.numberOfFragmentLoaders);
+		settings.setOnLayerSettingChanged(threadMaster.getFragmentLoaderWakeUpSignal()::signal);
 		this.versionListProvider = VersionListProvider
 				.createLocalAndStartDownloadingRemote(threadMaster.getWorkerExecutor());
 		this.layerBuilder = new LayerBuilder();
 		this.zoom = new Zoom(settings.maxZoom);
-		this.fragmentManager = new FragmentManager(layerBuilder.getConstructors(), layerBuilder.getNumberOfLayers());
+		this.fragmentManager = new FragmentManager(
+				layerBuilder.getConstructors(),
+				layerBuilder.getNumberOfLayers(),
+				parameters.maxFragmentCacheSize,
+				threadMaster.getFragmentLoaderWakeUpSignal());
 		this.biomeSelection = new BiomeSelection();
 		this.application = new Application(
 				preferredLauncherProfile,
@@ -131,6 +146,9 @@ public class PerApplicationInjector {
 		return new PerViewerFacadeInjector(
 				settings,
 				threadMaster.getWorkerExecutor(),
+				threadMaster.getFragmentLoaderPool(),
+				threadMaster.getNumberOfFragmentLoaders(),
+				threadMaster.getFragmentLoaderWakeUpSignal(),
 				zoom,
 				layerBuilder,
 				fragmentManager,
@@ -0,0 +1,175 @@
+package amidst.clazz;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import amidst.AmidstVersion;
+import amidst.ResourceLoader;
+import amidst.clazz.symbolic.declaration.SymbolicClassDeclaration;
+import amidst.clazz.translator.ClassTranslator;
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.util.CacheDirectories;
+
+/**
+ * Stores the real class names that a class translator found in a jar file, so
+ * the jar file does not need to be parsed again. There is one properties file
+ * per jar file and translator. The file name is a digest of the Amidst
+ * version, the symbolic class names of the translator and the content of the
+ * jar file, so a changed jar file or a new Amidst version never uses a stale
+ * entry.
+ *
+ * The cache only stores class names, because the members are resolved by
+ * their declarations anyway.
+ */
+@ThreadSafe
+public class ClassTranslationCache {
+	private static final String FILE_EXTENSION = ".properties";
+	private static final File DEFAULT_ROOT_DIRECTORY = CacheDirectories.get("class-cache");
+
+	public static ClassTranslationCache create(String root) {
+		ClassTranslationCache result = new ClassTranslationCache(getRoot(root));
+		AmidstLogger.info("using class translation cache at: '" + result.getRoot() + "'");
+		return result;
+	}
+
+	public static ClassTranslationCache createDefault() {
+		return new ClassTranslationCache(DEFAULT_ROOT_DIRECTORY);
+	}
+
+	private static File getRoot(String root) {
+		if (root != null) {
+			return new File(root);
+		} else {
+			return DEFAULT_ROOT_DIRECTORY;
+		}
+	}
+
+	private final File root;
+
+	public ClassTranslationCache(File root) {
+		this.root = root;
+	}
+
+	public File getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns null, if there is no entry or if it cannot be read.
+	 */
+	public Map<SymbolicClassDeclaration, String> read(File jarFile, ClassTranslator translator) {
+		File file = getFile(jarFile, translator);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream stream = new FileInputStream(file)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to read the class translation cache file: '" + file + "'");
+			return null;
+		}
+		Map<SymbolicClassDeclaration, String> result = new HashMap<>();
+		for (SymbolicClassDeclaration declaration : translator.getDeclarations()) {
+			String realClassName = properties.getProperty(declaration.getSymbolicClassName());
+			if (realClassName != null) {
+				result.put(declaration, realClassName);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The file is replaced atomically, so other processes that use the same
+	 * cache never read a partially written file.
+	 */
+	public void write(File jarFile, ClassTranslator translator, Map<SymbolicClassDeclaration, String> realClassNames) {
+		File file = getFile(jarFile, translator);
+		if (file == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		for (Entry<SymbolicClassDeclaration, String> entry : realClassNames.entrySet()) {
+			properties.setProperty(entry.getKey().getSymbolicClassName(), entry.getValue());
+		}
+		try {
+			root.mkdirs();
+			File temporaryFile = File.createTempFile("translation", ".tmp", root);
+			try (OutputStream stream = new FileOutputStream(temporaryFile)) {
+				properties.store(stream, jarFile.getName());
+			}
+			Files.move(
+					temporaryFile.toPath(),
+					file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to write the class translation cache file: '" + file + "'");
+		}
+	}
+
+	private File getFile(File jarFile, ClassTranslator translator) {
+		try {
+			return new File(root, toHexString(digest(jarFile, translator)) + FILE_EXTENSION);
+		} catch (IOException | NoSuchAlgorithmException e) {
+			AmidstLogger.warn(e, "unable to create the class translation cache key for: '" + jarFile + "'");
+			return null;
+		}
+	}
+
+	private byte[] digest(File jarFile, ClassTranslator translator) throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(getAmidstVersionString().getBytes(StandardCharsets.UTF_8));
+		for (String symbolicClassName : getSortedSymbolicClassNames(translator)) {
+			digest.update((byte) '\n');
+			digest.update(symbolicClassName.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream stream = new FileInputStream(jarFile)) {
+			int length;
+			while ((length = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, length);
+			}
+		}
+		return digest.digest();
+	}
+
+	private String getAmidstVersionString() {
+		return AmidstVersion.from(ResourceLoader.getProperties("/amidst/metadata.properties")).createLongVersionString();
+	}
+
+	private List<String> getSortedSymbolicClassNames(ClassTranslator translator) {
+		List<String> result = new ArrayList<>();
+		for (SymbolicClassDeclaration declaration : translator.getDeclarations()) {
+			result.add(declaration.getSymbolicClassName());
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	private String toHexString(byte[] bytes) {
+		StringBuilder result = new StringBuilder();
+		for (byte b : bytes) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+}
@@ -31,13 +31,72 @@ public enum Classes {
 			JarFileParsingException,
 			SymbolicClassGraphCreationException,
 			ClassNotFoundException {
-		AmidstLogger.info("Reading {}", jarFile.getName());
-		List<RealClass> realClasses = RealClasses.fromJarFile(jarFile);
-		AmidstLogger.info("Jar load complete.");
-		AmidstLogger.info("Searching for classes...");
-		Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration = translator
-				.translate(realClasses);
+		return createSymbolicClassMap(findRealClassNames(jarFile, translator), classLoader);
+	}
+
+	/**
+	 * The result only depends on the jar file, so it can be used to create the
+	 * symbolic class maps of multiple class loaders that load the same jar
+	 * file.
+	 */
+	public static Map<SymbolicClassDeclaration, String> findRealClassNames(File jarFile, ClassTranslator translator)
+			throws FileNotFoundException,
+			JarFileParsingException,
+			ClassNotFoundException {
+		AmidstLogger.info("Searching for classes in {}", jarFile.getName());
+		Map<SymbolicClassDeclaration, String> result = translator.translate(jarFile);
 		AmidstLogger.info("Class search complete.");
+		return result;
+	}
+
+	/**
+	 * Like {@link #findRealClassNames(File, ClassTranslator)}, but the jar file
+	 * is only parsed if the cache has no entry for it. A cached entry is
+	 * validated by loading all declared classes and members with the given
+	 * class loader, so an entry that does not fit the jar file is replaced.
+	 */
+	public static Map<SymbolicClassDeclaration, String> findRealClassNames(
+			File jarFile,
+			ClassTranslator translator,
+			ClassTranslationCache cache,
+			URLClassLoader classLoader)
+			throws FileNotFoundException,
+			JarFileParsingException,
+			ClassNotFoundException {
+		Map<SymbolicClassDeclaration, String> cached = cache.read(jarFile, translator);
+		if (cached != null) {
+			if (isValid(cached, translator, classLoader)) {
+				AmidstLogger.info("Using the cached class names for {}", jarFile.getName());
+				return cached;
+			} else {
+				AmidstLogger.warn("The cached class names for {} are invalid.", jarFile.getName());
+			}
+		}
+		Map<SymbolicClassDeclaration, String> result = findRealClassNames(jarFile, translator);
+		cache.write(jarFile, translator, result);
+		return result;
+	}
+
+	private static boolean isValid(
+			Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration,
+			ClassTranslator translator,
+			URLClassLoader classLoader) {
+		for (SymbolicClassDeclaration declaration : translator.getDeclarations()) {
+			if (!declaration.isOptional() && !realClassNamesBySymbolicClassDeclaration.containsKey(declaration)) {
+				return false;
+			}
+		}
+		try {
+			SymbolicClasses.from(realClassNamesBySymbolicClassDeclaration, classLoader);
+			return true;
+		} catch (SymbolicClassGraphCreationException e) {
+			return false;
+		}
+	}
+
+	public static Map<String, SymbolicClass> createSymbolicClassMap(
+			Map<SymbolicClassDeclaration, String> realClassNamesBySymbolicClassDeclaration,
+			URLClassLoader classLoader) throws SymbolicClassGraphCreationException, ClassNotFoundException {
 		AmidstLogger.info("Loading classes...");
 		Map<String, SymbolicClass> result = SymbolicClasses.from(realClassNamesBySymbolicClassDeclaration, classLoader);
 		AmidstLogger.info("Classes loaded.");
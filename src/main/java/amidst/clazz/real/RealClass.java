@@ -8,8 +8,15 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import amidst.clazz.real.RealClassConstant.RealClassConstantType;
 import amidst.documentation.Immutable;
 
+/**
+ * Keeps the raw class data together with the offsets of the constant pool
+ * entries. The constants are only decoded when a detector asks for them, so
+ * the cheap checks like the number of fields and methods do not need to decode
+ * anything.
+ */
 @Immutable
 public class RealClass {
 	private static Map<Character, String> createPrimitiveTypeConversionMap() {
@@ -31,67 +38,50 @@ public class RealClass {
 	public static final int CLASS_DATA_WILDCARD = -1;
 
 	private final String realClassName;
-	private final String superClassName;
 	private final byte[] classData;
 
 	private final int minorVersion;
 	private final int majorVersion;
 
 	private final int cpSize;
-	@SuppressWarnings("unused")
-	private final int[] constantTypes;
-	private final RealClassConstant<?>[] constants;
-
-	private final List<String> utf8Constants;
-	private final List<Float> floatConstants;
-	private final List<Double> doubleConstants;
-	private final List<Long> longConstants;
-	private final List<Integer> stringIndices;
-	private final List<ReferenceIndex> methodIndices;
+	private final byte[] constantTypes;
+	private final int[] constantOffsets;
 
 	private final int accessFlags;
-	private final RealClassField[] fields;
+	private final int superClassIndex;
+	private final int[] fieldAccessFlags;
+	private final int[] methodNameIndices;
+	private final int[] methodDescriptorIndices;
 
 	private final int numberOfConstructors;
-	private final int numberOfMethods;
 
 	RealClass(
 			String realClassName,
-			String superClassName,
 			byte[] classData,
 			int minorVersion,
 			int majorVersion,
 			int cpSize,
-			int[] constantTypes,
-			RealClassConstant<?>[] constants,
-			List<String> utf8Constants,
-			List<Float> floatConstants,
-			List<Double> doubleConstants,
-			List<Long> longConstants,
-			List<Integer> stringIndices,
-			List<ReferenceIndex> methodIndices,
+			byte[] constantTypes,
+			int[] constantOffsets,
 			int accessFlags,
-			RealClassField[] fields,
-			int numberOfConstructors,
-			int numberOfMethods) {
+			int superClassIndex,
+			int[] fieldAccessFlags,
+			int[] methodNameIndices,
+			int[] methodDescriptorIndices,
+			int numberOfConstructors) {
 		this.realClassName = realClassName;
-		this.superClassName = superClassName;
 		this.classData = classData;
 		this.minorVersion = minorVersion;
 		this.majorVersion = majorVersion;
 		this.cpSize = cpSize;
 		this.constantTypes = constantTypes;
-		this.constants = constants;
-		this.utf8Constants = utf8Constants;
-		this.floatConstants = floatConstants;
-		this.doubleConstants = doubleConstants;
-		this.longConstants = longConstants;
-		this.stringIndices = stringIndices;
-		this.methodIndices = methodIndices;
+		this.constantOffsets = constantOffsets;
 		this.accessFlags = accessFlags;
-		this.fields = fields;
+		this.superClassIndex = superClassIndex;
+		this.fieldAccessFlags = fieldAccessFlags;
+		this.methodNameIndices = methodNameIndices;
+		this.methodDescriptorIndices = methodDescriptorIndices;
 		this.numberOfConstructors = numberOfConstructors;
-		this.numberOfMethods = numberOfMethods;
 	}
 
 	public String getRealClassName() {
@@ -99,7 +89,7 @@ public class RealClass {
 	}
 
 	public String getRealSuperClassName() {
-		return superClassName;
+		return getStringValueOfConstant(readUnsignedShort(classData, getConstantOffset(superClassIndex)));
 	}
 
 	public boolean isClassDataWildcardMatching(int[] bytes) {
@@ -134,8 +124,8 @@ public class RealClass {
 	}
 
 	public boolean searchForUtf8EqualTo(String required) {
-		for (String entry : utf8Constants) {
-			if (entry.equals(required)) {
+		for (int i = 0; i < cpSize; i++) {
+			if (constantTypes[i] == RealClassConstantType.STRING && isUtf8EqualTo(constantOffsets[i], required)) {
 				return true;
 			}
 		}
@@ -143,8 +133,9 @@ public class RealClass {
 	}
 
 	public boolean searchForFloat(float required) {
-		for (Float entry : floatConstants) {
-			if (entry.floatValue() == required) {
+		for (int i = 0; i < cpSize; i++) {
+			if (constantTypes[i] == RealClassConstantType.FLOAT
+					&& Float.intBitsToFloat(readInt(classData, constantOffsets[i])) == required) {
 				return true;
 			}
 		}
@@ -152,8 +143,8 @@ public class RealClass {
 	}
 
 	public boolean searchForLong(long required) {
-		for (Long entry : longConstants) {
-			if (entry.longValue() == required) {
+		for (int i = 0; i < cpSize; i++) {
+			if (constantTypes[i] == RealClassConstantType.LONG && readLong(classData, constantOffsets[i]) == required) {
 				return true;
 			}
 		}
@@ -161,8 +152,9 @@ public class RealClass {
 	}
 
 	public boolean searchForDouble(double required) {
-		for (Double entry : doubleConstants) {
-			if (entry.doubleValue() == required) {
+		for (int i = 0; i < cpSize; i++) {
+			if (constantTypes[i] == RealClassConstantType.DOUBLE
+					&& Double.longBitsToDouble(readLong(classData, constantOffsets[i])) == required) {
 				return true;
 			}
 		}
@@ -170,10 +162,12 @@ public class RealClass {
 	}
 
 	public boolean searchForStringContaining(String requiredValue) {
-		for (Integer entry : stringIndices) {
-			String entryValue = getStringValueOfConstant(entry);
-			if (entryValue.contains(requiredValue)) {
-				return true;
+		for (int i = 0; i < cpSize; i++) {
+			if (constantTypes[i] == RealClassConstantType.STRING_REFERENCE) {
+				String entryValue = getStringValueOfConstant(readUnsignedShort(classData, constantOffsets[i]));
+				if (entryValue.contains(requiredValue)) {
+					return true;
+				}
 			}
 		}
 		return false;
@@ -181,19 +175,19 @@ public class RealClass {
 
 	public String searchByReturnType(String required) {
 		String requiredType = "L" + required + ";";
-		for (ReferenceIndex entry : methodIndices) {
-			String value = getStringValueOfConstant(entry.getValue2());
+		for (int i = 0; i < methodNameIndices.length; i++) {
+			String value = getStringValueOfConstant(methodDescriptorIndices[i]);
 			String entryType = value.substring(value.indexOf(')') + 1);
 			if (entryType.equals(requiredType)) {
-				return getStringValueOfConstant(entry.getValue1());
+				return getStringValueOfConstant(methodNameIndices[i]);
 			}
 		}
 		return null;
 	}
 
 	public boolean hasMethodWithRealArguments(String... arguments) {
-		for (ReferenceIndex entry : methodIndices) {
-			String value = getStringValueOfConstant(entry.getValue2());
+		for (int methodDescriptorIndex : methodDescriptorIndices) {
+			String value = getStringValueOfConstant(methodDescriptorIndex);
 			String[] args = readArguments(value);
 			if(arguments.length == args.length) {
 				for(int i = 0; i < args.length; i++) {
@@ -207,7 +201,7 @@ public class RealClass {
 	}
 
 	public RealClassField getField(int index) {
-		return fields[index];
+		return new RealClassField(fieldAccessFlags[index]);
 	}
 
 	public int getAccessFlags() {
@@ -219,11 +213,11 @@ public class RealClass {
 	}
 
 	public int getNumberOfMethods() {
-		return numberOfMethods;
+		return methodNameIndices.length - numberOfConstructors;
 	}
 
 	public int getNumberOfFields() {
-		return fields.length;
+		return fieldAccessFlags.length;
 	}
 
 	public boolean isInterface() {
@@ -236,10 +230,10 @@ public class RealClass {
 
 	public String getArgumentsForConstructor(int constructorId) {
 		int i = 0;
-		for (ReferenceIndex entry : methodIndices) {
-			if (getStringValueOfConstant(entry.getValue1()).equals("<init>")) {
+		for (int j = 0; j < methodNameIndices.length; j++) {
+			if (isUtf8EqualTo(getConstantOffset(methodNameIndices[j]), "<init>")) {
 				if (i == constructorId) {
-					String arguments = getStringValueOfConstant(entry.getValue2());
+					String arguments = getStringValueOfConstant(methodDescriptorIndices[j]);
 					return toArgumentString(readArguments(arguments));
 				}
 				i++;
@@ -248,8 +242,53 @@ public class RealClass {
 		return "";
 	}
 
-	private String getStringValueOfConstant(int value) {
-		return (String) constants[value - 1].getValue();
+	private int getConstantOffset(int index) {
+		return constantOffsets[index - 1];
+	}
+
+	private String getStringValueOfConstant(int index) {
+		return readUtf8(classData, getConstantOffset(index));
+	}
+
+	private boolean isUtf8EqualTo(int offset, String required) {
+		return isUtf8EqualTo(classData, offset, required);
+	}
+
+	/**
+	 * Each byte is converted to a single character, which is only correct for
+	 * ASCII. This is sufficient for the names in the game.
+	 */
+	static String readUtf8(byte[] classData, int offset) {
+		char[] result = new char[readUnsignedShort(classData, offset)];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = (char) classData[offset + 2 + i];
+		}
+		return new String(result);
+	}
+
+	static boolean isUtf8EqualTo(byte[] classData, int offset, String required) {
+		int length = readUnsignedShort(classData, offset);
+		if (length != required.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if ((char) classData[offset + 2 + i] != required.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static int readUnsignedShort(byte[] classData, int offset) {
+		return ((classData[offset] & 0xFF) << 8) | (classData[offset + 1] & 0xFF);
+	}
+
+	static int readInt(byte[] classData, int offset) {
+		return (readUnsignedShort(classData, offset) << 16) | readUnsignedShort(classData, offset + 2);
+	}
+
+	static long readLong(byte[] classData, int offset) {
+		return ((long) readInt(classData, offset) << 32) | (readInt(classData, offset + 4) & 0xFFFFFFFFL);
 	}
 
 	private String[] readArguments(String arguments) {
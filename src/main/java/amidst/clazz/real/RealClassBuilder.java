@@ -1,309 +1,128 @@
 package amidst.clazz.real;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import static amidst.clazz.real.RealClass.isUtf8EqualTo;
+import static amidst.clazz.real.RealClass.readInt;
+import static amidst.clazz.real.RealClass.readUnsignedShort;
 
 import amidst.clazz.real.RealClassConstant.RealClassConstantType;
 import amidst.documentation.Immutable;
 
 /**
+ * Only indexes the class data. The constant pool is not decoded, but the
+ * offset of each entry is stored, so the constants can be decoded on demand.
+ *
  * See https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html#jvms-4.4.8
  */
 @Immutable
 public class RealClassBuilder {
 	public RealClass construct(String realClassName, byte[] classData) throws RealClassCreationException {
-		try (DataInputStream stream = new DataInputStream(new ByteArrayInputStream(classData))) {
-			return doConstruct(realClassName, classData, stream);
-		} catch (IOException e) {
+		try {
+			return doConstruct(realClassName, classData);
+		} catch (IndexOutOfBoundsException e) {
 			throw new RealClassCreationException("unable to create real class for the class: " + realClassName, e);
 		}
 	}
 
-	private RealClass doConstruct(String realClassName, byte[] classData, DataInputStream stream) throws IOException {
-		if (isValidClass(stream)) {
-			int minorVersion = readMinorVersion(stream);
-			int majorVersion = readMajorVersion(stream);
-			int cpSize = readCpSize(stream);
-			int[] constantTypes = new int[cpSize];
-			RealClassConstant<?>[] constants = new RealClassConstant<?>[cpSize];
-			List<String> utf8Constants = new ArrayList<>();
-			List<Float> floatConstants = new ArrayList<>();
-			List<Double> doubleConstants = new ArrayList<>();
-			List<Long> longConstants = new ArrayList<>();
-			List<Integer> stringIndices = new ArrayList<>();
-			List<ReferenceIndex> methodIndices = new ArrayList<>();
-			readConstants(
-					stream,
-					cpSize,
-					constantTypes,
-					constants,
-					utf8Constants,
-					floatConstants,
-					doubleConstants,
-					longConstants,
-					stringIndices);
-			int accessFlags = readAccessFlags(stream);
-			skipThisClass(stream);
-			String superClassName = readSuperClass(stream, constants);
-			skipInterfaces(stream);
-			RealClassField[] fields = readFields(stream);
-			int numberOfMethodsAndConstructors = readNumberOfMethodsAndConstructors(stream);
-			int numberOfConstructors = readMethodsAndConstructors(
-					stream,
-					numberOfMethodsAndConstructors,
-					constants,
-					methodIndices);
-			int numberOfMethods = numberOfMethodsAndConstructors - numberOfConstructors;
-			return new RealClass(
-					realClassName,
-					superClassName,
-					classData,
-					minorVersion,
-					majorVersion,
-					cpSize,
-					constantTypes,
-					constants,
-					utf8Constants,
-					floatConstants,
-					doubleConstants,
-					longConstants,
-					stringIndices,
-					methodIndices,
-					accessFlags,
-					fields,
-					numberOfConstructors,
-					numberOfMethods);
-		} else {
+	private RealClass doConstruct(String realClassName, byte[] classData) throws RealClassCreationException {
+		if (readInt(classData, 0) != 0xCAFEBABE) {
 			return null;
 		}
-	}
-
-	private boolean isValidClass(DataInputStream stream) throws IOException {
-		return stream.readInt() == 0xCAFEBABE;
-	}
-
-	private int readMinorVersion(DataInputStream stream) throws IOException {
-		return stream.readUnsignedShort();
-	}
-
-	private int readMajorVersion(DataInputStream stream) throws IOException {
-		return stream.readUnsignedShort();
-	}
-
-	private int readCpSize(DataInputStream stream) throws IOException {
-		return stream.readUnsignedShort() - 1;
-	}
-
-	private void readConstants(
-			DataInputStream stream,
-			int cpSize,
-			int[] constantTypes,
-			RealClassConstant<?>[] constants,
-			List<String> utf8Constants,
-			List<Float> floatConstants,
-			List<Double> doubleConstants,
-			List<Long> longConstants,
-			List<Integer> stringIndices) throws IOException {
+		int minorVersion = readUnsignedShort(classData, 4);
+		int majorVersion = readUnsignedShort(classData, 6);
+		int cpSize = readUnsignedShort(classData, 8) - 1;
+		byte[] constantTypes = new byte[cpSize];
+		int[] constantOffsets = new int[cpSize];
+		int position = 10;
 		for (int q = 0; q < cpSize; q++) {
-			byte type = stream.readByte();
+			byte type = classData[position];
 			constantTypes[q] = type;
-			constants[q] = readConstant(stream, type, utf8Constants, floatConstants, doubleConstants, longConstants, stringIndices);
+			constantOffsets[q] = position + 1;
+			position += 1 + getConstantLength(realClassName, classData, type, position + 1);
 			if (RealClassConstantType.isQIncreasing(type)) {
 				q++;
 			}
 		}
-	}
-
-	private RealClassConstant<?> readConstant(
-			DataInputStream stream,
-			byte type,
-			List<String> utf8Constants,
-			List<Float> floatConstants,
-			List<Double> doubleConstants,
-			List<Long> longConstants,
-			List<Integer> stringIndices) throws IOException {
+		int accessFlags = readUnsignedShort(classData, position);
+		int superClassIndex = readUnsignedShort(classData, position + 4);
+		position += 6;
+		position += 2 + 2 * readUnsignedShort(classData, position);
+		int[] fieldAccessFlags = new int[readUnsignedShort(classData, position)];
+		position += 2;
+		for (int i = 0; i < fieldAccessFlags.length; i++) {
+			fieldAccessFlags[i] = readUnsignedShort(classData, position);
+			position = skipAttributes(classData, position + 6);
+		}
+		int numberOfMethodsAndConstructors = readUnsignedShort(classData, position);
+		position += 2;
+		int[] methodNameIndices = new int[numberOfMethodsAndConstructors];
+		int[] methodDescriptorIndices = new int[numberOfMethodsAndConstructors];
+		int numberOfConstructors = 0;
+		for (int i = 0; i < numberOfMethodsAndConstructors; i++) {
+			methodNameIndices[i] = readUnsignedShort(classData, position + 2);
+			methodDescriptorIndices[i] = readUnsignedShort(classData, position + 4);
+			if (isUtf8EqualTo(classData, constantOffsets[methodNameIndices[i] - 1], "<init>")) {
+				numberOfConstructors++;
+			}
+			position = skipAttributes(classData, position + 6);
+		}
+		return new RealClass(
+				realClassName,
+				classData,
+				minorVersion,
+				majorVersion,
+				cpSize,
+				constantTypes,
+				constantOffsets,
+				accessFlags,
+				superClassIndex,
+				fieldAccessFlags,
+				methodNameIndices,
+				methodDescriptorIndices,
+				numberOfConstructors);
+	}
+
+	/**
+	 * Returns the length of the constant without the type.
+	 */
+	private int getConstantLength(String realClassName, byte[] classData, byte type, int offset)
+			throws RealClassCreationException {
 		switch (type) {
 		case RealClassConstantType.STRING:
-			return readString(stream, type, utf8Constants);
+			return 2 + readUnsignedShort(classData, offset);
 		case RealClassConstantType.INTEGER:
-			return readInteger(stream, type);
 		case RealClassConstantType.FLOAT:
-			return readFloat(stream, type, floatConstants);
+			return 4;
 		case RealClassConstantType.LONG:
-			return readLong(stream, type, longConstants);
 		case RealClassConstantType.DOUBLE:
-			return readDouble(stream, type, doubleConstants);
+			return 8;
 		case RealClassConstantType.CLASS_REFERENCE:
-			return readClassReference(stream, type);
 		case RealClassConstantType.STRING_REFERENCE:
-			return readStringReference(stream, type, stringIndices);
+		case RealClassConstantType.METHOD_TYPE:
+			return 2;
 		case RealClassConstantType.FIELD_REFERENCE:
-			return readAnotherReference(stream, type);
 		case RealClassConstantType.METHOD_REFERENCE:
-			return readAnotherReference(stream, type);
 		case RealClassConstantType.INTERFACE_METHOD_REFERENCE:
-			return readAnotherReference(stream, type);
 		case RealClassConstantType.NAME_AND_TYPE_DESCRIPTOR:
-			return readAnotherReference(stream, type);
-		case RealClassConstantType.METHOD_HANDLE:
-			return readMethodHandle(stream, type);
-		case RealClassConstantType.METHOD_TYPE:
-			return readMethodType(stream, type);
 		case RealClassConstantType.INVOKE_DYNAMIC:
-			return readInvokeDynamic(stream, type);
+			return 4;
+		case RealClassConstantType.METHOD_HANDLE:
+			return 3;
 		default:
-			throw new IOException("unknown constant type: " + type);
-		}
-	}
-
-	private RealClassConstant<String> readString(DataInputStream stream, byte type, List<String> utf8Constants)
-			throws IOException {
-		String value = readStringValue(stream);
-		utf8Constants.add(value);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private String readStringValue(DataInputStream stream) throws IOException {
-		char[] result = new char[stream.readUnsignedShort()];
-		for (int i = 0; i < result.length; i++) {
-			result[i] = (char) stream.readByte();
-		}
-		return new String(result);
-	}
-
-	private RealClassConstant<Integer> readInteger(DataInputStream stream, byte type) throws IOException {
-		int value = stream.readInt();
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Float> readFloat(DataInputStream stream, byte type, List<Float> floatConstants)
-			throws IOException {
-		float value = stream.readFloat();
-		floatConstants.add(value);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Long> readLong(DataInputStream stream, byte type, List<Long> longConstants)
-			throws IOException {
-		long value = stream.readLong();
-		longConstants.add(value);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Double> readDouble(DataInputStream stream, byte type, List<Double> doubleConstants) throws IOException {
-		double value = stream.readDouble();
-		doubleConstants.add(value);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Integer> readClassReference(DataInputStream stream, byte type) throws IOException {
-		int value = stream.readUnsignedShort();
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Integer> readStringReference(
-			DataInputStream stream,
-			byte type,
-			List<Integer> stringIndices) throws IOException {
-		int value = stream.readUnsignedShort();
-		stringIndices.add(value);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<ReferenceIndex> readAnotherReference(DataInputStream stream, byte type)
-			throws IOException {
-		ReferenceIndex value = readReferenceIndex(stream);
-		return new RealClassConstant<>(type, value);
-	}
-
-	private RealClassConstant<Void> readMethodHandle(DataInputStream stream, byte type) throws IOException {
-		stream.readByte();
-		stream.readUnsignedShort();
-		// return a dummy
-		return new RealClassConstant<Void>(type, null);
-	}
-
-	private RealClassConstant<Void> readMethodType(DataInputStream stream, byte type) throws IOException {
-		stream.readUnsignedShort();
-		// return a dummy
-		return new RealClassConstant<Void>(type, null);
-	}
-
-	private RealClassConstant<Void> readInvokeDynamic(DataInputStream stream, byte type) throws IOException {
-		stream.readUnsignedShort();
-		stream.readUnsignedShort();
-		// return a dummy
-		return new RealClassConstant<Void>(type, null);
-	}
-
-	private int readAccessFlags(DataInputStream stream) throws IOException {
-		return stream.readUnsignedShort();
-	}
-
-	private void skipThisClass(DataInputStream stream) throws IOException {
-		stream.skip(2);
-	}
-
-	private String readSuperClass(DataInputStream stream, RealClassConstant<?>[] constants) throws IOException {
-		int superClassEntry = stream.readUnsignedShort();
-		int superClassName = (Integer) constants[superClassEntry-1].getValue();
-		return (String) constants[superClassName-1].getValue();
-	}
-
-	private void skipInterfaces(DataInputStream stream) throws IOException {
-		stream.skip(2 * stream.readUnsignedShort());
-	}
-
-	private RealClassField[] readFields(DataInputStream stream) throws IOException {
-		RealClassField[] fields = new RealClassField[stream.readUnsignedShort()];
-		for (int i = 0; i < fields.length; i++) {
-			fields[i] = new RealClassField(stream.readUnsignedShort());
-			stream.skip(4);
-			skipAttributes(stream);
+			throw new RealClassCreationException(
+					"unable to create real class for the class: " + realClassName,
+					new IllegalArgumentException("unknown constant type: " + type));
 		}
-		return fields;
 	}
 
-	private int readNumberOfMethodsAndConstructors(DataInputStream stream) throws IOException {
-		return stream.readUnsignedShort();
-	}
-
-	private int readMethodsAndConstructors(
-			DataInputStream stream,
-			int numberOfMethodsAndConstructors,
-			RealClassConstant<?>[] constants,
-			List<ReferenceIndex> methodIndices) throws IOException {
-		int numberOfConstructors = 0;
-		for (int i = 0; i < numberOfMethodsAndConstructors; i++) {
-			stream.skip(2);
-			ReferenceIndex referenceIndex = readReferenceIndex(stream);
-			methodIndices.add(referenceIndex);
-			String constant = (String) constants[referenceIndex.getValue1() - 1].getValue();
-			if (constant.contains("<init>")) {
-				numberOfConstructors++;
-			}
-			skipAttributes(stream);
-		}
-		return numberOfConstructors;
-	}
-
-	private ReferenceIndex readReferenceIndex(DataInputStream stream) throws IOException {
-		int value1 = stream.readUnsignedShort();
-		int value2 = stream.readUnsignedShort();
-		return new ReferenceIndex(value1, value2);
-	}
-
-	private void skipAttributes(DataInputStream stream) throws IOException {
-		int attributeInfoCount = stream.readUnsignedShort();
+	/**
+	 * Returns the position after the attributes.
+	 */
+	private int skipAttributes(byte[] classData, int position) {
+		int attributeInfoCount = readUnsignedShort(classData, position);
+		position += 2;
 		for (int q = 0; q < attributeInfoCount; q++) {
-			stream.skip(2);
-			int attributeCount = stream.readInt();
-			for (int z = 0; z < attributeCount; z++) {
-				stream.skip(1);
-			}
+			position += 6 + readInt(classData, position + 2);
 		}
+		return position;
 	}
 }
@@ -3,7 +3,9 @@ package amidst.clazz.real;
 import amidst.documentation.Immutable;
 
 @Immutable
-public class RealClassConstant<T> {
+public enum RealClassConstant {
+	;
+
 	@Immutable
 	public static enum RealClassConstantType {
 		;
@@ -27,20 +29,4 @@ public class RealClassConstant<T> {
 			return type == LONG || type == DOUBLE;
 		}
 	}
-
-	private final byte type;
-	private final T value;
-
-	public RealClassConstant(byte type, T value) {
-		this.type = type;
-		this.value = value;
-	}
-
-	public int getType() {
-		return type;
-	}
-
-	public T getValue() {
-		return value;
-	}
 }
@@ -15,6 +15,10 @@ public class RealClassDetector {
 		this.predicate = predicate;
 	}
 
+	public boolean matches(RealClass realClass) {
+		return predicate.test(realClass);
+	}
+
 	public Optional<RealClass> firstMatching(List<RealClass> realClasses) {
 		return realClasses.stream().filter(predicate).findFirst();
 	}
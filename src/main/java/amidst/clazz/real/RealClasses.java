@@ -1,78 +1,171 @@
 package amidst.clazz.real;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import amidst.documentation.Immutable;
 
+/**
+ * The class files are read from the central directory of the jar file and are
+ * parsed in parallel. The order of the result is always the order of the jar
+ * file entries, so the same class is detected on every run.
+ */
 @Immutable
 public enum RealClasses {
 	;
 
 	private static final int MAXIMUM_CLASS_BYTES = 24 * 1024;
+	private static final int ENTRIES_PER_BATCH = 512;
 	private static final RealClassBuilder REAL_CLASS_BUILDER = new RealClassBuilder();
 
 	public static List<RealClass> fromJarFile(File jarFile) throws FileNotFoundException, JarFileParsingException {
-		return readRealClassesFromJarFile(jarFile);
+		try (ZipFile zipFile = openJarFile(jarFile)) {
+			return readRealClasses(zipFile, getClassEntries(zipFile))
+					.stream()
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new JarFileParsingException("Error extracting jar data.", e);
+		}
 	}
 
-	private static List<RealClass> readRealClassesFromJarFile(File jarFile)
-			throws JarFileParsingException,
-			FileNotFoundException {
+	/**
+	 * Returns the first matching class of each detector, like
+	 * {@link RealClassDetector#firstMatching(List)} for the result of
+	 * {@link #fromJarFile(File)}. The jar file is parsed in batches and each
+	 * batch is passed to the detectors right away, so the remaining batches are
+	 * not parsed once each detector found a class. Detectors without a matching
+	 * class are not contained in the result.
+	 */
+	public static Map<RealClassDetector, RealClass> findFirstMatching(
+			File jarFile,
+			Collection<RealClassDetector> detectors) throws FileNotFoundException, JarFileParsingException {
+		try (ZipFile zipFile = openJarFile(jarFile)) {
+			List<ZipEntry> entries = getClassEntries(zipFile);
+			List<RealClassDetector> remaining = new ArrayList<>(detectors);
+			Map<RealClassDetector, RealClass> result = new HashMap<>();
+			for (int start = 0; start < entries.size() && !remaining.isEmpty(); start += ENTRIES_PER_BATCH) {
+				List<ZipEntry> batch = entries.subList(start, Math.min(start + ENTRIES_PER_BATCH, entries.size()));
+				List<RealClassDetector> detectorsOfBatch = new ArrayList<>(remaining);
+				List<RealClass> realClasses = readRealClasses(zipFile, batch);
+				List<boolean[]> matches = realClasses
+						.parallelStream()
+						.map(realClass -> getMatches(realClass, detectorsOfBatch))
+						.collect(Collectors.toList());
+				for (int i = 0; i < detectorsOfBatch.size(); i++) {
+					for (int j = 0; j < realClasses.size(); j++) {
+						if (matches.get(j)[i]) {
+							result.put(detectorsOfBatch.get(i), realClasses.get(j));
+							remaining.remove(detectorsOfBatch.get(i));
+							break;
+						}
+					}
+				}
+			}
+			return result;
+		} catch (IOException e) {
+			throw new JarFileParsingException("Error extracting jar data.", e);
+		}
+	}
+
+	private static ZipFile openJarFile(File jarFile) throws FileNotFoundException, IOException {
 		if (!jarFile.exists()) {
 			throw new FileNotFoundException("Attempted to load jar file at: " + jarFile + " but it does not exist.");
 		}
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			return readJarFile(zipFile);
-		} catch (IOException e) {
-			throw new JarFileParsingException("Error extracting jar data.", e);
-		} catch (RealClassCreationException e) {
-			throw new JarFileParsingException("Error extracting jar data.", e);
+		return new ZipFile(jarFile);
+	}
+
+	/**
+	 * Classes that are too large for the detectors are skipped, without reading
+	 * them, if the central directory contains their size.
+	 */
+	private static List<ZipEntry> getClassEntries(ZipFile zipFile) {
+		return zipFile
+				.stream()
+				.filter(entry -> !entry.isDirectory())
+				.filter(entry -> getFileNameWithoutExtension(entry.getName(), "class") != null)
+				.filter(entry -> entry.getSize() < MAXIMUM_CLASS_BYTES)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * The result contains null for each entry that was too large.
+	 */
+	private static List<RealClass> readRealClasses(ZipFile zipFile, List<ZipEntry> entries)
+			throws IOException,
+			JarFileParsingException {
+		try {
+			return entries
+					.parallelStream()
+					.map(entry -> readRealClassUnchecked(zipFile, entry))
+					.collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} catch (UncheckedRealClassCreationException e) {
+			throw new JarFileParsingException("Error extracting jar data.", e.getCause());
 		}
 	}
 
-	private static List<RealClass> readJarFile(ZipFile zipFile) throws IOException, RealClassCreationException {
-		Enumeration<? extends ZipEntry> enu = zipFile.entries();
-		List<RealClass> result = new ArrayList<>();
-		while (enu.hasMoreElements()) {
-			RealClass entry = readJarFileEntry(zipFile, enu.nextElement());
-			if (entry != null) {
-				result.add(entry);
+	private static boolean[] getMatches(RealClass realClass, List<RealClassDetector> detectors) {
+		boolean[] result = new boolean[detectors.size()];
+		if (realClass != null) {
+			for (int i = 0; i < result.length; i++) {
+				result[i] = detectors.get(i).matches(realClass);
 			}
 		}
 		return result;
 	}
 
-	private static RealClass readJarFileEntry(ZipFile zipFile, ZipEntry entry)
+	private static RealClass readRealClassUnchecked(ZipFile zipFile, ZipEntry entry) {
+		try {
+			return readRealClass(zipFile, entry);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (RealClassCreationException e) {
+			throw new UncheckedRealClassCreationException(e);
+		}
+	}
+
+	private static RealClass readRealClass(ZipFile zipFile, ZipEntry entry)
 			throws IOException,
 			RealClassCreationException {
 		String realClassName = getFileNameWithoutExtension(entry.getName(), "class");
-		if (!entry.isDirectory() && realClassName != null) {
-			return readRealClass(realClassName, new BufferedInputStream(zipFile.getInputStream(entry)));
+		byte[] classData = readEntry(zipFile, entry);
+		if (classData.length < MAXIMUM_CLASS_BYTES) {
+			return REAL_CLASS_BUILDER.construct(realClassName, classData);
 		} else {
 			return null;
 		}
 	}
 
-	private static RealClass readRealClass(String realClassName, BufferedInputStream stream)
-			throws IOException,
-			RealClassCreationException {
-		try (BufferedInputStream theStream = stream) {
-			// TODO: Double check that this filter won't mess anything up.
-			if (theStream.available() < MAXIMUM_CLASS_BYTES) {
-				byte[] classData = new byte[theStream.available()];
-				theStream.read(classData);
-				return REAL_CLASS_BUILDER.construct(realClassName, classData);
+	/**
+	 * Reads at most {@value #MAXIMUM_CLASS_BYTES} bytes, because larger
+	 * classes are skipped anyway.
+	 */
+	private static byte[] readEntry(ZipFile zipFile, ZipEntry entry) throws IOException {
+		long size = entry.getSize();
+		byte[] result = new byte[size >= 0 ? (int) size : MAXIMUM_CLASS_BYTES];
+		int length = 0;
+		try (InputStream stream = zipFile.getInputStream(entry)) {
+			int read;
+			while (length < result.length && (read = stream.read(result, length, result.length - length)) != -1) {
+				length += read;
 			}
 		}
-		return null;
+		return length == result.length ? result : Arrays.copyOf(result, length);
 	}
 
 	private static String getFileNameWithoutExtension(String fileName, String extension) {
@@ -83,4 +176,16 @@ public enum RealClasses {
 			return null;
 		}
 	}
+
+	@SuppressWarnings("serial")
+	private static class UncheckedRealClassCreationException extends RuntimeException {
+		public UncheckedRealClassCreationException(RealClassCreationException cause) {
+			super(cause);
+		}
+
+		@Override
+		public RealClassCreationException getCause() {
+			return (RealClassCreationException) super.getCause();
+		}
+	}
 }
@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -34,6 +35,12 @@ public class SymbolicClassBuilder {
 
 	private static final Map<String, Class<?>> PRIMITIVES_MAP = createPrimitivesMap();
 
+	/**
+	 * The members are made accessible before they are unreflected, so this
+	 * lookup can create method handles for all of them.
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
 	private final Map<String, SymbolicConstructor> constructorsBySymbolicName = new HashMap<>();
 	private final Map<String, SymbolicMethod> methodsBySymbolicName = new HashMap<>();
 	private final Map<String, SymbolicField> fieldsBySymbolicName = new HashMap<>();
@@ -73,7 +80,7 @@ public class SymbolicClassBuilder {
 	public void addConstructor(SymbolicConstructorDeclaration declaration) throws SymbolicClassGraphCreationException {
 		try {
 			constructorsBySymbolicName.put(declaration.getSymbolicName(), createConstructor(declaration));
-		} catch (NoSuchMethodException | ClassNotFoundException e) {
+		} catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
 			declaration.handleMissing(e, product.getSymbolicName(), product.getRealName());
 		}
 	}
@@ -81,7 +88,7 @@ public class SymbolicClassBuilder {
 	public void addMethod(SymbolicMethodDeclaration declaration) throws SymbolicClassGraphCreationException {
 		try {
 			methodsBySymbolicName.put(declaration.getSymbolicName(), createMethod(declaration));
-		} catch (NoSuchMethodException | ClassNotFoundException e) {
+		} catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
 			declaration.handleMissing(e, product.getSymbolicName(), product.getRealName());
 		}
 	}
@@ -89,37 +96,41 @@ public class SymbolicClassBuilder {
 	public void addField(SymbolicFieldDeclaration declaration) throws SymbolicClassGraphCreationException {
 		try {
 			fieldsBySymbolicName.put(declaration.getSymbolicName(), createField(declaration));
-		} catch (NoSuchFieldException e) {
+		} catch (NoSuchFieldException | IllegalAccessException e) {
 			declaration.handleMissing(e, product.getSymbolicName(), product.getRealName());
 		}
 	}
 
 	private SymbolicConstructor createConstructor(SymbolicConstructorDeclaration declaration)
 			throws ClassNotFoundException,
-			NoSuchMethodException {
+			NoSuchMethodException,
+			IllegalAccessException {
 		String symbolicName = declaration.getSymbolicName();
 		Class<?>[] parameterClasses = getParameterClasses(declaration.getParameters().getDeclarations());
 		Constructor<?> constructor = getConstructor(product.getClazz(), parameterClasses);
-		return new SymbolicConstructor(product, symbolicName, constructor);
+		return new SymbolicConstructor(product, symbolicName, constructor, LOOKUP.unreflectConstructor(constructor));
 	}
 
 	private SymbolicMethod createMethod(SymbolicMethodDeclaration declaration)
 			throws ClassNotFoundException,
-			NoSuchMethodException {
+			NoSuchMethodException,
+			IllegalAccessException {
 		String symbolicName = declaration.getSymbolicName();
 		String realName = declaration.getRealName();
 		Class<?>[] parameterClasses = getParameterClasses(declaration.getParameters().getDeclarations());
 		Method method = getMethod(product.getClazz(), realName, parameterClasses);
 		SymbolicClass returnType = getTypeOrSupertype(method.getReturnType());
-		return new SymbolicMethod(product, symbolicName, realName, method, returnType);
+		return new SymbolicMethod(product, symbolicName, realName, method, LOOKUP.unreflect(method), returnType);
 	}
 
-	private SymbolicField createField(SymbolicFieldDeclaration declaration) throws NoSuchFieldException {
+	private SymbolicField createField(SymbolicFieldDeclaration declaration)
+			throws NoSuchFieldException,
+			IllegalAccessException {
 		String symbolicName = declaration.getSymbolicName();
 		String realName = declaration.getRealName();
 		Field field = getField(product.getClazz(), realName);
 		SymbolicClass type = getTypeOrSupertype(field.getType());
-		return new SymbolicField(product, symbolicName, realName, field, type);
+		return new SymbolicField(product, symbolicName, realName, field, LOOKUP.unreflectGetter(field), type);
 	}
 
 	private Constructor<?> getConstructor(Class<?> clazz, Class<?>[] parameterClasses) throws NoSuchMethodException {
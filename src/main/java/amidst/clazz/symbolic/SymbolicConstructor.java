@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
@@ -10,11 +11,17 @@ public class SymbolicConstructor {
 	private final SymbolicClass parent;
 	private final String symbolicName;
 	private final Constructor<?> constructor;
+	private final MethodHandle constructorHandle;
 
-	public SymbolicConstructor(SymbolicClass parent, String symbolicName, Constructor<?> constructor) {
+	public SymbolicConstructor(
+			SymbolicClass parent,
+			String symbolicName,
+			Constructor<?> constructor,
+			MethodHandle constructorHandle) {
 		this.parent = parent;
 		this.symbolicName = symbolicName;
 		this.constructor = constructor;
+		this.constructorHandle = constructorHandle;
 	}
 
 	public SymbolicObject call(Object... parameters)
@@ -29,6 +36,14 @@ public class SymbolicConstructor {
 		return constructor;
 	}
 
+	/**
+	 * The constructor handle has the exact type of the real constructor and
+	 * returns the new instance.
+	 */
+	public MethodHandle getConstructorHandle() {
+		return constructorHandle;
+	}
+
 	private Object newInstance(Object... parameters)
 			throws InstantiationException,
 			IllegalAccessException,
@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 import amidst.documentation.Immutable;
@@ -10,13 +11,21 @@ public class SymbolicField {
 	private final String symbolicName;
 	private final String realName;
 	private final Field field;
+	private final MethodHandle getterHandle;
 	private final SymbolicClass type;
 
-	public SymbolicField(SymbolicClass parent, String symbolicName, String realName, Field field, SymbolicClass type) {
+	public SymbolicField(
+			SymbolicClass parent,
+			String symbolicName,
+			String realName,
+			Field field,
+			MethodHandle getterHandle,
+			SymbolicClass type) {
 		this.parent = parent;
 		this.symbolicName = symbolicName;
 		this.realName = realName;
 		this.field = field;
+		this.getterHandle = getterHandle;
 		this.type = type;
 	}
 
@@ -24,6 +33,14 @@ public class SymbolicField {
 		return field;
 	}
 
+	/**
+	 * The getter handle has the exact type of the real field. For instance
+	 * fields, the only parameter is the instance.
+	 */
+	public MethodHandle getGetterHandle() {
+		return getterHandle;
+	}
+
 	public Object getValue(SymbolicObject symbolicObject) throws IllegalArgumentException, IllegalAccessException {
 		return getValueFromObject(symbolicObject.getObject());
 	}
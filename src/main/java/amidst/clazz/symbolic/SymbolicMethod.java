@@ -1,5 +1,6 @@
 package amidst.clazz.symbolic;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -11,6 +12,7 @@ public class SymbolicMethod {
 	private final String symbolicName;
 	private final String realName;
 	private final Method method;
+	private final MethodHandle methodHandle;
 	private final SymbolicClass returnType;
 
 	public SymbolicMethod(
@@ -18,11 +20,13 @@ public class SymbolicMethod {
 			String symbolicName,
 			String realName,
 			Method method,
+			MethodHandle methodHandle,
 			SymbolicClass returnType) {
 		this.parent = parent;
 		this.symbolicName = symbolicName;
 		this.realName = realName;
 		this.method = method;
+		this.methodHandle = methodHandle;
 		this.returnType = returnType;
 	}
 
@@ -38,6 +42,16 @@ public class SymbolicMethod {
 		return method;
 	}
 
+	/**
+	 * The method handle has the exact type of the real method. For instance
+	 * methods, the first parameter is the instance. Callers that call the
+	 * method very often should adapt it once and use invokeExact, which avoids
+	 * the boxing and the parameter array of {@link #call}.
+	 */
+	public MethodHandle getMethodHandle() {
+		return methodHandle;
+	}
+
 	public boolean hasModifiers(int modifiers) {
 	    return (method.getModifiers() & modifiers) != 0;
 	}
@@ -1,13 +1,19 @@
 package amidst.clazz.translator;
 
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
+import amidst.clazz.real.JarFileParsingException;
 import amidst.clazz.real.RealClass;
 import amidst.clazz.real.RealClassDetector;
+import amidst.clazz.real.RealClasses;
 import amidst.clazz.symbolic.declaration.SymbolicClassDeclaration;
 import amidst.documentation.Immutable;
 
@@ -23,6 +29,10 @@ public class ClassTranslator {
 		this.translations = translations;
 	}
 
+	public Collection<SymbolicClassDeclaration> getDeclarations() {
+		return new LinkedHashSet<>(translations.values());
+	}
+
 	public Map<SymbolicClassDeclaration, List<RealClass>> translateToAllMatching(List<RealClass> realClasses) {
 		Map<SymbolicClassDeclaration, List<RealClass>> result = new HashMap<>();
 		for (Entry<RealClassDetector, SymbolicClassDeclaration> entry : translations.entrySet()) {
@@ -48,6 +58,25 @@ public class ClassTranslator {
 		return result;
 	}
 
+	/**
+	 * Gives the same result as {@link #translate(List)} for all classes of the
+	 * jar file, but only parses the jar file until all classes are found.
+	 */
+	public Map<SymbolicClassDeclaration, String> translate(File jarFile)
+			throws FileNotFoundException,
+			JarFileParsingException,
+			ClassNotFoundException {
+		Map<RealClassDetector, RealClass> firstMatching = RealClasses.findFirstMatching(jarFile, translations.keySet());
+		Map<SymbolicClassDeclaration, String> result = new HashMap<>();
+		for (Entry<RealClassDetector, SymbolicClassDeclaration> entry : translations.entrySet()) {
+			addResult(
+					result,
+					entry.getValue(),
+					Optional.ofNullable(firstMatching.get(entry.getKey())).map(RealClass::getRealClassName));
+		}
+		return result;
+	}
+
 	private void addResult(
 			Map<SymbolicClassDeclaration, String> result,
 			SymbolicClassDeclaration declaration,
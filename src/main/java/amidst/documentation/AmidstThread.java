@@ -32,7 +32,9 @@ public enum AmidstThread {
 	 * This thread constantly loads, reloads and recycles fragments, because it
 	 * takes to long to do this in the EDT. Since this thread and the EDT
 	 * constantly read from and write to the fragments and fragment graph, extra
-	 * care must be used in this part of the application.
+	 * care must be used in this part of the application. The actual loading is
+	 * distributed to a fixed pool of threads, which are also considered to be
+	 * fragment loader threads.
 	 */
 	FRAGMENT_LOADER,
 
@@ -73,6 +73,12 @@ import amidst.mojangapi.world.oracle.EndIsland;
  * enqueued in the recycle queue. Therefore, there cannot be a race condition
  * because the isInitialized variable will only be set to false when it is
  * recycled.
+ * 
+ * Multiple fragments can be loaded at the same time by the threads of the
+ * fragment loader pool. However, a fragment is never loaded by two threads at
+ * the same time and it is only recycled while it is not being loaded. So with
+ * regard to the rules above, the pool behaves like one single fragment loading
+ * thread.
  */
 @NotThreadSafe
 public class Fragment {
@@ -80,10 +86,13 @@ public class Fragment {
 
 	private volatile boolean isInitialized = false;
 	private volatile boolean isLoaded = false;
+	private volatile int generation = 0;
 	private volatile CoordinatesInWorld corner;
 
 	private volatile float alpha;
-	private volatile short[][] biomeData;
+	private volatile byte[] biomeData;
+	private volatile int biomeDataWidth;
+	private volatile int biomeDataStride = 0;
 	private volatile List<EndIsland> endIslands;
 	private final AtomicReferenceArray<BufferedImage> images;
 	private final AtomicReferenceArray<List<WorldIcon>> worldIcons;
@@ -101,17 +110,84 @@ public class Fragment {
 		return alpha;
 	}
 
+	/**
+	 * The biome data is stored row by row with one byte per biome.
+	 */
 	public void initBiomeData(int width, int height) {
-		biomeData = new short[width][height];
+		biomeData = new byte[width * height];
+		biomeDataWidth = width;
 	}
 
+	/**
+	 * @param stride Only every stride-th biome is sampled, see
+	 *            {@link BiomeDataOracle#populateArraySampled}. Small strides
+	 *            populate all biomes, so the fragment remembers the stride
+	 *            that was actually used.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void populateBiomeData(BiomeDataOracle biomeDataOracle) {
-		biomeDataOracle.populateArray(corner, biomeData, true);
+	public void populateBiomeData(BiomeDataOracle biomeDataOracle, int stride) {
+		int width = biomeDataWidth;
+		biomeDataStride = 0;
+		biomeDataStride = biomeDataOracle
+				.populateArraySampled(corner, biomeData, width, biomeData.length / width, stride, true);
+	}
+
+	/**
+	 * Copies the biome indices of the given area of the fragment row by row to
+	 * the result. This only succeeds, if all biomes were populated and the
+	 * fragment was not recycled since it had the given generation. Both is
+	 * checked again after the biome indices are copied, because the fragment
+	 * can be recycled in the meantime. Returns false otherwise, in which case
+	 * the content of the result is undefined.
+	 */
+	@CalledByAny
+	public boolean copyBiomeDataTo(
+			int generation,
+			int x,
+			int y,
+			int width,
+			int height,
+			int[] result,
+			int offset,
+			int stride) {
+		if (!hasAllBiomeData(generation)) {
+			return false;
+		}
+		byte[] biomeData = this.biomeData;
+		int biomeDataWidth = this.biomeDataWidth;
+		for (int j = 0; j < height; j++) {
+			int resultIndex = offset + j * stride;
+			int biomeDataIndex = x + (y + j) * biomeDataWidth;
+			for (int i = 0; i < width; i++) {
+				result[resultIndex++] = biomeData[biomeDataIndex++] & 0xFF;
+			}
+		}
+		return hasAllBiomeData(generation);
+	}
+
+	@CalledByAny
+	private boolean hasAllBiomeData(int generation) {
+		return biomeDataStride == 1 && this.generation == generation;
+	}
+
+	/**
+	 * Copies the biome indices row by row to the given array.
+	 */
+	public void copyBiomeDataTo(byte[] result) {
+		byte[] biomeData = this.biomeData;
+		System.arraycopy(biomeData, 0, result, 0, biomeData.length);
+	}
+
+	/**
+	 * Returns the stride that was used to populate the biome data or 0, if
+	 * the biome data was not populated since the fragment was recycled.
+	 */
+	public int getBiomeDataStride() {
+		return biomeDataStride;
 	}
 
 	public short getBiomeDataAt(int x, int y) {
-		return biomeData[x][y];
+		return (short) (biomeData[x + y * biomeDataWidth] & 0xFF);
 	}
 
 	public void setEndIslands(List<EndIsland> endIslands) {
@@ -126,6 +202,10 @@ public class Fragment {
 		return images.getAndSet(layerId, image);
 	}
 
+	public boolean compareAndSetImage(int layerId, BufferedImage expected, BufferedImage image) {
+		return images.compareAndSet(layerId, expected, image);
+	}
+
 	public void putImage(int layerId, BufferedImage image) {
 		images.set(layerId, image);
 	}
@@ -158,10 +238,24 @@ public class Fragment {
 		this.isLoaded = true;
 	}
 
+	/**
+	 * This also increments the generation of the fragment. This invalidates
+	 * all entries of this fragment that are still enqueued in the loading
+	 * queue.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void recycle() {
 		this.isLoaded = false;
 		this.isInitialized = false;
+		this.biomeDataStride = 0;
+		this.generation++;
+	}
+
+	/**
+	 * The generation is incremented each time the fragment is recycled.
+	 */
+	public int getGeneration() {
+		return generation;
 	}
 
 	public boolean isInitialized() {
@@ -0,0 +1,106 @@
+package amidst.fragment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.LoadedBiomeDataView;
+
+/**
+ * Reads the quarter resolution biome data of the loaded fragments of one
+ * world. The biome data is not copied, instead each entry remembers the
+ * generation of its fragment. An entry is removed when its fragment is
+ * recycled. Until then, reading it fails as soon as the fragment is recycled,
+ * so the biome data of a fragment that is reused for another area is never
+ * returned.
+ */
+@ThreadSafe
+public class FragmentBiomeDataView implements LoadedBiomeDataView {
+	@Immutable
+	private static class Entry {
+		private final Fragment fragment;
+		private final int generation;
+
+		public Entry(Fragment fragment, int generation) {
+			this.fragment = fragment;
+			this.generation = generation;
+		}
+	}
+
+	private static final Resolution RESOLUTION = Resolution.QUARTER;
+	private static final int FRAGMENT_SIZE = RESOLUTION.getStepsPerFragment();
+	private static final int FRAGMENT_SHIFT = Integer.numberOfTrailingZeros(FRAGMENT_SIZE);
+
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Makes the biome data of the fragment available, if all its biomes are
+	 * populated.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void put(Fragment fragment) {
+		if (fragment.getBiomeDataStride() == 1) {
+			entries.put(getKey(fragment), new Entry(fragment, fragment.getGeneration()));
+		}
+	}
+
+	/**
+	 * Must be called before the fragment is recycled.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void remove(Fragment fragment) {
+		entries.computeIfPresent(getKey(fragment), (key, entry) -> entry.fragment == fragment ? null : entry);
+	}
+
+	@CalledByAny
+	@Override
+	public boolean copyTo(int left, int top, int width, int height, int[] result) {
+		int right = left + width;
+		int bottom = top + height;
+		for (int fragmentY = top >> FRAGMENT_SHIFT; fragmentY <= bottom - 1 >> FRAGMENT_SHIFT; fragmentY++) {
+			for (int fragmentX = left >> FRAGMENT_SHIFT; fragmentX <= right - 1 >> FRAGMENT_SHIFT; fragmentX++) {
+				Entry entry = entries.get(getKey(fragmentX, fragmentY));
+				if (entry == null) {
+					return false;
+				}
+				int fragmentLeft = fragmentX << FRAGMENT_SHIFT;
+				int fragmentTop = fragmentY << FRAGMENT_SHIFT;
+				int fromX = Math.max(left, fragmentLeft);
+				int toX = Math.min(right, fragmentLeft + FRAGMENT_SIZE);
+				int fromY = Math.max(top, fragmentTop);
+				int toY = Math.min(bottom, fragmentTop + FRAGMENT_SIZE);
+				if (!entry.fragment.copyBiomeDataTo(
+						entry.generation,
+						fromX - fragmentLeft,
+						fromY - fragmentTop,
+						toX - fromX,
+						toY - fromY,
+						result,
+						fromX - left + (fromY - top) * width,
+						width)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@CalledByAny
+	private long getKey(Fragment fragment) {
+		CoordinatesInWorld corner = fragment.getCorner();
+		return getKey(
+				(int) corner.getXAs(RESOLUTION) >> FRAGMENT_SHIFT,
+				(int) corner.getYAs(RESOLUTION) >> FRAGMENT_SHIFT);
+	}
+
+	@CalledByAny
+	private long getKey(int fragmentX, int fragmentY) {
+		return (long) fragmentX << 32 | fragmentY & 0xFFFFFFFFL;
+	}
+}
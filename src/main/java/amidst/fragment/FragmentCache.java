@@ -1,7 +1,7 @@
 package amidst.fragment;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import amidst.documentation.AmidstThread;
@@ -9,29 +9,56 @@ import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.ThreadSafe;
 import amidst.fragment.constructor.FragmentConstructor;
 import amidst.logging.AmidstLogger;
+import amidst.threading.WakeUpSignal;
+import amidst.util.LowMemoryDetector;
 
+/**
+ * The cache grows as needed, but it only keeps up to maxSize fragments when
+ * they are not used. When the cache is larger than maxSize for some time and
+ * some of its fragments are available, these are released the next time the
+ * fragment loader wakes up. When the heap is almost full after a garbage
+ * collection, the fragment loader is woken up to release all available
+ * fragments.
+ */
 @ThreadSafe
 public class FragmentCache {
+	public static final int DEFAULT_MAX_SIZE = 2048;
+
 	private static final int NEW_FRAGMENTS_PER_REQUEST = 1024;
+	private static final long TRIM_CHECK_INTERVAL_IN_MILLISECONDS = 1000;
+	private static final long TRIM_DELAY_IN_MILLISECONDS = 10000;
+	private static final double LOW_MEMORY_USAGE_THRESHOLD = 0.85;
 
-	private final List<Fragment> cache = new LinkedList<>();
+	private final Set<Fragment> cache = new LinkedHashSet<>();
 	private volatile int cacheSize = 0;
 
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final Iterable<FragmentConstructor> constructors;
 	private final int numberOfLayers;
+	private final int maxSize;
+	private final LowMemoryDetector lowMemoryDetector;
+
+	private long lastTrimCheck = 0;
+	private long tooLargeSince = -1;
 
+	/**
+	 * @param maxSize Values lower than 1 use the {@link #DEFAULT_MAX_SIZE}.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public FragmentCache(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			Iterable<FragmentConstructor> constructors,
-			int numberOfLayers) {
+			int numberOfLayers,
+			int maxSize,
+			WakeUpSignal fragmentLoaderWakeUpSignal) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.constructors = constructors;
 		this.numberOfLayers = numberOfLayers;
+		this.maxSize = maxSize < 1 ? DEFAULT_MAX_SIZE : maxSize;
+		this.lowMemoryDetector = LowMemoryDetector.create(LOW_MEMORY_USAGE_THRESHOLD, fragmentLoaderWakeUpSignal::signal);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -65,7 +92,56 @@ public class FragmentCache {
 	public synchronized void reloadAll() {
 		loadingQueue.clear();
 		for (Fragment fragment : cache) {
-			loadingQueue.offer(fragment);
+			if (fragment.isInitialized()) {
+				loadingQueue.offer(fragment);
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void trimIfNecessary() {
+		if (lowMemoryDetector.pollIsMemoryLow()) {
+			AmidstLogger.warn("the memory is low, releasing all unused fragments");
+			tooLargeSince = -1;
+			release(Integer.MAX_VALUE);
+		} else {
+			long now = System.currentTimeMillis();
+			if (now - lastTrimCheck >= TRIM_CHECK_INTERVAL_IN_MILLISECONDS) {
+				lastTrimCheck = now;
+				trimToMaxSizeIfNecessary(now);
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void trimToMaxSizeIfNecessary(long now) {
+		if (cacheSize > maxSize && !availableQueue.isEmpty()) {
+			if (tooLargeSince == -1) {
+				tooLargeSince = now;
+			} else if (now - tooLargeSince >= TRIM_DELAY_IN_MILLISECONDS) {
+				tooLargeSince = -1;
+				release(cacheSize - maxSize);
+			}
+		} else {
+			tooLargeSince = -1;
+		}
+	}
+
+	/**
+	 * Fragments in the available queue are not used by the fragment graph and
+	 * all their entries in the loading queue are stale, so they can be removed
+	 * from the cache and garbage collected.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private synchronized void release(int maxNumberOfFragments) {
+		int previousSize = cache.size();
+		Fragment fragment;
+		for (int i = 0; i < maxNumberOfFragments && (fragment = availableQueue.poll()) != null; i++) {
+			cache.remove(fragment);
+		}
+		cacheSize = cache.size();
+		if (cacheSize != previousSize) {
+			AmidstLogger.info("fragment cache size decreased from " + previousSize + " to " + cacheSize);
 		}
 	}
 
@@ -1,6 +1,8 @@
 package amidst.fragment;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
@@ -51,6 +53,40 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 				.replaceWithValue(f -> f.adjustRowsAndColumns(newAbove, newBelow, newLeft, newRight, fragmentManager));
 	}
 
+	/**
+	 * Prefetches the fragments that will enter the graph when it is moved by
+	 * the given number of columns and rows. Prefetched fragments that are more
+	 * than the given radius of fragments away from the graph are recycled.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void prefetchAhead(int columns, int rows, int radius) {
+		CoordinatesInWorld corner = getCorner();
+		List<CoordinatesInWorld> corners = new ArrayList<>();
+		for (int row = rows; row < fragmentsPerColumn + rows; row++) {
+			for (int column = columns; column < fragmentsPerRow + columns; column++) {
+				if (!isInGraph(column, row)) {
+					corners.add(corner.add((long) column * Fragment.SIZE, (long) row * Fragment.SIZE));
+				}
+			}
+		}
+		fragmentManager.prefetch(
+				corners,
+				corner.add((long) -radius * Fragment.SIZE, (long) -radius * Fragment.SIZE),
+				corner.add(
+						(long) (fragmentsPerRow + radius) * Fragment.SIZE,
+						(long) (fragmentsPerColumn + radius) * Fragment.SIZE));
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void recyclePrefetchedFragments() {
+		fragmentManager.recyclePrefetchedFragments();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isInGraph(int column, int row) {
+		return column >= 0 && column < fragmentsPerRow && row >= 0 && row < fragmentsPerColumn;
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		recycleAll();
@@ -59,6 +95,7 @@ public class FragmentGraph implements Iterable<FragmentGraphItem> {
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void recycleAll() {
 		topLeftFragment.ifInitialized(f -> f.recycleAll(fragmentManager));
+		fragmentManager.recyclePrefetchedFragments();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -0,0 +1,186 @@
+package amidst.fragment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.Immutable;
+import amidst.documentation.NotThreadSafe;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+
+/**
+ * The queue of fragments that are waiting to be loaded. Fragments that are
+ * visible on the screen are loaded first, starting at the center of the
+ * viewport. Fragments that are not visible, e.g. because they are only part of
+ * the border of the fragment graph or because they were scrolled out of the
+ * viewport, are loaded afterwards. The priorities are updated lazily, when a
+ * fragment is polled after the viewport has changed.
+ * 
+ * Each entry remembers the generation of the fragment at the time it was
+ * enqueued. When a fragment is recycled, its generation is incremented, which
+ * makes all its entries stale without the need to search for them. Stale
+ * entries are skipped when they are polled or when the priorities are updated.
+ */
+@ThreadSafe
+public class FragmentLoadingQueue {
+	@Immutable
+	private static class Viewport {
+		private final long left;
+		private final long top;
+		private final long right;
+		private final long bottom;
+
+		public Viewport(long left, long top, long right, long bottom) {
+			this.left = left;
+			this.top = top;
+			this.right = right;
+			this.bottom = bottom;
+		}
+
+		public boolean isVisible(long fragmentX, long fragmentY) {
+			return fragmentX < right && fragmentX + Fragment.SIZE > left && fragmentY < bottom
+					&& fragmentY + Fragment.SIZE > top;
+		}
+
+		public double getDistanceSqToCenter(long fragmentX, long fragmentY) {
+			double dx = fragmentX + (Fragment.SIZE >> 1) - (left + right) / 2.0;
+			double dy = fragmentY + (Fragment.SIZE >> 1) - (top + bottom) / 2.0;
+			return dx * dx + dy * dy;
+		}
+
+		public boolean isSameAs(long left, long top, long right, long bottom) {
+			return this.left == left && this.top == top && this.right == right && this.bottom == bottom;
+		}
+	}
+
+	@NotThreadSafe
+	private static class Entry {
+		private final Fragment fragment;
+		private final int generation;
+		private final long fragmentX;
+		private final long fragmentY;
+		private boolean isVisible;
+		private double distanceSq;
+
+		public Entry(Fragment fragment, int generation, CoordinatesInWorld corner) {
+			this.fragment = fragment;
+			this.generation = generation;
+			this.fragmentX = corner.getX();
+			this.fragmentY = corner.getY();
+		}
+
+		public boolean isStale() {
+			return fragment.getGeneration() != generation;
+		}
+
+		public void prioritize(Viewport viewport) {
+			if (viewport == null) {
+				isVisible = true;
+				distanceSq = 0;
+			} else {
+				isVisible = viewport.isVisible(fragmentX, fragmentY);
+				distanceSq = viewport.getDistanceSqToCenter(fragmentX, fragmentY);
+			}
+		}
+	}
+
+	private static final Comparator<Entry> PRIORITY = (e1, e2) -> {
+		if (e1.isVisible != e2.isVisible) {
+			return e1.isVisible ? -1 : 1;
+		} else {
+			return Double.compare(e1.distanceSq, e2.distanceSq);
+		}
+	};
+
+	private PriorityQueue<Entry> queue = new PriorityQueue<>(PRIORITY);
+	private volatile Viewport viewport = null;
+	private Viewport prioritizedFor = null;
+	private long numberOfSkippedEntries = 0;
+
+	/**
+	 * Sets the area of the world that is currently visible on the screen.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setViewport(CoordinatesInWorld topLeft, CoordinatesInWorld bottomRight) {
+		long left = topLeft.getX();
+		long top = topLeft.getY();
+		long right = bottomRight.getX();
+		long bottom = bottomRight.getY();
+		Viewport current = viewport;
+		if (current == null || !current.isSameAs(left, top, right, bottom)) {
+			viewport = new Viewport(left, top, right, bottom);
+		}
+	}
+
+	@CalledByAny
+	public synchronized void offer(Fragment fragment) {
+		Entry entry = new Entry(fragment, fragment.getGeneration(), fragment.getCorner());
+		entry.prioritize(prioritizedFor);
+		queue.offer(entry);
+	}
+
+	/**
+	 * Returns the fragment with the highest priority or null, if the queue is
+	 * empty. Entries of fragments that were recycled in the meantime are
+	 * dropped.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public synchronized Fragment poll() {
+		prioritizeIfNecessary();
+		Entry entry;
+		while ((entry = queue.poll()) != null) {
+			if (entry.isStale()) {
+				numberOfSkippedEntries++;
+			} else {
+				return entry.fragment;
+			}
+		}
+		return null;
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void prioritizeIfNecessary() {
+		Viewport viewport = this.viewport;
+		if (prioritizedFor != viewport) {
+			prioritizedFor = viewport;
+			List<Entry> entries = new ArrayList<>(queue.size());
+			for (Entry entry : queue) {
+				if (entry.isStale()) {
+					numberOfSkippedEntries++;
+				} else {
+					entry.prioritize(viewport);
+					entries.add(entry);
+				}
+			}
+			queue = new PriorityQueue<>(PRIORITY);
+			queue.addAll(entries);
+		}
+	}
+
+	@CalledByAny
+	public synchronized void clear() {
+		queue.clear();
+	}
+
+	/**
+	 * This includes stale entries that were not yet skipped.
+	 */
+	@CalledByAny
+	public synchronized int size() {
+		return queue.size();
+	}
+
+	/**
+	 * The total number of stale entries that were dropped without loading the
+	 * fragment.
+	 */
+	@CalledByAny
+	public synchronized long getNumberOfSkippedEntries() {
+		return numberOfSkippedEntries;
+	}
+}
@@ -1,6 +1,10 @@
 package amidst.fragment;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
@@ -10,21 +14,48 @@ import amidst.fragment.layer.LayerManager;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.settings.Setting;
+import amidst.threading.WakeUpSignal;
 
 @NotThreadSafe
 public class FragmentManager {
 	private final ConcurrentLinkedQueue<Fragment> availableQueue = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue = new ConcurrentLinkedQueue<>();
+	private final FragmentLoadingQueue loadingQueue = new FragmentLoadingQueue();
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue = new ConcurrentLinkedQueue<>();
 	private final FragmentCache cache;
+	private final WakeUpSignal fragmentLoaderWakeUpSignal;
+	private final Map<CoordinatesInWorld, Fragment> prefetchedFragments = new HashMap<>();
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentManager(Iterable<FragmentConstructor> constructors, int numberOfLayers) {
-		this.cache = new FragmentCache(availableQueue, loadingQueue, constructors, numberOfLayers);
+	public FragmentManager(
+			Iterable<FragmentConstructor> constructors,
+			int numberOfLayers,
+			int maxCacheSize,
+			WakeUpSignal fragmentLoaderWakeUpSignal) {
+		this.cache = new FragmentCache(
+				availableQueue,
+				loadingQueue,
+				constructors,
+				numberOfLayers,
+				maxCacheSize,
+				fragmentLoaderWakeUpSignal);
+		this.fragmentLoaderWakeUpSignal = fragmentLoaderWakeUpSignal;
 	}
 
+	/**
+	 * Returns the prefetched fragment, if there is one for the given
+	 * coordinates. Otherwise, a new fragment is enqueued to be loaded.
+	 */
 	@CalledOnlyBy(AmidstThread.EDT)
 	public Fragment requestFragment(CoordinatesInWorld coordinates) {
+		Fragment fragment = prefetchedFragments.remove(coordinates);
+		if (fragment != null) {
+			return fragment;
+		}
+		return requestNewFragment(coordinates);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private Fragment requestNewFragment(CoordinatesInWorld coordinates) {
 		Fragment fragment;
 		while ((fragment = availableQueue.poll()) == null) {
 			cache.increaseSize();
@@ -32,23 +63,82 @@ public class FragmentManager {
 		fragment.setCorner(coordinates);
 		fragment.setInitialized();
 		loadingQueue.offer(fragment);
+		fragmentLoaderWakeUpSignal.signal();
 		return fragment;
 	}
 
+	/**
+	 * Loads the fragments at the given coordinates without attaching them to
+	 * the fragment graph, so they are already loaded when they are requested
+	 * later on. Since they are not visible, they are loaded after all visible
+	 * fragments. Previously prefetched fragments are kept, unless their corner
+	 * is outside of the given bounds.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void prefetch(
+			Iterable<CoordinatesInWorld> corners,
+			CoordinatesInWorld topLeft,
+			CoordinatesInWorld bottomRight) {
+		Iterator<Fragment> iterator = prefetchedFragments.values().iterator();
+		while (iterator.hasNext()) {
+			Fragment fragment = iterator.next();
+			if (!isInBounds(fragment.getCorner(), topLeft, bottomRight)) {
+				iterator.remove();
+				recycleFragment(fragment);
+			}
+		}
+		for (CoordinatesInWorld corner : corners) {
+			if (!prefetchedFragments.containsKey(corner)) {
+				prefetchedFragments.put(corner, requestNewFragment(corner));
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private boolean isInBounds(
+			CoordinatesInWorld corner,
+			CoordinatesInWorld topLeft,
+			CoordinatesInWorld bottomRight) {
+		return corner.getX() >= topLeft.getX() && corner.getX() < bottomRight.getX()
+				&& corner.getY() >= topLeft.getY() && corner.getY() < bottomRight.getY();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void recyclePrefetchedFragments() {
+		prefetchedFragments.values().forEach(this::recycleFragment);
+		prefetchedFragments.clear();
+	}
+
+	/**
+	 * Fragments are loaded in the order of their distance to the center of the
+	 * given viewport. Fragments outside of the viewport are loaded last.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public void setViewport(CoordinatesInWorld topLeft, CoordinatesInWorld bottomRight) {
+		loadingQueue.setViewport(topLeft, bottomRight);
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void recycleFragment(Fragment fragment) {
 		recycleQueue.offer(fragment);
+		fragmentLoaderWakeUpSignal.signal();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentQueueProcessor createQueueProcessor(LayerManager layerManager, Setting<Dimension> dimensionSetting) {
+	public FragmentQueueProcessor createQueueProcessor(
+			LayerManager layerManager,
+			FragmentBiomeDataView biomeDataView,
+			Setting<Dimension> dimensionSetting,
+			ExecutorService fragmentLoaderPool) {
 		return new FragmentQueueProcessor(
 				availableQueue,
 				loadingQueue,
 				recycleQueue,
 				cache,
 				layerManager,
-				dimensionSetting);
+				biomeDataView,
+				dimensionSetting,
+				fragmentLoaderPool);
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -61,6 +151,16 @@ public class FragmentManager {
 		return loadingQueue.size();
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	public long getNumberOfSkippedLoadingQueueEntries() {
+		return loadingQueue.getNumberOfSkippedEntries();
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	public int getNumberOfPrefetchedFragments() {
+		return prefetchedFragments.size();
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	public int getRecycleQueueSize() {
 		return recycleQueue.size();
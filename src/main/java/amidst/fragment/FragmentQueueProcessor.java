@@ -1,6 +1,15 @@
 package amidst.fragment;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
@@ -12,47 +21,118 @@ import amidst.settings.Setting;
 
 @NotThreadSafe
 public class FragmentQueueProcessor {
+	/**
+	 * Loads a single fragment with the given layer loader. Exceptions are
+	 * stored instead of thrown, so the fragment loader always knows which
+	 * fragment and which layer loader are free again.
+	 */
+	@NotThreadSafe
+	private class LoadingTask implements Callable<LoadingTask> {
+		private final int layerLoaderId;
+		private final Dimension dimension;
+		private final Fragment fragment;
+		private Throwable failure;
+
+		public LoadingTask(int layerLoaderId, Dimension dimension, Fragment fragment) {
+			this.layerLoaderId = layerLoaderId;
+			this.dimension = dimension;
+			this.fragment = fragment;
+		}
+
+		@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+		@Override
+		public LoadingTask call() {
+			try {
+				loadFragment(layerLoaderId, dimension, fragment);
+			} catch (RuntimeException | Error e) {
+				failure = e;
+			}
+			return this;
+		}
+	}
+
 	private final ConcurrentLinkedQueue<Fragment> availableQueue;
-	private final ConcurrentLinkedQueue<Fragment> loadingQueue;
+	private final FragmentLoadingQueue loadingQueue;
 	private final ConcurrentLinkedQueue<Fragment> recycleQueue;
 	private final FragmentCache cache;
 	private final LayerManager layerManager;
+	private final FragmentBiomeDataView biomeDataView;
 	private final Setting<Dimension> dimensionSetting;
+	private final CompletionService<LoadingTask> completionService;
+	private final Deque<Integer> freeLayerLoaderIds = new ArrayDeque<>();
+	private final Set<Fragment> loadingFragments = new HashSet<>();
+	private final Set<Fragment> fragmentsToRecycle = new HashSet<>();
+	private final Set<Fragment> fragmentsToReload = new HashSet<>();
+	private final Deque<Fragment> fragmentsToLoad = new ArrayDeque<>();
 
 	@CalledByAny
 	public FragmentQueueProcessor(
 			ConcurrentLinkedQueue<Fragment> availableQueue,
-			ConcurrentLinkedQueue<Fragment> loadingQueue,
+			FragmentLoadingQueue loadingQueue,
 			ConcurrentLinkedQueue<Fragment> recycleQueue,
 			FragmentCache cache,
 			LayerManager layerManager,
-			Setting<Dimension> dimensionSetting) {
+			FragmentBiomeDataView biomeDataView,
+			Setting<Dimension> dimensionSetting,
+			ExecutorService fragmentLoaderPool) {
 		this.availableQueue = availableQueue;
 		this.loadingQueue = loadingQueue;
 		this.recycleQueue = recycleQueue;
 		this.cache = cache;
 		this.layerManager = layerManager;
+		this.biomeDataView = biomeDataView;
 		this.dimensionSetting = dimensionSetting;
+		this.completionService = new ExecutorCompletionService<>(fragmentLoaderPool);
+		for (int i = 0; i < layerManager.getNumberOfLayerLoaders(); i++) {
+			freeLayerLoaderIds.add(i);
+		}
 	}
 
 	/**
 	 * It is important that the dimension setting is the same while a fragment
 	 * is loaded by different fragment loaders. This is why the dimension
 	 * setting is read by the fragment loader thread.
+	 *
+	 * The fragments are loaded in parallel by the fragment loader pool, each by
+	 * its own layer loader. A new fragment is started as soon as any fragment
+	 * is finished, so a slow fragment does not hold up the others. A fragment
+	 * that is recycled or enqueued again while it is being loaded is only
+	 * recycled or loaded again when it is finished. When the dimension or the
+	 * layers change, no new fragments are started until all fragments are
+	 * finished, because the layer loaders can only be updated while they are
+	 * not used. This method returns when no fragment is being loaded.
 	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void processQueues() {
 		Dimension dimension = dimensionSetting.get();
 		updateLayerManager(dimension);
 		processRecycleQueue();
-		Fragment fragment;
-		while ((fragment = loadingQueue.poll()) != null) {
-			loadFragment(dimension, fragment);
-			dimension = dimensionSetting.get();
-			updateLayerManager(dimension);
+		startLoading(dimension);
+		Throwable failure = null;
+		while (!loadingFragments.isEmpty()) {
+			LoadingTask task = takeFinishedTask();
+			if (failure == null) {
+				failure = task.failure;
+			}
+			finishLoading(task);
 			processRecycleQueue();
+			if (loadingFragments.isEmpty()) {
+				dimension = dimensionSetting.get();
+				updateLayerManager(dimension);
+				startLoading(dimension);
+			} else if (!isUpdateNecessary(dimension)) {
+				startLoading(dimension);
+			}
 		}
 		layerManager.clearInvalidatedLayers();
+		cache.trimIfNecessary();
+		rethrow(failure);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private boolean isUpdateNecessary(Dimension dimension) {
+		Dimension currentDimension = dimensionSetting.get();
+		return !currentDimension.equals(dimension) || layerManager.isUpdateNecessary(currentDimension);
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -62,21 +142,107 @@ public class FragmentQueueProcessor {
 		}
 	}
 
+	/**
+	 * Recycling the fragment also invalidates all its entries in the loading
+	 * queue, so they don't need to be removed.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void processRecycleQueue() {
 		Fragment fragment;
 		while ((fragment = recycleQueue.poll()) != null) {
+			if (loadingFragments.contains(fragment)) {
+				fragmentsToRecycle.add(fragment);
+			} else {
+				fragmentsToLoad.remove(fragment);
+				recycleFragment(fragment);
+			}
+		}
+	}
+
+	/**
+	 * A fragment can be enqueued multiple times. However, it must not be loaded
+	 * by two threads at the same time.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void startLoading(Dimension dimension) {
+		Fragment fragment;
+		while (!freeLayerLoaderIds.isEmpty() && (fragment = pollFragmentToLoad()) != null) {
+			if (loadingFragments.contains(fragment)) {
+				fragmentsToReload.add(fragment);
+			} else {
+				loadingFragments.add(fragment);
+				completionService.submit(new LoadingTask(freeLayerLoaderIds.poll(), dimension, fragment));
+			}
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private Fragment pollFragmentToLoad() {
+		Fragment fragment = fragmentsToLoad.poll();
+		if (fragment != null) {
+			return fragment;
+		} else {
+			return loadingQueue.poll();
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void finishLoading(LoadingTask task) {
+		Fragment fragment = task.fragment;
+		loadingFragments.remove(fragment);
+		freeLayerLoaderIds.add(task.layerLoaderId);
+		boolean isReloadRequested = fragmentsToReload.remove(fragment);
+		if (fragmentsToRecycle.remove(fragment)) {
 			recycleFragment(fragment);
+		} else if (isReloadRequested) {
+			fragmentsToLoad.add(fragment);
 		}
 	}
 
+	/**
+	 * The layer loaders of unfinished fragments must not be reused, so this
+	 * waits until a fragment is finished, even when the thread is interrupted.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void loadFragment(Dimension dimension, Fragment fragment) {
+	private LoadingTask takeFinishedTask() {
+		boolean isInterrupted = false;
+		try {
+			while (true) {
+				try {
+					return completionService.take().get();
+				} catch (InterruptedException e) {
+					isInterrupted = true;
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("the loading task does not throw exceptions", e);
+				}
+			}
+		} finally {
+			if (isInterrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Rethrows the first exception that occurred while loading a fragment, so
+	 * it is handled the same way as if the fragment was loaded by this thread.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void rethrow(Throwable failure) {
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void loadFragment(int layerLoaderId, Dimension dimension, Fragment fragment) {
 		if (fragment.isInitialized()) {
 			if (fragment.isLoaded()) {
-				layerManager.reloadInvalidated(dimension, fragment);
+				layerManager.reloadInvalidated(layerLoaderId, dimension, fragment);
 			} else {
-				layerManager.loadAll(dimension, fragment);
+				layerManager.loadAll(layerLoaderId, dimension, fragment);
 				fragment.setLoaded();
 			}
 		}
@@ -84,18 +250,8 @@ public class FragmentQueueProcessor {
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void recycleFragment(Fragment fragment) {
+		biomeDataView.remove(fragment);
 		fragment.recycle();
-		removeFromLoadingQueue(fragment);
 		availableQueue.offer(fragment);
 	}
-
-	// TODO: Check performance with and without this. It is not needed, since
-	// loadFragment checks for isInitialized(). It helps to keep the
-	// loadingQueue small, but it costs time to remove fragments from the queue.
-	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void removeFromLoadingQueue(Object fragment) {
-		while (loadingQueue.remove(fragment)) {
-			// noop
-		}
-	}
 }
@@ -0,0 +1,87 @@
+package amidst.fragment.colorprovider;
+
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.util.Arrays;
+
+import amidst.documentation.ThreadSafe;
+import amidst.gui.main.viewer.BiomeSelection;
+import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeColor;
+import amidst.mojangapi.world.biome.UnknownBiomeIndexException;
+import amidst.settings.biomeprofile.BiomeProfileSelection;
+
+/**
+ * Maps each biome index to its color, depending on the biome profile and the
+ * biome selection. The biome images contain the biome indices as pixels, so
+ * when the colors change, only the color model of the images needs to be
+ * replaced.
+ */
+@ThreadSafe
+public class BiomePalette {
+	private final BiomeSelection biomeSelection;
+	private final BiomeProfileSelection biomeProfileSelection;
+
+	private int[] colors;
+	private volatile IndexColorModel colorModel;
+
+	public BiomePalette(BiomeSelection biomeSelection, BiomeProfileSelection biomeProfileSelection) {
+		this.biomeSelection = biomeSelection;
+		this.biomeProfileSelection = biomeProfileSelection;
+		this.colors = createColors();
+		this.colorModel = createColorModel(colors);
+	}
+
+	/**
+	 * All images share the same color model until the biome profile or the
+	 * biome selection is changed.
+	 */
+	public IndexColorModel getColorModel() {
+		return colorModel;
+	}
+
+	/**
+	 * Looks up the colors again and creates a new color model, if they
+	 * changed. This needs to be called when the biome profile or the biome
+	 * selection is changed.
+	 */
+	public synchronized void update() {
+		int[] currentColors = createColors();
+		if (!Arrays.equals(colors, currentColors)) {
+			colors = currentColors;
+			colorModel = createColorModel(currentColors);
+		}
+	}
+
+	private IndexColorModel createColorModel(int[] colors) {
+		return new IndexColorModel(8, colors.length, colors, 0, true, -1, DataBuffer.TYPE_BYTE);
+	}
+
+	private int[] createColors() {
+		int[] result = new int[Biome.getBiomesLength()];
+		for (int biomeIndex = 0; biomeIndex < result.length; biomeIndex++) {
+			result[biomeIndex] = getColor(biomeIndex);
+		}
+		return result;
+	}
+
+	private int getColor(int biomeIndex) {
+		if (biomeSelection.isVisible(biomeIndex)) {
+			return getBiomeColor(biomeIndex).getRGB();
+		} else {
+			return getBiomeColor(biomeIndex).getHiddenRGB();
+		}
+	}
+
+	/**
+	 * The palette contains all possible biome indices, so indices without a
+	 * biome are expected here.
+	 */
+	private BiomeColor getBiomeColor(int biomeIndex) {
+		try {
+			return biomeProfileSelection.getBiomeColor(biomeIndex);
+		} catch (UnknownBiomeIndexException e) {
+			return BiomeColor.unknown();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package amidst.fragment.drawer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * Replaces the color model of biome images that were loaded with a previous
+ * color model of the biome palette. The new image shares the raster with the
+ * previous one, so the biome colors change without reloading the images.
+ */
+@NotThreadSafe
+public class BiomeImageDrawer extends ImageDrawer {
+	private final BiomePalette biomePalette;
+
+	public BiomeImageDrawer(
+			LayerDeclaration declaration,
+			Resolution resolution,
+			Graphics2DAccelerationCounter accelerationCounter,
+			BiomePalette biomePalette) {
+		super(declaration, resolution, accelerationCounter);
+		this.biomePalette = biomePalette;
+	}
+
+	/**
+	 * The fragment loader might replace the image at the same time, so the
+	 * image is only replaced if it is still the current one. Otherwise, the
+	 * new image of the fragment loader is drawn in the next frame.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	@Override
+	protected BufferedImage getImage(Fragment fragment) {
+		BufferedImage image = super.getImage(fragment);
+		IndexColorModel colorModel = biomePalette.getColorModel();
+		if (image.getColorModel() instanceof IndexColorModel && image.getColorModel() != colorModel) {
+			BufferedImage result = new BufferedImage(colorModel, image.getRaster(), false, null);
+			fragment.compareAndSetImage(declaration.getLayerId(), image, result);
+			return result;
+		}
+		return image;
+	}
+}
@@ -1,5 +1,7 @@
 package amidst.fragment.layer;
 
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -7,27 +9,28 @@ import java.util.List;
 import amidst.AmidstSettings;
 import amidst.documentation.Immutable;
 import amidst.fragment.Fragment;
-import amidst.fragment.colorprovider.BackgroundColorProvider;
-import amidst.fragment.colorprovider.BiomeColorProvider;
-import amidst.fragment.colorprovider.SlimeColorProvider;
+import amidst.fragment.FragmentBiomeDataView;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.colorprovider.TheEndColorProvider;
 import amidst.fragment.constructor.BiomeDataConstructor;
 import amidst.fragment.constructor.EndIslandsConstructor;
 import amidst.fragment.constructor.FragmentConstructor;
 import amidst.fragment.constructor.ImageConstructor;
 import amidst.fragment.drawer.AlphaUpdater;
+import amidst.fragment.drawer.BiomeImageDrawer;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.fragment.drawer.GridDrawer;
 import amidst.fragment.drawer.ImageDrawer;
 import amidst.fragment.drawer.WorldIconDrawer;
 import amidst.fragment.loader.AlphaInitializer;
+import amidst.fragment.loader.BackgroundImageLoader;
 import amidst.fragment.loader.BiomeDataLoader;
 import amidst.fragment.loader.EndIslandsLoader;
 import amidst.fragment.loader.FragmentLoader;
-import amidst.fragment.loader.ImageLoader;
+import amidst.fragment.loader.SlimeChunkLoader;
 import amidst.fragment.loader.WorldIconLoader;
-import amidst.gui.main.viewer.BiomeSelection;
 import amidst.gui.main.viewer.Graphics2DAccelerationCounter;
+import amidst.gui.main.viewer.LevelOfDetail;
 import amidst.gui.main.viewer.WorldIconSelection;
 import amidst.gui.main.viewer.Zoom;
 import amidst.mojangapi.world.Dimension;
@@ -36,6 +39,7 @@ import amidst.mojangapi.world.coordinates.Resolution;
 import amidst.mojangapi.world.versionfeatures.VersionFeatures;
 import amidst.settings.Setting;
 import amidst.settings.Settings;
+import amidst.threading.WakeUpSignal;
 
 @Immutable
 public class LayerBuilder {
@@ -46,14 +50,15 @@ public class LayerBuilder {
 	}
 
 	/**
-	 * This also defines the construction order.
+	 * This also defines the construction order. The background image usually
+	 * contains biome indices, see {@link BackgroundImageLoader}.
 	 */
 	private Iterable<FragmentConstructor> createConstructors() {
 		return Collections.unmodifiableList(
 				Arrays.asList(
 						new BiomeDataConstructor(Resolution.QUARTER),
 						new EndIslandsConstructor(),
-						new ImageConstructor(Resolution.QUARTER, LayerIds.BACKGROUND),
+						new ImageConstructor(Resolution.QUARTER, LayerIds.BACKGROUND, BufferedImage.TYPE_BYTE_INDEXED),
 						new ImageConstructor(Resolution.CHUNK, LayerIds.SLIME)));
 	}
 
@@ -68,17 +73,50 @@ public class LayerBuilder {
 	public LayerManager create(
 			AmidstSettings settings,
 			World world,
-			BiomeSelection biomeSelection,
+			FragmentBiomeDataView biomeDataView,
+			BiomePalette biomePalette,
 			WorldIconSelection worldIconSelection,
 			Zoom zoom,
-			Graphics2DAccelerationCounter accelerationCounter) {
+			LevelOfDetail levelOfDetail,
+			Graphics2DAccelerationCounter accelerationCounter,
+			int numberOfLayerLoaders,
+			WakeUpSignal fragmentLoaderWakeUpSignal) {
 		List<LayerDeclaration> declarations = createDeclarations(settings, world.getVersionFeatures());
 		return new LayerManager(
 				declarations,
-				new LayerLoader(
-						createLoaders(declarations, world, biomeSelection, settings),
-						LayerIds.NUMBER_OF_LAYERS),
-				createDrawers(declarations, zoom, worldIconSelection, accelerationCounter));
+				createLayerLoaders(
+						declarations,
+						world,
+						biomeDataView,
+						biomePalette,
+						levelOfDetail,
+						settings,
+						numberOfLayerLoaders),
+				createDrawers(declarations, zoom, biomePalette, worldIconSelection, accelerationCounter),
+				fragmentLoaderWakeUpSignal);
+	}
+
+	/**
+	 * Each layer loader gets its own instances of the fragment loaders, so
+	 * multiple fragments can be loaded at the same time without sharing the
+	 * buffers of a loader.
+	 */
+	private List<LayerLoader> createLayerLoaders(
+			List<LayerDeclaration> declarations,
+			World world,
+			FragmentBiomeDataView biomeDataView,
+			BiomePalette biomePalette,
+			LevelOfDetail levelOfDetail,
+			AmidstSettings settings,
+			int numberOfLayerLoaders) {
+		List<LayerLoader> result = new ArrayList<>(numberOfLayerLoaders);
+		for (int i = 0; i < numberOfLayerLoaders; i++) {
+			result.add(
+					new LayerLoader(
+							createLoaders(declarations, world, biomeDataView, biomePalette, levelOfDetail, settings),
+							LayerIds.NUMBER_OF_LAYERS));
+		}
+		return Collections.unmodifiableList(result);
 	}
 
 	private List<LayerDeclaration> createDeclarations(AmidstSettings settings, VersionFeatures versionFeatures) {
@@ -127,15 +165,17 @@ public class LayerBuilder {
 	private Iterable<FragmentLoader> createLoaders(
 			List<LayerDeclaration> declarations,
 			World world,
-			BiomeSelection biomeSelection,
+			FragmentBiomeDataView biomeDataView,
+			BiomePalette biomePalette,
+			LevelOfDetail levelOfDetail,
 			AmidstSettings settings) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
 				new AlphaInitializer( declarations.get(LayerIds.ALPHA),           settings.fragmentFading),
-				new BiomeDataLoader(  declarations.get(LayerIds.BIOME_DATA),      world.getBiomeDataOracle()),
+				new BiomeDataLoader(  declarations.get(LayerIds.BIOME_DATA),      world.getBiomeDataOracle(), biomeDataView, levelOfDetail),
 				new EndIslandsLoader( declarations.get(LayerIds.END_ISLANDS),     world.getEndIslandOracle()),
-				new ImageLoader(	  declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, new BackgroundColorProvider(new BiomeColorProvider(biomeSelection, settings.biomeProfileSelection), new TheEndColorProvider())),
-				new ImageLoader(      declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   new SlimeColorProvider(world.getSlimeChunkOracle())),
+				new BackgroundImageLoader(declarations.get(LayerIds.BACKGROUND), Resolution.QUARTER, biomePalette, new TheEndColorProvider()),
+				new SlimeChunkLoader( declarations.get(LayerIds.SLIME),           world.getSlimeChunkOracle()),
 				new WorldIconLoader<>(declarations.get(LayerIds.SPAWN),           world.getSpawnProducer()),
 				new WorldIconLoader<>(declarations.get(LayerIds.STRONGHOLD),      world.getStrongholdProducer()),
 				new WorldIconLoader<>(declarations.get(LayerIds.PLAYER),          world.getPlayerProducer()),
@@ -157,12 +197,13 @@ public class LayerBuilder {
 	private Iterable<FragmentDrawer> createDrawers(
 			List<LayerDeclaration> declarations,
 			Zoom zoom,
+			BiomePalette biomePalette,
 			WorldIconSelection worldIconSelection,
 			Graphics2DAccelerationCounter accelerationCounter) {
 		// @formatter:off
 		return Collections.unmodifiableList(Arrays.asList(
 				new AlphaUpdater(   declarations.get(LayerIds.ALPHA)),
-				new ImageDrawer(    declarations.get(LayerIds.BACKGROUND),      Resolution.QUARTER, accelerationCounter),
+				new BiomeImageDrawer(declarations.get(LayerIds.BACKGROUND),     Resolution.QUARTER, accelerationCounter, biomePalette),
 				new ImageDrawer(    declarations.get(LayerIds.SLIME),           Resolution.CHUNK,   accelerationCounter),
 				new GridDrawer(     declarations.get(LayerIds.GRID),            zoom),
 				new WorldIconDrawer(declarations.get(LayerIds.SPAWN),           zoom, worldIconSelection),
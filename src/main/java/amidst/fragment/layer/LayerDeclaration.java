@@ -58,6 +58,15 @@ public class LayerDeclaration {
 		return reload;
 	}
 
+	/**
+	 * Returns whether the next call of {@link #update(Dimension)} will change
+	 * the visibility of the layer.
+	 */
+	@CalledByAny
+	public boolean needsUpdate(Dimension dimension) {
+		return (calculateIsEnabled(dimension) && isVisibleSetting.get()) != isVisible;
+	}
+
 	@CalledByAny
 	public boolean calculateIsEnabled(Dimension dimension) {
 		return isMatchingDimension(dimension) && isMatchingVersion();
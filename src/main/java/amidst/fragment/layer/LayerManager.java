@@ -7,26 +7,31 @@ import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.drawer.FragmentDrawer;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.World;
 import amidst.threading.TaskQueue;
+import amidst.threading.WakeUpSignal;
 
 @NotThreadSafe
 public class LayerManager {
 	private final TaskQueue invalidationOperations = new TaskQueue();
 
 	private final List<LayerDeclaration> declarations;
-	private final LayerLoader layerLoader;
+	private final List<LayerLoader> layerLoaders;
 	private final Iterable<FragmentDrawer> drawers;
+	private final WakeUpSignal fragmentLoaderWakeUpSignal;
 
 	public LayerManager(
 			List<LayerDeclaration> declarations,
-			LayerLoader layerLoader,
-			Iterable<FragmentDrawer> drawers) {
+			List<LayerLoader> layerLoaders,
+			Iterable<FragmentDrawer> drawers,
+			WakeUpSignal fragmentLoaderWakeUpSignal) {
 		this.declarations = declarations;
-		this.layerLoader = layerLoader;
+		this.layerLoaders = layerLoaders;
 		this.drawers = drawers;
+		this.fragmentLoaderWakeUpSignal = fragmentLoaderWakeUpSignal;
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -43,29 +48,56 @@ public class LayerManager {
 		return invalidationOperations.processTasks();
 	}
 
+	/**
+	 * Returns true, if updateAll would change any layer loader.
+	 */
+	@CalledByAny
+	public boolean isUpdateNecessary(Dimension dimension) {
+		for (LayerDeclaration declaration : declarations) {
+			if (declaration.needsUpdate(dimension)) {
+				return true;
+			}
+		}
+		return !invalidationOperations.isEmpty();
+	}
+
 	@CalledByAny
 	public void invalidateLayer(int layerId) {
 		invalidationOperations.invoke(() -> doInvalidateLayer(layerId));
+		fragmentLoaderWakeUpSignal.signal();
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	private void doInvalidateLayer(int layerId) {
-		layerLoader.invalidateLayer(layerId);
+		for (LayerLoader layerLoader : layerLoaders) {
+			layerLoader.invalidateLayer(layerId);
+		}
+	}
+
+	/**
+	 * This is the maximum number of fragments that can be loaded at the same
+	 * time. Each layer loader must only be used by one thread at a time.
+	 */
+	@CalledByAny
+	public int getNumberOfLayerLoaders() {
+		return layerLoaders.size();
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void loadAll(Dimension dimension, Fragment fragment) {
-		layerLoader.loadAll(dimension, fragment);
+	public void loadAll(int layerLoaderId, Dimension dimension, Fragment fragment) {
+		layerLoaders.get(layerLoaderId).loadAll(dimension, fragment);
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	public void reloadInvalidated(Dimension dimension, Fragment fragment) {
-		layerLoader.reloadInvalidated(dimension, fragment);
+	public void reloadInvalidated(int layerLoaderId, Dimension dimension, Fragment fragment) {
+		layerLoaders.get(layerLoaderId).reloadInvalidated(dimension, fragment);
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	public void clearInvalidatedLayers() {
-		layerLoader.clearInvalidatedLayers();
+		for (LayerLoader layerLoader : layerLoaders) {
+			layerLoader.clearInvalidatedLayers();
+		}
 	}
 
 	public Iterable<LayerDeclaration> getDeclarations() {
@@ -76,8 +108,8 @@ public class LayerManager {
 		return drawers;
 	}
 
-	public LayerReloader createLayerReloader(World world) {
-		return new LayerReloader(world, this);
+	public LayerReloader createLayerReloader(World world, BiomePalette biomePalette) {
+		return new LayerReloader(world, this, biomePalette);
 	}
 
 	/**
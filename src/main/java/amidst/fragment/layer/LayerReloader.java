@@ -1,19 +1,36 @@
 package amidst.fragment.layer;
 
 import amidst.documentation.ThreadSafe;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.mojangapi.world.World;
 
 @ThreadSafe
 public class LayerReloader {
 	private final World world;
 	private final LayerManager layerManager;
+	private final BiomePalette biomePalette;
 
-	public LayerReloader(World world, LayerManager layerManager) {
+	public LayerReloader(World world, LayerManager layerManager, BiomePalette biomePalette) {
 		this.world = world;
 		this.layerManager = layerManager;
+		this.biomePalette = biomePalette;
 	}
 
-	public void reloadBackgroundLayer() {
+	/**
+	 * The biome images only contain the biome indices, so the background layer
+	 * does not need to be reloaded. The images pick up the new color model
+	 * when they are drawn.
+	 */
+	public void updateBiomeColors() {
+		biomePalette.update();
+	}
+
+	/**
+	 * The background layer is drawn from the biome data, so it is reloaded
+	 * as well.
+	 */
+	public void reloadBiomeDataLayer() {
+		layerManager.invalidateLayer(LayerIds.BIOME_DATA);
 		layerManager.invalidateLayer(LayerIds.BACKGROUND);
 	}
 
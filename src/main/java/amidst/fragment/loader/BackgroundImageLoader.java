@@ -0,0 +1,92 @@
+package amidst.fragment.loader;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.colorprovider.BiomePalette;
+import amidst.fragment.colorprovider.TheEndColorProvider;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * In the overworld, the background image contains the biome index of each
+ * pixel and the colors are defined by the color model of the biome palette.
+ * The end is drawn by an image loader, because its colors do not only depend
+ * on a single index.
+ */
+@NotThreadSafe
+public class BackgroundImageLoader extends FragmentLoader {
+	private final BiomePalette biomePalette;
+	private final ImageLoader theEndImageLoader;
+	private final int size;
+	private volatile BufferedImage bufferedImage = null;
+
+	@CalledByAny
+	public BackgroundImageLoader(
+			LayerDeclaration declaration,
+			Resolution resolution,
+			BiomePalette biomePalette,
+			TheEndColorProvider theEndColorProvider) {
+		super(declaration);
+		this.biomePalette = biomePalette;
+		this.theEndImageLoader = new ImageLoader(declaration, resolution, theEndColorProvider);
+		this.size = resolution.getStepsPerFragment();
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		doLoad(dimension, fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		doLoad(dimension, fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void doLoad(Dimension dimension, Fragment fragment) {
+		if (dimension.equals(Dimension.OVERWORLD)) {
+			loadBiomeImage(fragment);
+		} else if (dimension.equals(Dimension.END)) {
+			theEndImageLoader.load(dimension, fragment);
+		} else {
+			AmidstLogger.warn("unsupported dimension");
+		}
+	}
+
+	/**
+	 * The biome indices are copied to an image that is currently not used by
+	 * the fragment, so the drawer never sees a partially copied image.
+	 * Replacing the color model creates a new image, but it shares the raster
+	 * with the previous one.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void loadBiomeImage(Fragment fragment) {
+		IndexColorModel colorModel = biomePalette.getColorModel();
+		BufferedImage image = getBufferedImage(colorModel);
+		fragment.copyBiomeDataTo(((DataBufferByte) image.getRaster().getDataBuffer()).getData());
+		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), image);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private BufferedImage getBufferedImage(IndexColorModel colorModel) {
+		BufferedImage image = bufferedImage;
+		if (image == null || image.getType() != BufferedImage.TYPE_BYTE_INDEXED || image.getWidth() != size) {
+			return new BufferedImage(size, size, BufferedImage.TYPE_BYTE_INDEXED, colorModel);
+		} else if (image.getColorModel() != colorModel) {
+			return new BufferedImage(colorModel, image.getRaster(), false, null);
+		} else {
+			return image;
+		}
+	}
+}
@@ -4,33 +4,57 @@ import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
+import amidst.fragment.FragmentBiomeDataView;
 import amidst.fragment.layer.LayerDeclaration;
+import amidst.gui.main.viewer.LevelOfDetail;
 import amidst.mojangapi.world.Dimension;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @NotThreadSafe
 public class BiomeDataLoader extends FragmentLoader {
 	private final BiomeDataOracle biomeDataOracle;
+	private final FragmentBiomeDataView biomeDataView;
+	private final LevelOfDetail levelOfDetail;
 
-	public BiomeDataLoader(LayerDeclaration declaration, BiomeDataOracle biomeDataOracle) {
+	public BiomeDataLoader(
+			LayerDeclaration declaration,
+			BiomeDataOracle biomeDataOracle,
+			FragmentBiomeDataView biomeDataView,
+			LevelOfDetail levelOfDetail) {
 		super(declaration);
 		this.biomeDataOracle = biomeDataOracle;
+		this.biomeDataView = biomeDataView;
+		this.levelOfDetail = levelOfDetail;
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	@Override
 	public void load(Dimension dimension, Fragment fragment) {
-		doLoad(fragment);
+		doLoad(fragment, levelOfDetail.getBiomeDataStride());
 	}
 
+	/**
+	 * The biome data does not change, so it only needs to be reloaded if it
+	 * was not populated yet or if it is coarser than the current level of
+	 * detail.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 	@Override
 	public void reload(Dimension dimension, Fragment fragment) {
-		doLoad(fragment);
+		int stride = levelOfDetail.getBiomeDataStride();
+		int previousStride = fragment.getBiomeDataStride();
+		if (previousStride == 0 || previousStride > stride) {
+			doLoad(fragment, stride);
+		}
 	}
 
+	/**
+	 * The biome data is made available to the structure checks right away,
+	 * because they usually need the biome data of the same fragment.
+	 */
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
-	private void doLoad(Fragment fragment) {
-		fragment.populateBiomeData(biomeDataOracle);
+	private void doLoad(Fragment fragment, int stride) {
+		fragment.populateBiomeData(biomeDataOracle, stride);
+		biomeDataView.put(fragment);
 	}
 }
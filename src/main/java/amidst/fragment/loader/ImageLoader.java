@@ -1,7 +1,5 @@
 package amidst.fragment.loader;
 
-import java.awt.image.BufferedImage;
-
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledByAny;
 import amidst.documentation.CalledOnlyBy;
@@ -19,7 +17,7 @@ public class ImageLoader extends FragmentLoader {
 	private final ColorProvider colorProvider;
 	private final int size;
 	private final int[] rgbArray;
-	private volatile BufferedImage bufferedImage;
+	private final RgbImageSwapper imageSwapper;
 
 	@CalledByAny
 	public ImageLoader(LayerDeclaration declaration, Resolution resolution, ColorProvider colorProvider) {
@@ -28,12 +26,7 @@ public class ImageLoader extends FragmentLoader {
 		this.colorProvider = colorProvider;
 		this.size = resolution.getStepsPerFragment();
 		this.rgbArray = new int[size * size];
-		this.bufferedImage = createBufferedImage();
-	}
-
-	@CalledByAny
-	private BufferedImage createBufferedImage() {
-		return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		this.imageSwapper = new RgbImageSwapper(size);
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
@@ -54,8 +47,7 @@ public class ImageLoader extends FragmentLoader {
 		long cornerX = corner.getXAs(resolution);
 		long cornerY = corner.getYAs(resolution);
 		drawToCache(dimension, fragment, cornerX, cornerY);
-		bufferedImage.setRGB(0, 0, size, size, rgbArray, 0, size);
-		bufferedImage = fragment.getAndSetImage(declaration.getLayerId(), bufferedImage);
+		imageSwapper.setRGBAndSwap(fragment, declaration.getLayerId(), rgbArray);
 	}
 
 	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
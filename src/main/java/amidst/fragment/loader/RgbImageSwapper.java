@@ -0,0 +1,42 @@
+package amidst.fragment.loader;
+
+import java.awt.image.BufferedImage;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+
+/**
+ * Draws the pixels of a layer to an image that is currently not used by any
+ * fragment and swaps it with the image of the fragment, so the drawer never
+ * sees a partially drawn image. The previous image of the fragment is reused
+ * for the next fragment.
+ */
+@NotThreadSafe
+public class RgbImageSwapper {
+	private final int size;
+	private volatile BufferedImage bufferedImage;
+
+	@CalledByAny
+	public RgbImageSwapper(int size) {
+		this.size = size;
+		this.bufferedImage = createBufferedImage();
+	}
+
+	@CalledByAny
+	private BufferedImage createBufferedImage() {
+		return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	public void setRGBAndSwap(Fragment fragment, int layerId, int[] rgbArray) {
+		bufferedImage.setRGB(0, 0, size, size, rgbArray, 0, size);
+		bufferedImage = fragment.getAndSetImage(layerId, bufferedImage);
+		if (bufferedImage == null || bufferedImage.getType() != BufferedImage.TYPE_INT_ARGB) {
+			// the layer might have been loaded by a different loader before
+			bufferedImage = createBufferedImage();
+		}
+	}
+}
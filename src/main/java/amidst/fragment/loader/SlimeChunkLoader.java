@@ -0,0 +1,73 @@
+package amidst.fragment.loader;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.NotThreadSafe;
+import amidst.fragment.Fragment;
+import amidst.fragment.layer.LayerDeclaration;
+import amidst.mojangapi.world.Dimension;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.SlimeChunkOracle;
+
+/**
+ * Draws the slime chunks of the whole fragment from a single bit set, instead
+ * of asking the oracle for each pixel.
+ */
+@NotThreadSafe
+public class SlimeChunkLoader extends FragmentLoader {
+	private static final int SLIME_CHUNK_COLOR = 0xA0FE80FA;
+	private static final int NOT_SLIME_CHUNK_COLOR = 0x00000000;
+	private static final Resolution RESOLUTION = Resolution.CHUNK;
+
+	private final SlimeChunkOracle slimeChunkOracle;
+	private final int size;
+	private final long[] slimeChunks;
+	private final int[] rgbArray;
+	private final RgbImageSwapper imageSwapper;
+
+	@CalledByAny
+	public SlimeChunkLoader(LayerDeclaration declaration, SlimeChunkOracle slimeChunkOracle) {
+		super(declaration);
+		this.slimeChunkOracle = slimeChunkOracle;
+		this.size = RESOLUTION.getStepsPerFragment();
+		this.slimeChunks = new long[SlimeChunkOracle.getBitSetLength(size, size)];
+		this.rgbArray = new int[size * size];
+		this.imageSwapper = new RgbImageSwapper(size);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void load(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	@Override
+	public void reload(Dimension dimension, Fragment fragment) {
+		doLoad(fragment);
+	}
+
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void doLoad(Fragment fragment) {
+		CoordinatesInWorld corner = fragment.getCorner();
+		slimeChunkOracle.getSlimeChunks(corner.getXAs(RESOLUTION), corner.getYAs(RESOLUTION), size, size, slimeChunks);
+		drawToCache();
+		imageSwapper.setRGBAndSwap(fragment, declaration.getLayerId(), rgbArray);
+	}
+
+	/**
+	 * The bit index of each chunk is the same as its index in the rgb array.
+	 */
+	@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
+	private void drawToCache() {
+		for (int i = 0; i < rgbArray.length; i++) {
+			if ((slimeChunks[i >>> 6] & 1L << i) != 0) {
+				rgbArray[i] = SLIME_CHUNK_COLOR;
+			} else {
+				rgbArray[i] = NOT_SLIME_CHUNK_COLOR;
+			}
+		}
+	}
+}
@@ -246,7 +246,7 @@ public class Actions {
 		biomeProfileSelection.set(profile);
 		ViewerFacade viewerFacade = viewerFacadeSupplier.get();
 		if (viewerFacade != null) {
-			viewerFacade.reloadBackgroundLayer();
+			viewerFacade.updateBiomeColors();
 		}
 	}
 
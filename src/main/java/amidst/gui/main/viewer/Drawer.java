@@ -20,6 +20,7 @@ import amidst.fragment.Fragment;
 import amidst.fragment.FragmentGraph;
 import amidst.fragment.FragmentGraphItem;
 import amidst.fragment.drawer.FragmentDrawer;
+import amidst.fragment.layer.LayerReloader;
 import amidst.gui.main.viewer.widget.Widget;
 import amidst.mojangapi.world.Dimension;
 import amidst.settings.Setting;
@@ -50,6 +51,8 @@ public class Drawer {
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
 	private final Zoom zoom;
+	private final LevelOfDetail levelOfDetail;
+	private final LayerReloader layerReloader;
 	private final Movement movement;
 	private final List<Widget> widgets;
 	private final Iterable<FragmentDrawer> drawers;
@@ -71,6 +74,8 @@ public class Drawer {
 			FragmentGraph graph,
 			FragmentGraphToScreenTranslator translator,
 			Zoom zoom,
+			LevelOfDetail levelOfDetail,
+			LayerReloader layerReloader,
 			Movement movement,
 			List<Widget> widgets,
 			Iterable<FragmentDrawer> drawers,
@@ -79,6 +84,8 @@ public class Drawer {
 		this.graph = graph;
 		this.translator = translator;
 		this.zoom = zoom;
+		this.levelOfDetail = levelOfDetail;
+		this.layerReloader = layerReloader;
 		this.movement = movement;
 		this.widgets = widgets;
 		this.drawers = drawers;
@@ -141,6 +148,9 @@ public class Drawer {
 	@CalledOnlyBy(AmidstThread.EDT)
 	private void updateZoom() {
 		zoom.update(translator);
+		if (levelOfDetail.update(zoom)) {
+			layerReloader.reloadBiomeDataLayer();
+		}
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -7,12 +7,22 @@ import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
 import amidst.fragment.Fragment;
 import amidst.fragment.FragmentGraph;
+import amidst.fragment.FragmentManager;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 
 @NotThreadSafe
 public class FragmentGraphToScreenTranslator {
+	/**
+	 * With smooth scrolling, the movement speed decays by 5% per frame, so the
+	 * remaining distance is about 20 times the current movement.
+	 */
+	private static final int PREFETCH_LOOKAHEAD_FRAMES = 20;
+	private static final int MAX_PREFETCH_FRAGMENTS = 2;
+	private static final int PREFETCH_RADIUS = MAX_PREFETCH_FRAGMENTS + 1;
+
 	private final FragmentGraph graph;
 	private final Zoom zoom;
+	private final FragmentManager fragmentManager;
 
 	private double leftOnScreen;
 	private double topOnScreen;
@@ -20,12 +30,19 @@ public class FragmentGraphToScreenTranslator {
 	private int viewerWidth;
 	private int viewerHeight;
 
+	private int lastMovementX;
+	private int lastMovementY;
+
+	private int prefetchDirectionX;
+	private int prefetchDirectionY;
+
 	private boolean isFirstUpdate = true;
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom) {
+	public FragmentGraphToScreenTranslator(FragmentGraph graph, Zoom zoom, FragmentManager fragmentManager) {
 		this.graph = graph;
 		this.zoom = zoom;
+		this.fragmentManager = fragmentManager;
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -34,6 +51,8 @@ public class FragmentGraphToScreenTranslator {
 		this.viewerHeight = viewerHeight;
 		centerOnOriginIfNecessary();
 		adjustNumberOfRowsAndColumns();
+		updateViewport();
+		prefetchAhead();
 	}
 
 	private void centerOnOriginIfNecessary() {
@@ -58,6 +77,43 @@ public class FragmentGraphToScreenTranslator {
 		adjustTopLeftOnScreen(fragmentSizeOnScreen * -newLeft, fragmentSizeOnScreen * -newAbove);
 	}
 
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void updateViewport() {
+		fragmentManager.setViewport(
+				screenToWorld(new Point(0, 0)),
+				screenToWorld(new Point(viewerWidth, viewerHeight)));
+	}
+
+	/**
+	 * Moving the content of the screen to the right reveals the fragments on
+	 * the left, so the fragments are prefetched in the opposite direction of
+	 * the movement. The prefetched fragments are kept while the movement stops
+	 * and are only recycled when the direction changes or they are too far
+	 * away from the graph.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	private void prefetchAhead() {
+		int columns = getFragmentsAhead(-lastMovementX * PREFETCH_LOOKAHEAD_FRAMES);
+		int rows = getFragmentsAhead(-lastMovementY * PREFETCH_LOOKAHEAD_FRAMES);
+		if (columns == 0 && rows == 0) {
+			return;
+		}
+		int directionX = Integer.signum(columns);
+		int directionY = Integer.signum(rows);
+		if (directionX != prefetchDirectionX || directionY != prefetchDirectionY) {
+			prefetchDirectionX = directionX;
+			prefetchDirectionY = directionY;
+			graph.recyclePrefetchedFragments();
+		}
+		graph.prefetchAhead(columns, rows, PREFETCH_RADIUS);
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int getFragmentsAhead(int distanceOnScreen) {
+		double result = Math.ceil(Math.abs(zoom.screenToWorld(distanceOnScreen)) / Fragment.SIZE);
+		return (int) Math.signum(distanceOnScreen) * (int) Math.min(result, MAX_PREFETCH_FRAGMENTS);
+	}
+
 	@CalledOnlyBy(AmidstThread.EDT)
 	private int getNewLeft(double fragmentSizeOnScreen) {
 		if (leftOnScreen > 0) {
@@ -90,6 +146,8 @@ public class FragmentGraphToScreenTranslator {
 
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void adjustToMovement(int deltaX, int deltaY) {
+		this.lastMovementX = deltaX;
+		this.lastMovementY = deltaY;
 		adjustTopLeftOnScreen(deltaX, deltaY);
 	}
 
@@ -0,0 +1,54 @@
+package amidst.gui.main.viewer;
+
+import amidst.documentation.AmidstThread;
+import amidst.documentation.CalledByAny;
+import amidst.documentation.CalledOnlyBy;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.coordinates.Resolution;
+
+/**
+ * When the zoom is far out, many quarter-resolution biomes are drawn to a
+ * single pixel. In that case, the biome data of a fragment is only sampled at
+ * every n-th quarter-resolution coordinate, where n is the biome data stride.
+ * The stride is chosen so a single sample covers at most one pixel, so the
+ * map looks the same while it needs a lot less biome data.
+ */
+@ThreadSafe
+public class LevelOfDetail {
+	private static final int MAX_BIOME_DATA_STRIDE = 64;
+	private static final double MAX_PIXELS_PER_SAMPLE = 1;
+
+	private volatile int biomeDataStride = 1;
+
+	/**
+	 * Returns true, if the biome data stride decreased. In this case, the
+	 * fragments that were loaded with the previous stride are too coarse and
+	 * need to be reloaded.
+	 */
+	@CalledOnlyBy(AmidstThread.EDT)
+	public boolean update(Zoom zoom) {
+		int previous = biomeDataStride;
+		int current = calculateBiomeDataStride(zoom.worldToScreen(Resolution.QUARTER.getStep()));
+		biomeDataStride = current;
+		return current < previous;
+	}
+
+	@CalledOnlyBy(AmidstThread.EDT)
+	private int calculateBiomeDataStride(double pixelsPerQuarterResolutionBiome) {
+		int result = 1;
+		while (result < MAX_BIOME_DATA_STRIDE
+				&& result * 2 * pixelsPerQuarterResolutionBiome <= MAX_PIXELS_PER_SAMPLE) {
+			result *= 2;
+		}
+		return result;
+	}
+
+	/**
+	 * This is always a power of two that divides the size of a fragment in
+	 * quarter-resolution.
+	 */
+	@CalledByAny
+	public int getBiomeDataStride() {
+		return biomeDataStride;
+	}
+}
@@ -2,15 +2,18 @@ package amidst.gui.main.viewer;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import amidst.AmidstSettings;
 import amidst.documentation.AmidstThread;
 import amidst.documentation.CalledOnlyBy;
 import amidst.documentation.NotThreadSafe;
+import amidst.fragment.FragmentBiomeDataView;
 import amidst.fragment.FragmentGraph;
 import amidst.fragment.FragmentManager;
 import amidst.fragment.FragmentQueueProcessor;
+import amidst.fragment.colorprovider.BiomePalette;
 import amidst.fragment.layer.LayerBuilder;
 import amidst.fragment.layer.LayerManager;
 import amidst.fragment.layer.LayerReloader;
@@ -31,6 +34,7 @@ import amidst.gui.main.viewer.widget.WidgetManager;
 import amidst.mojangapi.world.World;
 import amidst.mojangapi.world.export.WorldExporter;
 import amidst.mojangapi.world.export.WorldExporterConfiguration;
+import amidst.threading.WakeUpSignal;
 import amidst.threading.WorkerExecutor;
 
 @NotThreadSafe
@@ -69,6 +73,8 @@ public class PerViewerFacadeInjector {
 	private final Graphics2DAccelerationCounter accelerationCounter;
 	private final Movement movement;
 	private final WorldIconSelection worldIconSelection;
+	private final LevelOfDetail levelOfDetail;
+	private final BiomePalette biomePalette;
 	private final LayerManager layerManager;
 	private final FragmentGraph graph;
 	private final FragmentGraphToScreenTranslator translator;
@@ -86,6 +92,9 @@ public class PerViewerFacadeInjector {
 	public PerViewerFacadeInjector(
 			AmidstSettings settings,
 			WorkerExecutor workerExecutor,
+			ExecutorService fragmentLoaderPool,
+			int numberOfFragmentLoaders,
+			WakeUpSignal fragmentLoaderWakeUpSignal,
 			Zoom zoom,
 			LayerBuilder layerBuilder,
 			FragmentManager fragmentManager,
@@ -97,12 +106,26 @@ public class PerViewerFacadeInjector {
 		this.accelerationCounter = new Graphics2DAccelerationCounter();
 		this.movement = new Movement(settings.smoothScrolling);
 		this.worldIconSelection = new WorldIconSelection();
-		this.layerManager = layerBuilder
-				.create(settings, world, biomeSelection, worldIconSelection, zoom, accelerationCounter);
+		this.levelOfDetail = new LevelOfDetail();
+		this.biomePalette = new BiomePalette(biomeSelection, settings.biomeProfileSelection);
+		FragmentBiomeDataView biomeDataView = new FragmentBiomeDataView();
+		world.getBiomeDataOracle().setLoadedBiomeDataView(biomeDataView);
+		this.layerManager = layerBuilder.create(
+				settings,
+				world,
+				biomeDataView,
+				biomePalette,
+				worldIconSelection,
+				zoom,
+				levelOfDetail,
+				accelerationCounter,
+				numberOfFragmentLoaders,
+				fragmentLoaderWakeUpSignal);
 		this.graph = new FragmentGraph(layerManager.getDeclarations(), fragmentManager);
-		this.translator = new FragmentGraphToScreenTranslator(graph, zoom);
-		this.fragmentQueueProcessor = fragmentManager.createQueueProcessor(layerManager, settings.dimension);
-		this.layerReloader = layerManager.createLayerReloader(world);
+		this.translator = new FragmentGraphToScreenTranslator(graph, zoom, fragmentManager);
+		this.fragmentQueueProcessor = fragmentManager
+				.createQueueProcessor(layerManager, biomeDataView, settings.dimension, fragmentLoaderPool);
+		this.layerReloader = layerManager.createLayerReloader(world, biomePalette);
 		this.progressMessageHolder = new ProgressMessageHolder();
 		this.widgets = createWidgets(
 				world,
@@ -120,6 +143,8 @@ public class PerViewerFacadeInjector {
 				graph,
 				translator,
 				zoom,
+				levelOfDetail,
+				layerReloader,
 				movement,
 				widgets,
 				layerManager.getDrawers(),
@@ -84,8 +84,8 @@ public class ViewerFacade {
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
-	public void reloadBackgroundLayer() {
-		layerReloader.reloadBackgroundLayer();
+	public void updateBiomeColors() {
+		layerReloader.updateBiomeColors();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
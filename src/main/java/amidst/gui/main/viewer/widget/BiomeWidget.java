@@ -293,7 +293,7 @@ public class BiomeWidget extends Widget {
 		}
 		updateScrollbarParameters(mouseX, mouseY);
 		if (processClick(mouseX, mouseY)) {
-			layerReloader.reloadBackgroundLayer();
+			layerReloader.updateBiomeColors();
 		}
 		return true;
 	}
@@ -43,6 +43,8 @@ public class DebugWidget extends TextWidget {
 					"Cache Size: " + fragmentManager.getCacheSize(),
 					"Available Queue Size: " + fragmentManager.getAvailableQueueSize(),
 					"Loading Queue Size: " + fragmentManager.getLoadingQueueSize(),
+					"Skipped Loading Queue Entries: " + fragmentManager.getNumberOfSkippedLoadingQueueEntries(),
+					"Prefetched Fragments: " + fragmentManager.getNumberOfPrefetchedFragments(),
 					"Recycle Queue Size: " + fragmentManager.getRecycleQueueSize(),
 					"",
 					"Viewer:",
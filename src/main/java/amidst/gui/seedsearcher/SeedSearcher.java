@@ -55,6 +55,7 @@ public class SeedSearcher {
 	@CalledOnlyBy(AmidstThread.EDT)
 	public void dispose() {
 		stop();
+		runningLauncherProfile.dispose();
 	}
 
 	@CalledOnlyBy(AmidstThread.EDT)
@@ -1,19 +1,44 @@
 package amidst.mojangapi;
 
+import amidst.clazz.ClassTranslationCache;
 import amidst.documentation.Immutable;
 import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.BiomeTileCacheDirectory;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
 import amidst.mojangapi.world.WorldBuilder;
 
 @Immutable
 public class LauncherProfileRunner {
 	private final WorldBuilder worldBuilder;
+	private final BiomeTileCacheDirectory biomeTileCacheDirectory;
+	private final ClassTranslationCache classTranslationCache;
+	private final int numberOfMinecraftInterfaces;
+	private final boolean useMinecraftWorkerProcesses;
+	private final boolean useBuiltInBiomeGenerator;
 
-	public LauncherProfileRunner(WorldBuilder worldBuilder) {
+	public LauncherProfileRunner(
+			WorldBuilder worldBuilder,
+			BiomeTileCacheDirectory biomeTileCacheDirectory,
+			ClassTranslationCache classTranslationCache,
+			int numberOfMinecraftInterfaces,
+			boolean useMinecraftWorkerProcesses,
+			boolean useBuiltInBiomeGenerator) {
 		this.worldBuilder = worldBuilder;
+		this.biomeTileCacheDirectory = biomeTileCacheDirectory;
+		this.classTranslationCache = classTranslationCache;
+		this.numberOfMinecraftInterfaces = numberOfMinecraftInterfaces;
+		this.useMinecraftWorkerProcesses = useMinecraftWorkerProcesses;
+		this.useBuiltInBiomeGenerator = useBuiltInBiomeGenerator;
 	}
 
 	public RunningLauncherProfile run(LauncherProfile launcherProfile) throws MinecraftInterfaceCreationException {
-		return RunningLauncherProfile.from(worldBuilder, launcherProfile);
+		return RunningLauncherProfile.from(
+				worldBuilder,
+				launcherProfile,
+				biomeTileCacheDirectory,
+				classTranslationCache,
+				numberOfMinecraftInterfaces,
+				useMinecraftWorkerProcesses,
+				useBuiltInBiomeGenerator);
 	}
 }
@@ -2,9 +2,12 @@ package amidst.mojangapi;
 
 import java.io.IOException;
 
+import amidst.clazz.ClassTranslationCache;
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.file.LauncherProfile;
 import amidst.mojangapi.file.SaveGame;
+import amidst.mojangapi.minecraftinterface.BiomeTileCacheDirectory;
+import amidst.mojangapi.minecraftinterface.CachingMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.LoggingMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
@@ -17,25 +20,61 @@ import amidst.mojangapi.world.WorldOptions;
 
 @ThreadSafe
 public class RunningLauncherProfile {
-	public static RunningLauncherProfile from(WorldBuilder worldBuilder, LauncherProfile launcherProfile)
-			throws MinecraftInterfaceCreationException {
+	public static RunningLauncherProfile from(
+			WorldBuilder worldBuilder,
+			LauncherProfile launcherProfile,
+			BiomeTileCacheDirectory biomeTileCacheDirectory,
+			ClassTranslationCache classTranslationCache,
+			int numberOfMinecraftInterfaces,
+			boolean useMinecraftWorkerProcesses,
+			boolean useBuiltInBiomeGenerator) throws MinecraftInterfaceCreationException {
 		return new RunningLauncherProfile(
 				worldBuilder,
 				launcherProfile,
-				new LoggingMinecraftInterface(MinecraftInterfaces.fromLocalProfile(launcherProfile)));
+				biomeTileCacheDirectory,
+				MinecraftInterfaces.fromLocalProfile(
+						launcherProfile,
+						classTranslationCache,
+						numberOfMinecraftInterfaces,
+						useBuiltInBiomeGenerator,
+						useMinecraftWorkerProcesses));
 	}
 
 	private final WorldBuilder worldBuilder;
 	private final LauncherProfile launcherProfile;
+	private final BiomeTileCacheDirectory biomeTileCacheDirectory;
+	private final MinecraftInterface sharedMinecraftInterface;
 	private final MinecraftInterface minecraftInterface;
 	private volatile World currentWorld = null;
 
+	/**
+	 * The minecraft interface is wrapped, so the biome data is logged and
+	 * cached.
+	 */
 	public RunningLauncherProfile(
 			WorldBuilder worldBuilder,
 			LauncherProfile launcherProfile,
+			BiomeTileCacheDirectory biomeTileCacheDirectory,
+			MinecraftInterface minecraftInterface) {
+		this(
+				worldBuilder,
+				launcherProfile,
+				biomeTileCacheDirectory,
+				minecraftInterface,
+				new LoggingMinecraftInterface(
+						new CachingMinecraftInterface(minecraftInterface, biomeTileCacheDirectory)));
+	}
+
+	private RunningLauncherProfile(
+			WorldBuilder worldBuilder,
+			LauncherProfile launcherProfile,
+			BiomeTileCacheDirectory biomeTileCacheDirectory,
+			MinecraftInterface sharedMinecraftInterface,
 			MinecraftInterface minecraftInterface) {
 		this.worldBuilder = worldBuilder;
 		this.launcherProfile = launcherProfile;
+		this.biomeTileCacheDirectory = biomeTileCacheDirectory;
+		this.sharedMinecraftInterface = sharedMinecraftInterface;
 		this.minecraftInterface = minecraftInterface;
 	}
 
@@ -47,14 +86,30 @@ public class RunningLauncherProfile {
 		return minecraftInterface.getRecognisedVersion();
 	}
 
+	/**
+	 * The copy shares the loaded game with this profile instead of loading it
+	 * again, but it can work with another world at the same time. It does not
+	 * cache the biome data, because the seed searcher creates a new world for
+	 * each seed it tries. Each of them would open a new biome tile store and
+	 * evict the stores of the worlds that were actually viewed.
+	 */
 	public RunningLauncherProfile createSilentPlayerlessCopy() {
-		try {
-			return RunningLauncherProfile.from(WorldBuilder.createSilentPlayerless(), launcherProfile);
-		} catch (MinecraftInterfaceCreationException e) {
-			// This will not happen normally, because we already successfully
-			// created the same LocalMinecraftInterface once before.
-			throw new RuntimeException("exception while duplicating the RunningLauncherProfile", e);
-		}
+		MinecraftInterface sharedView = MinecraftInterfaces.createSharedView(sharedMinecraftInterface);
+		return new RunningLauncherProfile(
+				WorldBuilder.createSilentPlayerless(),
+				launcherProfile,
+				biomeTileCacheDirectory,
+				sharedView,
+				new LoggingMinecraftInterface(sharedView));
+	}
+
+	/**
+	 * Stops the worker processes and releases the biome tile cache. A copy
+	 * does not release anything, because the loaded game belongs to the
+	 * profile it was created from.
+	 */
+	public void dispose() {
+		minecraftInterface.close();
 	}
 
 	/**
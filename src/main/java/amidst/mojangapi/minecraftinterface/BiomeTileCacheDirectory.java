@@ -0,0 +1,156 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.WorldType;
+import amidst.util.CacheDirectories;
+
+/**
+ * Contains one biome tile store file per world. The file name is derived from
+ * the version and a digest of the key, which consists of the version, the
+ * seed, the world type and the generator options. When the files take up more
+ * than the maximum size, the least recently opened files are deleted.
+ */
+@ThreadSafe
+public class BiomeTileCacheDirectory {
+	public static BiomeTileCacheDirectory create(String root) {
+		BiomeTileCacheDirectory result = new BiomeTileCacheDirectory(getRoot(root), true);
+		AmidstLogger.info("using biome tile cache at: '" + result.getRoot() + "'");
+		return result;
+	}
+
+	public static BiomeTileCacheDirectory createDisabled() {
+		return new BiomeTileCacheDirectory(DEFAULT_ROOT_DIRECTORY, false);
+	}
+
+	private static File getRoot(String root) {
+		if (root != null) {
+			return new File(root);
+		} else {
+			return DEFAULT_ROOT_DIRECTORY;
+		}
+	}
+
+	private static final File DEFAULT_ROOT_DIRECTORY = CacheDirectories.get("biome-cache");
+	private static final String FILE_EXTENSION = ".tiles";
+	private static final int TILES_PER_FILE = 2048;
+	private static final long MAX_SIZE_IN_BYTES = 16 * BiomeTileStore.getFileSize(TILES_PER_FILE);
+
+	private final File root;
+	private final boolean isEnabled;
+	private final Set<File> openFiles = new HashSet<>();
+
+	public BiomeTileCacheDirectory(File root, boolean isEnabled) {
+		this.root = root;
+		this.isEnabled = isEnabled;
+	}
+
+	public File getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns null, if the cache is disabled or if the store cannot be opened.
+	 * Each file can only be opened once at a time, so this also returns null,
+	 * if another process uses the store.
+	 */
+	public synchronized BiomeTileStore open(
+			RecognisedVersion recognisedVersion,
+			long seed,
+			WorldType worldType,
+			String generatorOptions) {
+		if (!isEnabled) {
+			return null;
+		}
+		String key = recognisedVersion.getName() + "\n" + seed + "\n" + worldType.getFilenameText() + "\n"
+				+ generatorOptions;
+		byte[] keyDigest = digest(key);
+		if (keyDigest == null) {
+			return null;
+		}
+		File file = new File(root, getFilename(recognisedVersion, keyDigest));
+		if (openFiles.contains(file)) {
+			return null;
+		}
+		try {
+			if (!root.isDirectory() && !root.mkdirs()) {
+				AmidstLogger.warn("unable to create the biome tile cache directory: '" + root + "'");
+				return null;
+			}
+			deleteLeastRecentlyOpenedFiles(file);
+			BiomeTileStore result = BiomeTileStore.open(file, keyDigest, TILES_PER_FILE);
+			if (result == null) {
+				AmidstLogger.info("biome tile store '" + file + "' is used by another process");
+				return null;
+			}
+			file.setLastModified(System.currentTimeMillis());
+			openFiles.add(file);
+			AmidstLogger.info("opened biome tile store '" + file + "' containing " + result.size() + " tiles");
+			return result;
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to open the biome tile store: '" + file + "'");
+			return null;
+		}
+	}
+
+	public synchronized void close(BiomeTileStore store) {
+		openFiles.remove(store.getFile());
+		try {
+			store.close();
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "unable to close the biome tile store: '" + store.getFile() + "'");
+		}
+	}
+
+	/**
+	 * Makes room for the file that is about to be opened.
+	 */
+	private void deleteLeastRecentlyOpenedFiles(File fileToOpen) {
+		File[] files = root.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+		long size = BiomeTileStore.getFileSize(TILES_PER_FILE);
+		for (File file : files) {
+			if (file.equals(fileToOpen) || openFiles.contains(file)) {
+				continue;
+			}
+			size += file.length();
+			if (size > MAX_SIZE_IN_BYTES) {
+				size -= file.length();
+				if (file.delete()) {
+					AmidstLogger.info("deleted biome tile store: '" + file + "'");
+				}
+			}
+		}
+	}
+
+	private String getFilename(RecognisedVersion recognisedVersion, byte[] keyDigest) {
+		StringBuilder result = new StringBuilder(recognisedVersion.getName().replaceAll("[^A-Za-z0-9._-]", "_"));
+		result.append('-');
+		for (int i = 0; i < 8; i++) {
+			result.append(String.format("%02x", keyDigest[i]));
+		}
+		return result.append(FILE_EXTENSION).toString();
+	}
+
+	private byte[] digest(String key) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			AmidstLogger.warn(e, "unable to create the biome tile cache key");
+			return null;
+		}
+	}
+}
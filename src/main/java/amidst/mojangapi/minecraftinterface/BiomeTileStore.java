@@ -0,0 +1,280 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import amidst.documentation.ThreadSafe;
+
+/**
+ * A memory-mapped file that stores the quarter-resolution biome data of whole
+ * fragments for a single world. Each tile is stored with one byte per biome,
+ * so only tiles without biome indices above 255 can be stored.
+ *
+ * The file consists of a header, an index and a fixed number of data slots.
+ * Each index entry contains the tile coordinates and the value of a use
+ * counter when the tile was last read or written. A use counter value of 0
+ * marks an empty slot. When all slots are used, the least recently used tile
+ * is replaced.
+ */
+@ThreadSafe
+public class BiomeTileStore {
+	public static final int TILE_SIZE = 128;
+
+	private static final int MAGIC = 0x414D4254;
+	private static final int FORMAT_VERSION = 1;
+	private static final int KEY_DIGEST_LENGTH = 32;
+	private static final int HEADER_SIZE = 64;
+	private static final int INDEX_ENTRY_SIZE = 16;
+	private static final int TILE_BYTES = TILE_SIZE * TILE_SIZE;
+
+	public static long getFileSize(int capacity) {
+		return HEADER_SIZE + (long) capacity * (INDEX_ENTRY_SIZE + TILE_BYTES);
+	}
+
+	/**
+	 * Opens the store file or creates it, if it does not exist or if it was
+	 * created for a different key or capacity. The file is locked until the
+	 * store is closed. Returns null, if the file is locked by someone else,
+	 * e.g. by another instance of amidst.
+	 */
+	public static BiomeTileStore open(File file, byte[] keyDigest, int capacity) throws IOException {
+		if (keyDigest.length != KEY_DIGEST_LENGTH) {
+			throw new IllegalArgumentException("the key digest must have " + KEY_DIGEST_LENGTH + " bytes");
+		}
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			FileLock lock = tryLock(channel);
+			if (lock == null) {
+				randomAccessFile.close();
+				return null;
+			}
+			long fileSize = getFileSize(capacity);
+			boolean isValid = channel.size() == fileSize;
+			if (!isValid) {
+				randomAccessFile.setLength(0);
+				randomAccessFile.setLength(fileSize);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+			BiomeTileStore result = new BiomeTileStore(file, randomAccessFile, lock, buffer, capacity);
+			if (isValid && result.hasHeader(keyDigest)) {
+				result.readIndex();
+			} else {
+				result.initialize(keyDigest);
+			}
+			return result;
+		} catch (IOException | RuntimeException e) {
+			randomAccessFile.close();
+			throw e;
+		}
+	}
+
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			return null;
+		}
+	}
+
+	private final File file;
+	private final RandomAccessFile randomAccessFile;
+	private final FileLock lock;
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+	private final Map<Long, Integer> slotsByTile = new LinkedHashMap<>(16, 0.75f, true);
+	private final Deque<Integer> freeSlots = new ArrayDeque<>();
+	private final byte[] tileBytes = new byte[TILE_BYTES];
+	private long useCounter = 0;
+	private boolean isClosed = false;
+
+	private BiomeTileStore(
+			File file,
+			RandomAccessFile randomAccessFile,
+			FileLock lock,
+			MappedByteBuffer buffer,
+			int capacity) {
+		this.file = file;
+		this.randomAccessFile = randomAccessFile;
+		this.lock = lock;
+		this.buffer = buffer;
+		this.capacity = capacity;
+	}
+
+	private boolean hasHeader(byte[] keyDigest) {
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || buffer.getInt(8) != capacity) {
+			return false;
+		}
+		for (int i = 0; i < KEY_DIGEST_LENGTH; i++) {
+			if (buffer.get(16 + i) != keyDigest[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void initialize(byte[] keyDigest) {
+		for (int slot = 0; slot < capacity; slot++) {
+			buffer.putLong(getIndexEntryPosition(slot) + 8, 0);
+		}
+		for (int i = 0; i < KEY_DIGEST_LENGTH; i++) {
+			buffer.put(16 + i, keyDigest[i]);
+		}
+		buffer.putInt(8, capacity);
+		buffer.putInt(4, FORMAT_VERSION);
+		buffer.putInt(0, MAGIC);
+		readIndex();
+	}
+
+	private void readIndex() {
+		List<long[]> usedSlots = new ArrayList<>();
+		for (int slot = 0; slot < capacity; slot++) {
+			int position = getIndexEntryPosition(slot);
+			long lastUsed = buffer.getLong(position + 8);
+			if (lastUsed == 0) {
+				freeSlots.add(slot);
+			} else {
+				usedSlots.add(new long[] { lastUsed, slot });
+				useCounter = Math.max(useCounter, lastUsed);
+			}
+		}
+		usedSlots.sort((s1, s2) -> Long.compare(s1[0], s2[0]));
+		for (long[] usedSlot : usedSlots) {
+			int slot = (int) usedSlot[1];
+			int position = getIndexEntryPosition(slot);
+			slotsByTile.put(getTileKey(buffer.getInt(position), buffer.getInt(position + 4)), slot);
+		}
+	}
+
+	/**
+	 * Copies the tile to the result array and returns true, if the tile is
+	 * stored. The biome at (i, j) of the tile is copied to result[offset + i +
+	 * j * stride].
+	 */
+	public synchronized boolean read(int tileX, int tileY, int[] result, int offset, int stride) {
+		if (isClosed) {
+			return false;
+		}
+		Integer slot = slotsByTile.get(getTileKey(tileX, tileY));
+		if (slot == null) {
+			return false;
+		}
+		buffer.position(getDataPosition(slot));
+		buffer.get(tileBytes);
+		for (int j = 0; j < TILE_SIZE; j++) {
+			int rowStart = offset + j * stride;
+			int tileRowStart = j * TILE_SIZE;
+			for (int i = 0; i < TILE_SIZE; i++) {
+				result[rowStart + i] = tileBytes[tileRowStart + i] & 0xFF;
+			}
+		}
+		touch(slot);
+		return true;
+	}
+
+	/**
+	 * Stores the tile, if all biome indices fit into a single byte. The biome
+	 * at (i, j) of the tile is read from biomeData[offset + i + j * stride].
+	 */
+	public synchronized void write(int tileX, int tileY, int[] biomeData, int offset, int stride) {
+		if (isClosed || !toTileBytes(biomeData, offset, stride)) {
+			return;
+		}
+		long tileKey = getTileKey(tileX, tileY);
+		Integer slot = slotsByTile.get(tileKey);
+		if (slot == null) {
+			slot = allocateSlot();
+			slotsByTile.put(tileKey, slot);
+		}
+		int indexPosition = getIndexEntryPosition(slot);
+		// the slot is marked as empty while it is written, so an interrupted
+		// write does not leave a corrupted tile behind
+		buffer.putLong(indexPosition + 8, 0);
+		buffer.position(getDataPosition(slot));
+		buffer.put(tileBytes);
+		buffer.putInt(indexPosition, tileX);
+		buffer.putInt(indexPosition + 4, tileY);
+		touch(slot);
+	}
+
+	/**
+	 * Returns false, if a biome index does not fit into a single byte.
+	 */
+	private boolean toTileBytes(int[] biomeData, int offset, int stride) {
+		for (int j = 0; j < TILE_SIZE; j++) {
+			int rowStart = offset + j * stride;
+			int tileRowStart = j * TILE_SIZE;
+			for (int i = 0; i < TILE_SIZE; i++) {
+				int biomeIndex = biomeData[rowStart + i];
+				if ((biomeIndex & ~0xFF) != 0) {
+					return false;
+				}
+				tileBytes[tileRowStart + i] = (byte) biomeIndex;
+			}
+		}
+		return true;
+	}
+
+	private int allocateSlot() {
+		Integer result = freeSlots.poll();
+		if (result != null) {
+			return result;
+		}
+		Map.Entry<Long, Integer> leastRecentlyUsed = slotsByTile.entrySet().iterator().next();
+		slotsByTile.remove(leastRecentlyUsed.getKey());
+		return leastRecentlyUsed.getValue();
+	}
+
+	private void touch(int slot) {
+		buffer.putLong(getIndexEntryPosition(slot) + 8, ++useCounter);
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	public synchronized int size() {
+		return slotsByTile.size();
+	}
+
+	/**
+	 * Releases the file lock. The file is unmapped when the buffer is garbage
+	 * collected, so this only prevents further access.
+	 */
+	public synchronized void close() throws IOException {
+		if (!isClosed) {
+			isClosed = true;
+			buffer.force();
+			slotsByTile.clear();
+			freeSlots.clear();
+			try {
+				lock.release();
+			} finally {
+				randomAccessFile.close();
+			}
+		}
+	}
+
+	private int getIndexEntryPosition(int slot) {
+		return HEADER_SIZE + slot * INDEX_ENTRY_SIZE;
+	}
+
+	private int getDataPosition(int slot) {
+		return HEADER_SIZE + capacity * INDEX_ENTRY_SIZE + slot * TILE_BYTES;
+	}
+
+	private static long getTileKey(int tileX, int tileY) {
+		return ((long) tileX << 32) | (tileY & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,101 @@
+package amidst.mojangapi.minecraftinterface;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Stores the quarter-resolution biome data of whole fragments on disk, so
+ * revisiting a world does not need to run the biome generator again. All other
+ * requests are passed to the inner minecraft interface.
+ *
+ * Like the inner minecraft interface, the returned array is only valid until
+ * the next call of getBiomeData by the same thread.
+ */
+@ThreadSafe
+public class CachingMinecraftInterface implements MinecraftInterface {
+	private static final int TILE_SIZE = BiomeTileStore.TILE_SIZE;
+
+	private final MinecraftInterface inner;
+	private final BiomeTileCacheDirectory directory;
+	private final ThreadLocal<int[]> tileArray = ThreadLocal.withInitial(() -> new int[TILE_SIZE * TILE_SIZE]);
+	private volatile BiomeTileStore store = null;
+
+	public CachingMinecraftInterface(MinecraftInterface minecraftInterface, BiomeTileCacheDirectory directory) {
+		this.inner = minecraftInterface;
+		this.directory = directory;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		if (useQuarterResolution && isTile(x, y, width, height)) {
+			int[] result = tileArray.get();
+			getBiomeData(x, y, width, height, useQuarterResolution, result, 0, TILE_SIZE);
+			return result;
+		} else {
+			return inner.getBiomeData(x, y, width, height, useQuarterResolution);
+		}
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		BiomeTileStore store = this.store;
+		if (store != null && useQuarterResolution && isTile(x, y, width, height)) {
+			int tileX = x / TILE_SIZE;
+			int tileY = y / TILE_SIZE;
+			if (!store.read(tileX, tileY, result, offset, stride)) {
+				inner.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+				store.write(tileX, tileY, result, offset, stride);
+			}
+		} else {
+			inner.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+		}
+	}
+
+	private boolean isTile(int x, int y, int width, int height) {
+		return width == TILE_SIZE && height == TILE_SIZE && x % TILE_SIZE == 0 && y % TILE_SIZE == 0;
+	}
+
+	/**
+	 * Biome data that is still being generated for the previous world is
+	 * written to the store that was used when the request started, which is
+	 * already closed.
+	 */
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		BiomeTileStore previous = store;
+		store = null;
+		if (previous != null) {
+			directory.close(previous);
+		}
+		inner.createWorld(seed, worldType, generatorOptions);
+		RecognisedVersion recognisedVersion = inner.getRecognisedVersion();
+		if (recognisedVersion.isKnown()) {
+			store = directory.open(recognisedVersion, seed, worldType, generatorOptions);
+		}
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return inner.getRecognisedVersion();
+	}
+
+	@Override
+	public synchronized void close() {
+		BiomeTileStore previous = store;
+		store = null;
+		if (previous != null) {
+			directory.close(previous);
+		}
+		inner.close();
+	}
+}
@@ -18,6 +18,19 @@ public class LoggingMinecraftInterface implements MinecraftInterface {
 		return inner.getBiomeData(x, y, width, height, useQuarterResolution);
 	}
 
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		inner.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+	}
+
 	@Override
 	public void createWorld(long seed, WorldType worldType, String generatorOptions)
 			throws MinecraftInterfaceException {
@@ -31,4 +44,9 @@ public class LoggingMinecraftInterface implements MinecraftInterface {
 		return inner.getRecognisedVersion();
 	}
 
+	@Override
+	public void close() {
+		inner.close();
+	}
+
 }
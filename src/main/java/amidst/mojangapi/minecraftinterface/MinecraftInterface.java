@@ -34,7 +34,32 @@ public interface MinecraftInterface {
 	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException;
 
+	/**
+	 * Writes the biome data to the given array instead of returning an array
+	 * that belongs to the minecraft interface, so the caller can reuse its own
+	 * array. The biome at (x + i, y + j) is written to result[offset + i + j *
+	 * stride].
+	 * 
+	 * @see #getBiomeData(int, int, int, int, boolean)
+	 */
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException;
+
 	public void createWorld(long seed, WorldType worldType, String generatorOptions) throws MinecraftInterfaceException;
 
 	public RecognisedVersion getRecognisedVersion();
+
+	/**
+	 * Releases the resources that are held by the minecraft interface, e.g.
+	 * worker processes. The minecraft interface must not be used afterwards.
+	 */
+	public default void close() {
+	}
 }
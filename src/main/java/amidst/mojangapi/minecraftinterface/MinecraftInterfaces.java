@@ -1,41 +1,202 @@
 package amidst.mojangapi.minecraftinterface;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import amidst.clazz.ClassTranslationCache;
 import amidst.clazz.Classes;
 import amidst.clazz.real.JarFileParsingException;
 import amidst.clazz.symbolic.SymbolicClass;
 import amidst.clazz.symbolic.SymbolicClassGraphCreationException;
+import amidst.clazz.symbolic.declaration.SymbolicClassDeclaration;
 import amidst.clazz.translator.ClassTranslator;
 import amidst.documentation.NotNull;
 import amidst.logging.AmidstLogger;
 import amidst.mojangapi.file.LauncherProfile;
+import amidst.mojangapi.minecraftinterface.layerstack.LayerStackMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.legacy.LegacyClassTranslator;
 import amidst.mojangapi.minecraftinterface.legacy.LegacyMinecraftInterface;
 import amidst.mojangapi.minecraftinterface.local.DefaultClassTranslator;
 import amidst.mojangapi.minecraftinterface.local.LocalMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.worker.WorkerProcessMain;
+import amidst.mojangapi.minecraftinterface.worker.WorkerProcessMinecraftInterface;
 
 public enum MinecraftInterfaces {
 	;
 	
 	private static final RecognisedVersion LAST_LEGACY_VERSION = RecognisedVersion._18w05a;
+	private static final int MAX_DEFAULT_NUMBER_OF_INSTANCES = 4;
 	
+	/**
+	 * Always loads the game, e.g. to generate the test data that the built-in
+	 * biome generator is verified against.
+	 */
 	@NotNull
 	public static MinecraftInterface fromLocalProfile(LauncherProfile launcherProfile)
 			throws MinecraftInterfaceCreationException {
-		
+		return fromLocalProfile(launcherProfile, ClassTranslationCache.createDefault(), 1, false, false);
+	}
+	
+	/**
+	 * Loads the jar file once per instance, each time with a new class loader,
+	 * so the instances can generate biome data at the same time. The jar file
+	 * is only parsed once.
+	 * 
+	 * @param classTranslationCache Stores the real class names that are found
+	 *            in the jar file, so it is not parsed again the next time.
+	 * @param numberOfInstances Each instance holds its own copy of the game in
+	 *            memory. Values lower than 1 use one instance per available
+	 *            processor, but at most
+	 *            {@value #MAX_DEFAULT_NUMBER_OF_INSTANCES}.
+	 * @param useBuiltInBiomeGenerator If true, versions that are supported by
+	 *            the {@link LayerStackMinecraftInterface} only load the game
+	 *            for worlds with generator options, because it generates the
+	 *            same biome data without the game and without a limit on the
+	 *            number of threads.
+	 * @param useWorkerProcesses If true, each instance loads the game in its
+	 *            own worker process instead of in this JVM.
+	 */
+	@NotNull
+	public static MinecraftInterface fromLocalProfile(
+			LauncherProfile launcherProfile,
+			ClassTranslationCache classTranslationCache,
+			int numberOfInstances,
+			boolean useBuiltInBiomeGenerator,
+			boolean useWorkerProcesses) throws MinecraftInterfaceCreationException {
 		try {
 			URLClassLoader classLoader = launcherProfile.newClassLoader();
 			RecognisedVersion recognisedVersion = RecognisedVersion.from(classLoader);
+			if (useBuiltInBiomeGenerator && LayerStackMinecraftInterface.isSupported(recognisedVersion)) {
+				AmidstLogger.info("Using the built-in biome generator for version {}.", recognisedVersion.getName());
+				return new LayerStackMinecraftInterface(
+						recognisedVersion,
+						() -> fromGame(
+								launcherProfile,
+								classTranslationCache,
+								classLoader,
+								recognisedVersion,
+								numberOfInstances,
+								useWorkerProcesses));
+			}
+			return fromGame(
+					launcherProfile,
+					classTranslationCache,
+					classLoader,
+					recognisedVersion,
+					numberOfInstances,
+					useWorkerProcesses);
+		} catch (ClassNotFoundException | IOException e) {
+			throw new MinecraftInterfaceCreationException("unable to create local minecraft interface", e);
+		}
+	}
+	
+	/**
+	 * Returns a minecraft interface that can work with another world at the
+	 * same time as the given one, without loading the game again.
+	 * 
+	 * @param minecraftInterface A minecraft interface that was returned by
+	 *            {@link #fromLocalProfile(LauncherProfile, ClassTranslationCache, int, boolean, boolean)}
+	 */
+	@NotNull
+	public static MinecraftInterface createSharedView(MinecraftInterface minecraftInterface) {
+		if (minecraftInterface instanceof PooledMinecraftInterface) {
+			return ((PooledMinecraftInterface) minecraftInterface).createSharedView();
+		} else if (minecraftInterface instanceof LayerStackMinecraftInterface) {
+			return ((LayerStackMinecraftInterface) minecraftInterface).createSharedView();
+		} else {
+			throw new IllegalArgumentException("unable to share the minecraft interface: " + minecraftInterface);
+		}
+	}
+	
+	/**
+	 * The instances are always pooled, even if there is only one of them, so
+	 * they can be shared.
+	 */
+	private static PooledMinecraftInterface fromGame(
+			LauncherProfile launcherProfile,
+			ClassTranslationCache classTranslationCache,
+			URLClassLoader classLoader,
+			RecognisedVersion recognisedVersion,
+			int numberOfInstances,
+			boolean useWorkerProcesses) throws MinecraftInterfaceCreationException {
+		numberOfInstances = getNumberOfInstances(numberOfInstances);
+		try {
+			if (useWorkerProcesses) {
+				return fromWorkerProcesses(
+						launcherProfile.getJar(),
+						classTranslationCache,
+						classLoader,
+						recognisedVersion,
+						numberOfInstances);
+			}
 			ClassTranslator translator = getClassTranslatorFromVersion(recognisedVersion);
-			Map<String, SymbolicClass> symbolicClassMap = Classes
-					.createSymbolicClassMap(launcherProfile.getJar(), classLoader, translator);
-			MinecraftInterface minecraftInterface = fromSymbolicMapAndVersion(symbolicClassMap, recognisedVersion);
+			Map<SymbolicClassDeclaration, String> realClassNames = Classes
+					.findRealClassNames(launcherProfile.getJar(), translator, classTranslationCache, classLoader);
+			List<MinecraftInterface> instances = new ArrayList<>(numberOfInstances);
+			for (int i = 0; i < numberOfInstances; i++) {
+				if (i > 0) {
+					classLoader = launcherProfile.newClassLoader();
+				}
+				Map<String, SymbolicClass> symbolicClassMap = Classes
+						.createSymbolicClassMap(realClassNames, classLoader);
+				instances.add(fromSymbolicMapAndVersion(symbolicClassMap, recognisedVersion));
+			}
 			
 			AmidstLogger.info("Minecraft load complete.");
-			return minecraftInterface;
+			if (instances.size() > 1) {
+				AmidstLogger.info("Using {} isolated minecraft instances.", instances.size());
+			}
+			return new PooledMinecraftInterface(instances);
+		} catch (
+				ClassNotFoundException
+				| JarFileParsingException
+				| SymbolicClassGraphCreationException
+				| IOException e) {
+			throw new MinecraftInterfaceCreationException("unable to create local minecraft interface", e);
+		}
+	}
+	
+	/**
+	 * The worker processes load the game at the same time, when the first
+	 * world is created.
+	 */
+	private static PooledMinecraftInterface fromWorkerProcesses(
+			File jar,
+			ClassTranslationCache classTranslationCache,
+			URLClassLoader classLoader,
+			RecognisedVersion recognisedVersion,
+			int numberOfInstances) {
+		List<String> command = WorkerProcessMain
+				.createCommand(jar, classTranslationCache.getRoot(), classLoader.getURLs());
+		List<MinecraftInterface> instances = new ArrayList<>(numberOfInstances);
+		for (int i = 0; i < numberOfInstances; i++) {
+			instances.add(new WorkerProcessMinecraftInterface(command, recognisedVersion));
+		}
+		AmidstLogger.info("Using {} minecraft worker processes.", instances.size());
+		return new PooledMinecraftInterface(instances);
+	}
+	
+	/**
+	 * Loads the game with the given class loader. This is used by the worker
+	 * processes.
+	 */
+	@NotNull
+	public static MinecraftInterface fromClassLoader(
+			URLClassLoader classLoader,
+			File jar,
+			ClassTranslationCache classTranslationCache) throws MinecraftInterfaceCreationException {
+		try {
+			RecognisedVersion recognisedVersion = RecognisedVersion.from(classLoader);
+			ClassTranslator translator = getClassTranslatorFromVersion(recognisedVersion);
+			Map<SymbolicClassDeclaration, String> realClassNames = Classes
+					.findRealClassNames(jar, translator, classTranslationCache, classLoader);
+			Map<String, SymbolicClass> symbolicClassMap = Classes.createSymbolicClassMap(realClassNames, classLoader);
+			AmidstLogger.info("Minecraft load complete.");
+			return fromSymbolicMapAndVersion(symbolicClassMap, recognisedVersion);
 		} catch (
 				ClassNotFoundException
 				| JarFileParsingException
@@ -45,6 +206,14 @@ public enum MinecraftInterfaces {
 		}
 	}
 	
+	private static int getNumberOfInstances(int numberOfInstances) {
+		if (numberOfInstances < 1) {
+			return Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_NUMBER_OF_INSTANCES);
+		} else {
+			return numberOfInstances;
+		}
+	}
+	
 	public static ClassTranslator getClassTranslatorFromVersion(RecognisedVersion version) {
 		if(isLegacyVersion(version)) {
 			return LegacyClassTranslator.INSTANCE.get();
@@ -0,0 +1,298 @@
+package amidst.mojangapi.minecraftinterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Dispatches the biome data requests to a fixed number of minecraft
+ * interfaces. Each of them is loaded by its own class loader, so they do not
+ * share any state and can generate biome data at the same time. Each minecraft
+ * interface is only used by one thread at a time.
+ *
+ * The biome data is written to an array of the requesting thread, so it stays
+ * valid until the next call of getBiomeData by the same thread, even when
+ * another thread uses the same minecraft interface in the meantime.
+ *
+ * Shared views use the same minecraft interfaces, but each of them has its own
+ * world. When a minecraft interface was last used for the world of another
+ * view, it creates the world of the requesting view again. To keep this rare,
+ * each view prefers the free minecraft interfaces it used last, and a shared
+ * view only creates its world on the minecraft interface it acquires. So a
+ * shared view that creates many worlds, like the one of the seed searcher,
+ * usually only recreates the world of a single minecraft interface. Only the
+ * pool that created the views closes the minecraft interfaces.
+ */
+@ThreadSafe
+public class PooledMinecraftInterface implements MinecraftInterface {
+	/**
+	 * Each call of createWorld creates new world parameters, so they are
+	 * compared by identity.
+	 */
+	@Immutable
+	private static class WorldParameters {
+		private final PooledMinecraftInterface owner;
+		private final long seed;
+		private final WorldType worldType;
+		private final String generatorOptions;
+
+		public WorldParameters(
+				PooledMinecraftInterface owner,
+				long seed,
+				WorldType worldType,
+				String generatorOptions) {
+			this.owner = owner;
+			this.seed = seed;
+			this.worldType = worldType;
+			this.generatorOptions = generatorOptions;
+		}
+	}
+
+	private final List<MinecraftInterface> instances;
+	private final BlockingQueue<MinecraftInterface> freeInstances;
+	private final Map<MinecraftInterface, WorldParameters> worldsOfInstances;
+	private final ExecutorService createWorldExecutor;
+	private final boolean isSharedView;
+	private final ThreadLocal<int[]> dataArray = ThreadLocal.withInitial(() -> new int[256]);
+	private volatile WorldParameters world = null;
+
+	public PooledMinecraftInterface(List<MinecraftInterface> instances) {
+		this(
+				checkNotEmpty(instances),
+				new ArrayBlockingQueue<>(instances.size(), false, instances),
+				new ConcurrentHashMap<>(),
+				createCreateWorldExecutor(),
+				false);
+	}
+
+	private PooledMinecraftInterface(
+			List<MinecraftInterface> instances,
+			BlockingQueue<MinecraftInterface> freeInstances,
+			Map<MinecraftInterface, WorldParameters> worldsOfInstances,
+			ExecutorService createWorldExecutor,
+			boolean isSharedView) {
+		this.instances = instances;
+		this.freeInstances = freeInstances;
+		this.worldsOfInstances = worldsOfInstances;
+		this.createWorldExecutor = createWorldExecutor;
+		this.isSharedView = isSharedView;
+	}
+
+	private static List<MinecraftInterface> checkNotEmpty(List<MinecraftInterface> instances) {
+		if (instances.isEmpty()) {
+			throw new IllegalArgumentException("the pool needs at least one minecraft interface");
+		}
+		return instances;
+	}
+
+	private static ExecutorService createCreateWorldExecutor() {
+		return Executors.newCachedThreadPool(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "CreateWorld");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Returns a minecraft interface that uses the same minecraft interfaces,
+	 * but that can work with another world at the same time.
+	 */
+	public PooledMinecraftInterface createSharedView() {
+		return new PooledMinecraftInterface(instances, freeInstances, worldsOfInstances, createWorldExecutor, true);
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = ensureArrayCapacity(width * height);
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		MinecraftInterface instance = acquire();
+		try {
+			ensureWorld(instance);
+			instance.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+		} finally {
+			freeInstances.add(instance);
+		}
+	}
+
+	private void ensureWorld(MinecraftInterface instance) throws MinecraftInterfaceException {
+		WorldParameters world = this.world;
+		if (world != null && worldsOfInstances.get(instance) != world) {
+			worldsOfInstances.remove(instance);
+			instance.createWorld(world.seed, world.worldType, world.generatorOptions);
+			worldsOfInstances.put(instance, world);
+		}
+	}
+
+	/**
+	 * A shared view only creates the world on one minecraft interface. The
+	 * pool waits until all minecraft interfaces are free, so no biome data of
+	 * the previous world is generated while the worlds are created. The worlds
+	 * are created in parallel, because the first world of each minecraft
+	 * interface also initializes the game.
+	 */
+	@Override
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		WorldParameters world = new WorldParameters(this, seed, worldType, generatorOptions);
+		if (isSharedView) {
+			this.world = world;
+			MinecraftInterface instance = acquire();
+			try {
+				ensureWorld(instance);
+			} finally {
+				freeInstances.add(instance);
+			}
+		} else {
+			createWorldOnAllInstances(world);
+		}
+	}
+
+	private synchronized void createWorldOnAllInstances(WorldParameters world) throws MinecraftInterfaceException {
+		List<MinecraftInterface> acquired = new ArrayList<>(instances.size());
+		try {
+			while (acquired.size() < instances.size()) {
+				acquired.add(acquire());
+			}
+			this.world = world;
+			List<Future<Void>> futures = new ArrayList<>(instances.size());
+			for (MinecraftInterface instance : instances) {
+				worldsOfInstances.remove(instance);
+				futures.add(createWorldExecutor.submit(() -> {
+					instance.createWorld(world.seed, world.worldType, world.generatorOptions);
+					worldsOfInstances.put(instance, world);
+					return null;
+				}));
+			}
+			MinecraftInterfaceException exception = null;
+			for (Future<Void> future : futures) {
+				Throwable cause = getUninterruptibly(future);
+				if (cause != null && exception == null) {
+					exception = toMinecraftInterfaceException(cause);
+				}
+			}
+			if (exception != null) {
+				throw exception;
+			}
+		} finally {
+			freeInstances.addAll(acquired);
+		}
+	}
+
+	/**
+	 * The minecraft interface must not be released while its world is still
+	 * being created. Returns the exception that was thrown by the task or
+	 * null.
+	 */
+	private Throwable getUninterruptibly(Future<Void> future) {
+		boolean isInterrupted = false;
+		try {
+			while (true) {
+				try {
+					future.get();
+					return null;
+				} catch (InterruptedException e) {
+					isInterrupted = true;
+				} catch (ExecutionException e) {
+					return e.getCause();
+				}
+			}
+		} finally {
+			if (isInterrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private MinecraftInterfaceException toMinecraftInterfaceException(Throwable cause) {
+		if (cause instanceof MinecraftInterfaceException) {
+			return (MinecraftInterfaceException) cause;
+		} else {
+			return new MinecraftInterfaceException("unable to create world", cause);
+		}
+	}
+
+	private MinecraftInterface acquire() throws MinecraftInterfaceException {
+		MinecraftInterface result = pollPreferred();
+		if (result != null) {
+			return result;
+		}
+		try {
+			return freeInstances.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MinecraftInterfaceException("interrupted while waiting for a free minecraft interface", e);
+		}
+	}
+
+	/**
+	 * Returns a free minecraft interface that was last used for a world of
+	 * this view or null, if there is none.
+	 */
+	private MinecraftInterface pollPreferred() {
+		for (MinecraftInterface instance : freeInstances) {
+			WorldParameters world = worldsOfInstances.get(instance);
+			if (world != null && world.owner == this && freeInstances.remove(instance)) {
+				return instance;
+			}
+		}
+		return null;
+	}
+
+	private int[] ensureArrayCapacity(int length) {
+		int[] data = dataArray.get();
+		int cur = data.length;
+		if (length <= cur)
+			return data;
+
+		while (cur < length)
+			cur *= 2;
+
+		data = new int[cur];
+		dataArray.set(data);
+		return data;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return instances.get(0).getRecognisedVersion();
+	}
+
+	@Override
+	public void close() {
+		if (!isSharedView) {
+			createWorldExecutor.shutdown();
+			for (MinecraftInterface instance : instances) {
+				instance.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Grows land into the ocean and erodes coasts, based on the diagonal
+ * neighbors.
+ */
+@Immutable
+class AddIslandLayer extends Layer {
+	private final Layer parent;
+
+	AddIslandLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int topLeft = parentInts[i + j * parentWidth];
+				int topRight = parentInts[i + 2 + j * parentWidth];
+				int bottomLeft = parentInts[i + (j + 2) * parentWidth];
+				int bottomRight = parentInts[i + 2 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				if (center != 0 || (topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0)) {
+					if (center > 0 && (topLeft == 0 || topRight == 0 || bottomLeft == 0 || bottomRight == 0)) {
+						if (context.nextInt(5) == 0) {
+							result[i + j * width] = center == 4 ? 4 : 0;
+						} else {
+							result[i + j * width] = center;
+						}
+					} else {
+						result[i + j * width] = center;
+					}
+				} else {
+					int bound = 1;
+					int land = 1;
+					if (topLeft != 0 && context.nextInt(bound++) == 0) {
+						land = topLeft;
+					}
+					if (topRight != 0 && context.nextInt(bound++) == 0) {
+						land = topRight;
+					}
+					if (bottomLeft != 0 && context.nextInt(bound++) == 0) {
+						land = bottomLeft;
+					}
+					if (bottomRight != 0 && context.nextInt(bound++) == 0) {
+						land = bottomRight;
+					}
+					if (context.nextInt(3) == 0) {
+						result[i + j * width] = land;
+					} else if (land == 4) {
+						result[i + j * width] = 4;
+					} else {
+						result[i + j * width] = 0;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,41 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Places a mushroom island on 1/100 of the ocean cells that are surrounded by
+ * ocean.
+ */
+@Immutable
+class AddMushroomIslandLayer extends Layer {
+	private final Layer parent;
+
+	AddMushroomIslandLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int topLeft = parentInts[i + j * parentWidth];
+				int topRight = parentInts[i + 2 + j * parentWidth];
+				int bottomLeft = parentInts[i + (j + 2) * parentWidth];
+				int bottomRight = parentInts[i + 2 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				if (center == 0 && topLeft == 0 && topRight == 0 && bottomLeft == 0 && bottomRight == 0
+						&& context.nextInt(100) == 0) {
+					result[i + j * width] = BiomeIds.MUSHROOM_ISLAND;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
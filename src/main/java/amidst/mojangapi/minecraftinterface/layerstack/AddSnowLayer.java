@@ -0,0 +1,42 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Assigns a climate to the land: warm (1), cold (3) or freezing (4).
+ */
+@Immutable
+class AddSnowLayer extends Layer {
+	private final Layer parent;
+
+	AddSnowLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				if (center == 0) {
+					result[i + j * width] = 0;
+				} else {
+					int climate = context.nextInt(6);
+					if (climate == 0) {
+						result[i + j * width] = 4;
+					} else if (climate <= 1) {
+						result[i + j * width] = 3;
+					} else {
+						result[i + j * width] = 1;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
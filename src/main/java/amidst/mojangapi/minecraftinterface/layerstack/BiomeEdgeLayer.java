@@ -0,0 +1,76 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static amidst.mojangapi.minecraftinterface.layerstack.BiomeIds.*;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Adds edge biomes between biomes that should not touch each other.
+ */
+@Immutable
+class BiomeEdgeLayer extends Layer {
+	private final Layer parent;
+
+	BiomeEdgeLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int north = parentInts[i + 1 + j * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				result[i + j * width] = getBiome(north, east, west, south, center);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int north, int east, int west, int south, int center) {
+		if (areSimilar(center, EXTREME_HILLS)) {
+			if (canBeNeighbors(north, EXTREME_HILLS) && canBeNeighbors(east, EXTREME_HILLS)
+					&& canBeNeighbors(west, EXTREME_HILLS) && canBeNeighbors(south, EXTREME_HILLS)) {
+				return center;
+			} else {
+				return EXTREME_HILLS_EDGE;
+			}
+		} else if (center == MESA_PLATEAU_F || center == MESA_PLATEAU || center == MEGA_TAIGA) {
+			int edge = center == MEGA_TAIGA ? TAIGA : MESA;
+			if (areSimilar(north, center) && areSimilar(east, center) && areSimilar(west, center)
+					&& areSimilar(south, center)) {
+				return center;
+			} else {
+				return edge;
+			}
+		} else if (center == DESERT) {
+			if (north == ICE_PLAINS || east == ICE_PLAINS || west == ICE_PLAINS || south == ICE_PLAINS) {
+				return EXTREME_HILLS_PLUS;
+			} else {
+				return center;
+			}
+		} else if (center == SWAMPLAND) {
+			if (isAny(DESERT, north, east, west, south) || isAny(COLD_TAIGA, north, east, west, south)
+					|| isAny(ICE_PLAINS, north, east, west, south)) {
+				return PLAINS;
+			} else if (isAny(JUNGLE, north, east, west, south)) {
+				return JUNGLE_EDGE;
+			} else {
+				return center;
+			}
+		} else {
+			return center;
+		}
+	}
+
+	private static boolean isAny(int biome, int north, int east, int west, int south) {
+		return north == biome || east == biome || west == biome || south == biome;
+	}
+}
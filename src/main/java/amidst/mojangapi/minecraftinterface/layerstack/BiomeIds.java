@@ -0,0 +1,209 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The biome ids and the biome properties that are used by the layers. Biomes
+ * that are implemented by the same class in the game belong to the same
+ * family. A mutated biome has the id of its base biome plus 128 and behaves
+ * like its base biome, except for the id.
+ */
+@Immutable
+enum BiomeIds {
+	;
+
+	// @formatter:off
+	static final int OCEAN                 =  0;
+	static final int PLAINS                =  1;
+	static final int DESERT                =  2;
+	static final int EXTREME_HILLS         =  3;
+	static final int FOREST                =  4;
+	static final int TAIGA                 =  5;
+	static final int SWAMPLAND             =  6;
+	static final int RIVER                 =  7;
+	static final int HELL                  =  8;
+	static final int SKY                   =  9;
+	static final int FROZEN_OCEAN          = 10;
+	static final int FROZEN_RIVER          = 11;
+	static final int ICE_PLAINS            = 12;
+	static final int ICE_MOUNTAINS         = 13;
+	static final int MUSHROOM_ISLAND       = 14;
+	static final int MUSHROOM_ISLAND_SHORE = 15;
+	static final int BEACH                 = 16;
+	static final int DESERT_HILLS          = 17;
+	static final int FOREST_HILLS          = 18;
+	static final int TAIGA_HILLS           = 19;
+	static final int EXTREME_HILLS_EDGE    = 20;
+	static final int JUNGLE                = 21;
+	static final int JUNGLE_HILLS          = 22;
+	static final int JUNGLE_EDGE           = 23;
+	static final int DEEP_OCEAN            = 24;
+	static final int STONE_BEACH           = 25;
+	static final int COLD_BEACH            = 26;
+	static final int BIRCH_FOREST          = 27;
+	static final int BIRCH_FOREST_HILLS    = 28;
+	static final int ROOFED_FOREST         = 29;
+	static final int COLD_TAIGA            = 30;
+	static final int COLD_TAIGA_HILLS      = 31;
+	static final int MEGA_TAIGA            = 32;
+	static final int MEGA_TAIGA_HILLS      = 33;
+	static final int EXTREME_HILLS_PLUS    = 34;
+	static final int SAVANNA               = 35;
+	static final int SAVANNA_PLATEAU       = 36;
+	static final int MESA                  = 37;
+	static final int MESA_PLATEAU_F        = 38;
+	static final int MESA_PLATEAU          = 39;
+	// @formatter:on
+
+	static final int MUTATION_OFFSET = 128;
+
+	/**
+	 * Corresponds to the biome classes of the game.
+	 */
+	private enum Family {
+		OCEAN, PLAINS, DESERT, HILLS, FOREST, TAIGA, SWAMP, RIVER, HELL, END, SNOW, MUSHROOM_ISLAND, BEACH, JUNGLE,
+		STONE_BEACH, SAVANNA, MESA;
+	}
+
+	private enum TemperatureCategory {
+		OCEAN, COLD, MEDIUM, WARM;
+	}
+
+	private static final Family[] FAMILIES = new Family[256];
+	private static final TemperatureCategory[] TEMPERATURE_CATEGORIES = new TemperatureCategory[256];
+	private static final boolean[] IS_SNOWY = new boolean[256];
+
+	static {
+		// @formatter:off
+		register(OCEAN,                 Family.OCEAN,             TemperatureCategory.OCEAN,   false);
+		register(PLAINS,                Family.PLAINS,            TemperatureCategory.MEDIUM,  false);
+		register(DESERT,                Family.DESERT,            TemperatureCategory.WARM,    false);
+		register(EXTREME_HILLS,         Family.HILLS,             TemperatureCategory.MEDIUM,  false);
+		register(FOREST,                Family.FOREST,            TemperatureCategory.MEDIUM,  false);
+		register(TAIGA,                 Family.TAIGA,             TemperatureCategory.MEDIUM,  false);
+		register(SWAMPLAND,             Family.SWAMP,             TemperatureCategory.MEDIUM,  false);
+		register(RIVER,                 Family.RIVER,             TemperatureCategory.MEDIUM,  false);
+		register(HELL,                  Family.HELL,              TemperatureCategory.WARM,    false);
+		register(SKY,                   Family.END,               TemperatureCategory.MEDIUM,  false);
+		register(FROZEN_OCEAN,          Family.OCEAN,             TemperatureCategory.OCEAN,   true);
+		register(FROZEN_RIVER,          Family.RIVER,             TemperatureCategory.COLD,    true);
+		register(ICE_PLAINS,            Family.SNOW,              TemperatureCategory.COLD,    true);
+		register(ICE_MOUNTAINS,         Family.SNOW,              TemperatureCategory.COLD,    true);
+		register(MUSHROOM_ISLAND,       Family.MUSHROOM_ISLAND,   TemperatureCategory.MEDIUM,  false);
+		register(MUSHROOM_ISLAND_SHORE, Family.MUSHROOM_ISLAND,   TemperatureCategory.MEDIUM,  false);
+		register(BEACH,                 Family.BEACH,             TemperatureCategory.MEDIUM,  false);
+		register(DESERT_HILLS,          Family.DESERT,            TemperatureCategory.WARM,    false);
+		register(FOREST_HILLS,          Family.FOREST,            TemperatureCategory.MEDIUM,  false);
+		register(TAIGA_HILLS,           Family.TAIGA,             TemperatureCategory.MEDIUM,  false);
+		register(EXTREME_HILLS_EDGE,    Family.HILLS,             TemperatureCategory.MEDIUM,  false);
+		register(JUNGLE,                Family.JUNGLE,            TemperatureCategory.MEDIUM,  false);
+		register(JUNGLE_HILLS,          Family.JUNGLE,            TemperatureCategory.MEDIUM,  false);
+		register(JUNGLE_EDGE,           Family.JUNGLE,            TemperatureCategory.MEDIUM,  false);
+		register(DEEP_OCEAN,            Family.OCEAN,             TemperatureCategory.OCEAN,   false);
+		register(STONE_BEACH,           Family.STONE_BEACH,       TemperatureCategory.MEDIUM,  false);
+		register(COLD_BEACH,            Family.BEACH,             TemperatureCategory.COLD,    true);
+		register(BIRCH_FOREST,          Family.FOREST,            TemperatureCategory.MEDIUM,  false);
+		register(BIRCH_FOREST_HILLS,    Family.FOREST,            TemperatureCategory.MEDIUM,  false);
+		register(ROOFED_FOREST,         Family.FOREST,            TemperatureCategory.MEDIUM,  false);
+		register(COLD_TAIGA,            Family.TAIGA,             TemperatureCategory.COLD,    true);
+		register(COLD_TAIGA_HILLS,      Family.TAIGA,             TemperatureCategory.COLD,    true);
+		register(MEGA_TAIGA,            Family.TAIGA,             TemperatureCategory.MEDIUM,  false);
+		register(MEGA_TAIGA_HILLS,      Family.TAIGA,             TemperatureCategory.MEDIUM,  false);
+		register(EXTREME_HILLS_PLUS,    Family.HILLS,             TemperatureCategory.MEDIUM,  false);
+		register(SAVANNA,               Family.SAVANNA,           TemperatureCategory.WARM,    false);
+		register(SAVANNA_PLATEAU,       Family.SAVANNA,           TemperatureCategory.WARM,    false);
+		register(MESA,                  Family.MESA,              TemperatureCategory.WARM,    false);
+		register(MESA_PLATEAU_F,        Family.MESA,              TemperatureCategory.WARM,    false);
+		register(MESA_PLATEAU,          Family.MESA,              TemperatureCategory.WARM,    false);
+		// @formatter:on
+		int[] mutatedBiomes = {
+				PLAINS,
+				DESERT,
+				EXTREME_HILLS,
+				FOREST,
+				TAIGA,
+				SWAMPLAND,
+				ICE_PLAINS,
+				JUNGLE,
+				JUNGLE_EDGE,
+				BIRCH_FOREST,
+				BIRCH_FOREST_HILLS,
+				ROOFED_FOREST,
+				COLD_TAIGA,
+				MEGA_TAIGA,
+				MEGA_TAIGA_HILLS,
+				EXTREME_HILLS_PLUS,
+				SAVANNA,
+				SAVANNA_PLATEAU,
+				MESA,
+				MESA_PLATEAU_F,
+				MESA_PLATEAU };
+		for (int id : mutatedBiomes) {
+			register(id + MUTATION_OFFSET, FAMILIES[id], TEMPERATURE_CATEGORIES[id], IS_SNOWY[id]);
+		}
+	}
+
+	private static void register(
+			int id,
+			Family family,
+			TemperatureCategory temperatureCategory,
+			boolean isSnowy) {
+		FAMILIES[id] = family;
+		TEMPERATURE_CATEGORIES[id] = temperatureCategory;
+		IS_SNOWY[id] = isSnowy;
+	}
+
+	private static boolean exists(int id) {
+		return id >= 0 && id < FAMILIES.length && FAMILIES[id] != null;
+	}
+
+	static boolean hasMutation(int id) {
+		return id >= 0 && id < MUTATION_OFFSET && exists(id + MUTATION_OFFSET);
+	}
+
+	static boolean isOceanic(int id) {
+		return id == OCEAN || id == DEEP_OCEAN || id == FROZEN_OCEAN;
+	}
+
+	static boolean isSnowy(int id) {
+		return exists(id) && IS_SNOWY[id];
+	}
+
+	static boolean isJungle(int id) {
+		return exists(id) && FAMILIES[id] == Family.JUNGLE;
+	}
+
+	static boolean isMesa(int id) {
+		return exists(id) && FAMILIES[id] == Family.MESA;
+	}
+
+	static boolean isMesaPlateau(int id) {
+		return id == MESA_PLATEAU_F || id == MESA_PLATEAU;
+	}
+
+	/**
+	 * Corresponds to GenLayer.biomesEqualOrMesaPlateau of the game.
+	 */
+	static boolean areSimilar(int id1, int id2) {
+		if (id1 == id2) {
+			return true;
+		} else if (isMesaPlateau(id1)) {
+			return isMesaPlateau(id2);
+		} else {
+			return exists(id1) && exists(id2) && FAMILIES[id1] == FAMILIES[id2];
+		}
+	}
+
+	static boolean canBeNeighbors(int id1, int id2) {
+		if (areSimilar(id1, id2)) {
+			return true;
+		} else if (exists(id1) && exists(id2)) {
+			TemperatureCategory category1 = TEMPERATURE_CATEGORIES[id1];
+			TemperatureCategory category2 = TEMPERATURE_CATEGORIES[id2];
+			return category1 == category2 || category1 == TemperatureCategory.MEDIUM
+					|| category2 == TemperatureCategory.MEDIUM;
+		} else {
+			return false;
+		}
+	}
+}
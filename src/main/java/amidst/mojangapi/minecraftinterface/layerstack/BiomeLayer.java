@@ -0,0 +1,80 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static amidst.mojangapi.minecraftinterface.layerstack.BiomeIds.*;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Chooses a biome for each land cell, based on its climate and on whether it
+ * was marked with a special biome variant.
+ */
+@Immutable
+class BiomeLayer extends Layer {
+	private static final int[] WARM_BIOMES = { DESERT, DESERT, DESERT, SAVANNA, SAVANNA, PLAINS };
+	private static final int[] MEDIUM_BIOMES = {
+			FOREST,
+			ROOFED_FOREST,
+			EXTREME_HILLS,
+			PLAINS,
+			BIRCH_FOREST,
+			SWAMPLAND };
+	private static final int[] COLD_BIOMES = { FOREST, EXTREME_HILLS, TAIGA, PLAINS };
+	private static final int[] ICE_BIOMES = { ICE_PLAINS, ICE_PLAINS, ICE_PLAINS, COLD_TAIGA };
+
+	private final Layer parent;
+	private final int fixedBiome;
+
+	/**
+	 * @param fixedBiome is used for all cells, if it is not negative
+	 */
+	BiomeLayer(long worldSeed, long baseSeed, Layer parent, int fixedBiome) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+		this.fixedBiome = fixedBiome;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, y, width, height);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				result[i + j * width] = getBiome(context, parentInts[i + j * width]);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(LayerContext context, int value) {
+		int special = (value & 0xF00) >> 8;
+		int climate = value & ~0xF00;
+		if (fixedBiome >= 0) {
+			return fixedBiome;
+		} else if (isOceanic(climate) || climate == MUSHROOM_ISLAND) {
+			return climate;
+		} else if (climate == 1) {
+			if (special > 0) {
+				return context.nextInt(3) == 0 ? MESA_PLATEAU : MESA_PLATEAU_F;
+			} else {
+				return WARM_BIOMES[context.nextInt(WARM_BIOMES.length)];
+			}
+		} else if (climate == 2) {
+			if (special > 0) {
+				return JUNGLE;
+			} else {
+				return MEDIUM_BIOMES[context.nextInt(MEDIUM_BIOMES.length)];
+			}
+		} else if (climate == 3) {
+			if (special > 0) {
+				return MEGA_TAIGA;
+			} else {
+				return COLD_BIOMES[context.nextInt(COLD_BIOMES.length)];
+			}
+		} else if (climate == 4) {
+			return ICE_BIOMES[context.nextInt(ICE_BIOMES.length)];
+		} else {
+			return MUSHROOM_ISLAND;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.GsonConstructor;
+import amidst.documentation.Immutable;
+
+/**
+ * The part of the generator options of customized worlds that is used by the
+ * biome layers. Missing values have the default value of the game.
+ */
+@Immutable
+public class CustomizedSettingsJson {
+	private volatile int fixedBiome = -1;
+	private volatile int biomeSize = 4;
+	private volatile int riverSize = 4;
+
+	@GsonConstructor
+	public CustomizedSettingsJson() {
+	}
+
+	public int getFixedBiome() {
+		return fixedBiome;
+	}
+
+	public int getBiomeSize() {
+		return biomeSize;
+	}
+
+	public int getRiverSize() {
+		return riverSize;
+	}
+}
@@ -0,0 +1,51 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Turns ocean cells that are surrounded by ocean into deep ocean.
+ */
+@Immutable
+class DeepOceanLayer extends Layer {
+	private final Layer parent;
+
+	DeepOceanLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int north = parentInts[i + 1 + j * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				int oceans = 0;
+				if (north == 0) {
+					oceans++;
+				}
+				if (east == 0) {
+					oceans++;
+				}
+				if (west == 0) {
+					oceans++;
+				}
+				if (south == 0) {
+					oceans++;
+				}
+				if (center == 0 && oceans > 3) {
+					result[i + j * width] = BiomeIds.DEEP_OCEAN;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,93 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Separates the climates, so warm (1) land does not touch cold (3) or freezing
+ * (4) land, and freezing land does not touch warm or temperate (2) land. The
+ * special mode marks some land cells with a special biome variant in the bits
+ * 8 to 11.
+ */
+@Immutable
+class EdgeLayer extends Layer {
+	enum Mode {
+		COOL_WARM,
+		HEAT_ICE,
+		SPECIAL;
+	}
+
+	private final Layer parent;
+	private final Mode mode;
+
+	EdgeLayer(long worldSeed, long baseSeed, Layer parent, Mode mode) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+		this.mode = mode;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		switch (mode) {
+		case COOL_WARM:
+			return getIntsReplacing(context, x, y, width, height, 1, 3, 4, 2);
+		case HEAT_ICE:
+			return getIntsReplacing(context, x, y, width, height, 4, 1, 2, 3);
+		case SPECIAL:
+			return getIntsSpecial(context, x, y, width, height);
+		default:
+			throw new IllegalStateException("unknown mode: " + mode);
+		}
+	}
+
+	/**
+	 * Replaces the center with the replacement, if it is equal to the target
+	 * and at least one direct neighbor is equal to one of the other values.
+	 */
+	private int[] getIntsReplacing(
+			LayerContext context,
+			int x,
+			int y,
+			int width,
+			int height,
+			int target,
+			int neighbor1,
+			int neighbor2,
+			int replacement) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (center == target) {
+					int north = parentInts[i + 1 + j * parentWidth];
+					int east = parentInts[i + 2 + (j + 1) * parentWidth];
+					int west = parentInts[i + (j + 1) * parentWidth];
+					int south = parentInts[i + 1 + (j + 2) * parentWidth];
+					if (north == neighbor1 || east == neighbor1 || west == neighbor1 || south == neighbor1
+							|| north == neighbor2 || east == neighbor2 || west == neighbor2 || south == neighbor2) {
+						center = replacement;
+					}
+				}
+				result[i + j * width] = center;
+			}
+		}
+		return result;
+	}
+
+	private int[] getIntsSpecial(LayerContext context, int x, int y, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, y, width, height);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				int value = parentInts[i + j * width];
+				if (value != 0 && context.nextInt(13) == 0) {
+					value |= (1 + context.nextInt(15)) << 8 & 0xF00;
+				}
+				result[i + j * width] = value;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,128 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static amidst.mojangapi.minecraftinterface.layerstack.BiomeIds.*;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Adds hills and mutated biomes. The second parent is the zoomed river init
+ * layer, which decides where mutated biomes are placed.
+ */
+@Immutable
+class HillsLayer extends Layer {
+	private final Layer parent;
+	private final Layer riverInitParent;
+	private final boolean hasBirchForestHillsMutationBug;
+
+	HillsLayer(
+			long worldSeed,
+			long baseSeed,
+			Layer parent,
+			Layer riverInitParent,
+			boolean hasBirchForestHillsMutationBug) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+		this.riverInitParent = riverInitParent;
+		this.hasBirchForestHillsMutationBug = hasBirchForestHillsMutationBug;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] riverInitInts = riverInitParent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				int riverInit = riverInitInts[i + 1 + (j + 1) * parentWidth];
+				boolean isMutatedHill = (riverInit - 2) % 29 == 0;
+				if (center != 0 && riverInit >= 2 && (riverInit - 2) % 29 == 1 && center < MUTATION_OFFSET) {
+					result[i + j * width] = getMutation(center, center);
+				} else if (context.nextInt(3) != 0 && !isMutatedHill) {
+					result[i + j * width] = center;
+				} else {
+					int hill = getHill(context, center);
+					if (isMutatedHill && hill != center) {
+						hill = getMutation(hill, center);
+					}
+					if (hill == center) {
+						result[i + j * width] = center;
+					} else {
+						int north = parentInts[i + 1 + j * parentWidth];
+						int east = parentInts[i + 2 + (j + 1) * parentWidth];
+						int west = parentInts[i + (j + 1) * parentWidth];
+						int south = parentInts[i + 1 + (j + 2) * parentWidth];
+						int similar = 0;
+						if (areSimilar(north, center)) {
+							similar++;
+						}
+						if (areSimilar(east, center)) {
+							similar++;
+						}
+						if (areSimilar(west, center)) {
+							similar++;
+						}
+						if (areSimilar(south, center)) {
+							similar++;
+						}
+						result[i + j * width] = similar >= 3 ? hill : center;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private int getMutation(int biome, int defaultValue) {
+		if (hasBirchForestHillsMutationBug && biome == BIRCH_FOREST) {
+			return BIRCH_FOREST_HILLS + MUTATION_OFFSET;
+		} else if (hasBirchForestHillsMutationBug && biome == BIRCH_FOREST_HILLS) {
+			return defaultValue;
+		} else if (hasMutation(biome)) {
+			return biome + MUTATION_OFFSET;
+		} else {
+			return defaultValue;
+		}
+	}
+
+	private int getHill(LayerContext context, int biome) {
+		switch (biome) {
+		case DESERT:
+			return DESERT_HILLS;
+		case FOREST:
+			return FOREST_HILLS;
+		case BIRCH_FOREST:
+			return BIRCH_FOREST_HILLS;
+		case ROOFED_FOREST:
+			return PLAINS;
+		case TAIGA:
+			return TAIGA_HILLS;
+		case MEGA_TAIGA:
+			return MEGA_TAIGA_HILLS;
+		case COLD_TAIGA:
+			return COLD_TAIGA_HILLS;
+		case PLAINS:
+			return context.nextInt(3) == 0 ? FOREST_HILLS : FOREST;
+		case ICE_PLAINS:
+			return ICE_MOUNTAINS;
+		case JUNGLE:
+			return JUNGLE_HILLS;
+		case OCEAN:
+			return DEEP_OCEAN;
+		case EXTREME_HILLS:
+			return EXTREME_HILLS_PLUS;
+		case SAVANNA:
+			return SAVANNA_PLATEAU;
+		default:
+			if (areSimilar(biome, MESA_PLATEAU_F)) {
+				return MESA;
+			} else if (biome == DEEP_OCEAN && context.nextInt(3) == 0) {
+				return context.nextInt(2) == 0 ? PLAINS : FOREST;
+			} else {
+				return biome;
+			}
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The first layer, which creates land (1) with a probability of 1/10 and ocean
+ * (0) otherwise. The origin is always land.
+ */
+@Immutable
+class IslandLayer extends Layer {
+	IslandLayer(long worldSeed, long baseSeed) {
+		super(worldSeed, baseSeed);
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				result[i + j * width] = context.nextInt(10) == 0 ? 1 : 0;
+			}
+		}
+		if (x > -width && x <= 0 && y > -height && y <= 0) {
+			result[-x + -y * width] = 1;
+		}
+		return result;
+	}
+}
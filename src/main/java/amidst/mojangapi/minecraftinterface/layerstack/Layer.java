@@ -0,0 +1,28 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * A layer of the biome generator of the game, from 13w36a until before the
+ * 1.13 refactoring. Like the GenLayer of the game, each layer transforms the
+ * data of its parent layers, but the state that changes while the data is
+ * generated is kept in the {@link LayerContext}.
+ */
+@Immutable
+abstract class Layer {
+	protected final long worldGenSeed;
+
+	protected Layer(long worldSeed, long baseSeed) {
+		this(LayerContext.getWorldGenSeed(worldSeed, baseSeed));
+	}
+
+	protected Layer(long worldGenSeed) {
+		this.worldGenSeed = worldGenSeed;
+	}
+
+	/**
+	 * The returned array is allocated from the context. The value at (i, j)
+	 * is stored at index i + j * width.
+	 */
+	abstract int[] getInts(LayerContext context, int x, int y, int width, int height);
+}
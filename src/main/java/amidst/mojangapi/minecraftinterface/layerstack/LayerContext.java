@@ -0,0 +1,113 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Holds the state that the game keeps in the GenLayer instances and in the
+ * IntCache, so the layers themselves can be shared by all threads. Each thread
+ * uses its own context.
+ *
+ * The layers request their parent data before they use the random number
+ * generator, so a single chunk seed is enough for the whole layer stack.
+ */
+@NotThreadSafe
+class LayerContext {
+	private static final long MULTIPLIER = 6364136223846793005L;
+	private static final long INCREMENT = 1442695040888963407L;
+
+	public static long mix(long seed, long salt) {
+		return seed * (seed * MULTIPLIER + INCREMENT) + salt;
+	}
+
+	public static long getWorldGenSeed(long worldSeed, long baseSeed) {
+		long layerSeed = mix(mix(mix(baseSeed, baseSeed), baseSeed), baseSeed);
+		return mix(mix(mix(worldSeed, layerSeed), layerSeed), layerSeed);
+	}
+
+	private final List<int[]> arrays = new ArrayList<>();
+	private int nextArray = 0;
+	private long worldGenSeed;
+	private long chunkSeed;
+
+	/**
+	 * Makes all arrays available again. This invalidates all arrays that were
+	 * returned by {@link #allocate(int)} since the last reset.
+	 */
+	public void reset() {
+		nextArray = 0;
+	}
+
+	/**
+	 * The content of the returned array is undefined. Since the layers request
+	 * the same sizes in the same order for areas of the same size, the arrays
+	 * are reused instead of allocated after the first request.
+	 */
+	public int[] allocate(int size) {
+		if (nextArray < arrays.size()) {
+			int[] result = arrays.get(nextArray);
+			if (result.length < size) {
+				result = new int[size];
+				arrays.set(nextArray, result);
+			}
+			nextArray++;
+			return result;
+		} else {
+			int[] result = new int[size];
+			arrays.add(result);
+			nextArray++;
+			return result;
+		}
+	}
+
+	public void initChunkSeed(long worldGenSeed, long x, long y) {
+		this.worldGenSeed = worldGenSeed;
+		this.chunkSeed = mix(mix(mix(mix(worldGenSeed, x), y), x), y);
+	}
+
+	public int nextInt(int bound) {
+		int result = (int) ((chunkSeed >> 24) % bound);
+		if (result < 0) {
+			result += bound;
+		}
+		chunkSeed = mix(chunkSeed, worldGenSeed);
+		return result;
+	}
+
+	public int selectRandom(int a, int b) {
+		return nextInt(2) == 0 ? a : b;
+	}
+
+	public int selectRandom(int a, int b, int c, int d) {
+		int i = nextInt(4);
+		return i == 0 ? a : i == 1 ? b : i == 2 ? c : d;
+	}
+
+	public int selectModeOrRandom(int a, int b, int c, int d) {
+		if (b == c && c == d) {
+			return b;
+		} else if (a == b && a == c) {
+			return a;
+		} else if (a == b && a == d) {
+			return a;
+		} else if (a == c && a == d) {
+			return a;
+		} else if (a == b && c != d) {
+			return a;
+		} else if (a == c && b != d) {
+			return a;
+		} else if (a == d && b != c) {
+			return a;
+		} else if (b == c && a != d) {
+			return b;
+		} else if (b == d && a != c) {
+			return b;
+		} else if (c == d && a != b) {
+			return c;
+		} else {
+			return selectRandom(a, b, c, d);
+		}
+	}
+}
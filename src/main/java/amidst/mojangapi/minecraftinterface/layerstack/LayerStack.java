@@ -0,0 +1,104 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.world.WorldType;
+import amidst.parsing.FormatException;
+import amidst.parsing.json.JsonReader;
+
+/**
+ * The layers of a single world, created like in
+ * GenLayer.initializeAllBiomeGenerators of the game.
+ */
+@Immutable
+class LayerStack {
+	/**
+	 * @param hasBirchForestHillsMutationBug In these versions, the mutated
+	 *            birch forest hills are registered as the mutation of the birch
+	 *            forest, so the birch forest hills do not have a mutation.
+	 */
+	static LayerStack create(
+			long seed,
+			WorldType worldType,
+			String generatorOptions,
+			boolean hasBirchForestHillsMutationBug) {
+		CustomizedSettingsJson settings = readSettings(worldType, generatorOptions);
+		int biomeSize = worldType == WorldType.LARGE_BIOMES ? 6 : settings.getBiomeSize();
+		int riverSize = settings.getRiverSize();
+
+		Layer continents = new IslandLayer(seed, 1);
+		continents = new ZoomLayer(seed, 2000, continents, true);
+		continents = new AddIslandLayer(seed, 1, continents);
+		continents = new ZoomLayer(seed, 2001, continents, false);
+		continents = new AddIslandLayer(seed, 2, continents);
+		continents = new AddIslandLayer(seed, 50, continents);
+		continents = new AddIslandLayer(seed, 70, continents);
+		continents = new RemoveTooMuchOceanLayer(seed, 2, continents);
+		continents = new AddSnowLayer(seed, 2, continents);
+		continents = new AddIslandLayer(seed, 3, continents);
+		continents = new EdgeLayer(seed, 2, continents, EdgeLayer.Mode.COOL_WARM);
+		continents = new EdgeLayer(seed, 2, continents, EdgeLayer.Mode.HEAT_ICE);
+		continents = new EdgeLayer(seed, 3, continents, EdgeLayer.Mode.SPECIAL);
+		continents = new ZoomLayer(seed, 2002, continents, false);
+		continents = new ZoomLayer(seed, 2003, continents, false);
+		continents = new AddIslandLayer(seed, 4, continents);
+		continents = new AddMushroomIslandLayer(seed, 5, continents);
+		continents = new DeepOceanLayer(seed, 4, continents);
+
+		Layer riverInit = new RiverInitLayer(seed, 100, continents);
+
+		Layer biomes = new BiomeLayer(seed, 200, continents, settings.getFixedBiome());
+		biomes = ZoomLayer.magnify(seed, 1000, biomes, 2);
+		biomes = new BiomeEdgeLayer(seed, 1000, biomes);
+		// the hills layer does not pass the world seed to its second parent
+		Layer hillsRiverInit = ZoomLayer.magnifyUninitialized(riverInit, 2);
+		biomes = new HillsLayer(seed, 1000, biomes, hillsRiverInit, hasBirchForestHillsMutationBug);
+		biomes = new RareBiomeLayer(seed, 1001, biomes);
+		for (int i = 0; i < biomeSize; i++) {
+			biomes = new ZoomLayer(seed, 1000 + i, biomes, false);
+			if (i == 0) {
+				biomes = new AddIslandLayer(seed, 3, biomes);
+			}
+			if (i == 1 || biomeSize == 1) {
+				biomes = new ShoreLayer(seed, 1000, biomes);
+			}
+		}
+		biomes = new SmoothLayer(seed, 1000, biomes);
+
+		Layer rivers = ZoomLayer.magnify(seed, 1000, riverInit, 2);
+		rivers = ZoomLayer.magnify(seed, 1000, rivers, riverSize);
+		rivers = new RiverLayer(seed, 1, rivers);
+		rivers = new SmoothLayer(seed, 1000, rivers);
+
+		Layer quarterResolution = new RiverMixLayer(seed, 100, biomes, rivers);
+		Layer fullResolution = new VoronoiZoomLayer(seed, 10, quarterResolution);
+		return new LayerStack(quarterResolution, fullResolution);
+	}
+
+	/**
+	 * Only customized worlds use the generator options. Like in the game,
+	 * invalid options are replaced by the default settings.
+	 */
+	private static CustomizedSettingsJson readSettings(WorldType worldType, String generatorOptions) {
+		if (worldType == WorldType.CUSTOMIZED && !generatorOptions.isEmpty()) {
+			try {
+				return JsonReader.readString(generatorOptions, CustomizedSettingsJson.class);
+			} catch (FormatException e) {
+				AmidstLogger.warn(e, "unable to read the generator options, using the default settings");
+			}
+		}
+		return new CustomizedSettingsJson();
+	}
+
+	private final Layer quarterResolution;
+	private final Layer fullResolution;
+
+	private LayerStack(Layer quarterResolution, Layer fullResolution) {
+		this.quarterResolution = quarterResolution;
+		this.fullResolution = fullResolution;
+	}
+
+	Layer get(boolean useQuarterResolution) {
+		return useQuarterResolution ? quarterResolution : fullResolution;
+	}
+}
@@ -0,0 +1,175 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.PooledMinecraftInterface;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates the biome data of the supported versions with a Java
+ * implementation of the biome layers of the game, so the game does not need to
+ * be loaded. Unlike the game, the layers do not share any mutable state, so
+ * any number of threads can generate biome data at the same time.
+ *
+ * The generator options are not verified, so worlds with generator options
+ * are generated by the game instead. The game is only loaded when such a world
+ * is created.
+ *
+ * Like the other minecraft interfaces, the returned array is only valid until
+ * the next call of getBiomeData by the same thread.
+ */
+@ThreadSafe
+public class LayerStackMinecraftInterface implements MinecraftInterface {
+	@FunctionalInterface
+	public static interface FallbackFactory {
+		PooledMinecraftInterface create() throws MinecraftInterfaceCreationException;
+	}
+
+	/**
+	 * The layers are the same in all versions from 1.8 until 1.12.2, except for
+	 * the mutation of the birch forest hills in 1.9 and 1.10. The snapshots of
+	 * 1.11 are not supported, because it is unknown which of them fixed it. The
+	 * test worlds verify the versions 1.8.9, 15w51b and 1.9-pre2.
+	 */
+	private static final RecognisedVersion FIRST_SUPPORTED_VERSION = RecognisedVersion._1_8;
+	private static final RecognisedVersion LAST_SUPPORTED_VERSION = RecognisedVersion._1_12_2;
+	private static final RecognisedVersion FIRST_BIRCH_FOREST_HILLS_BUG_VERSION = RecognisedVersion._1_9_pre2;
+	private static final RecognisedVersion LAST_BIRCH_FOREST_HILLS_BUG_VERSION = RecognisedVersion._1_10_2;
+	private static final RecognisedVersion FIRST_VERSION_WITHOUT_BIRCH_FOREST_HILLS_BUG = RecognisedVersion._1_11;
+
+	public static boolean isSupported(RecognisedVersion recognisedVersion) {
+		return RecognisedVersion.isNewerOrEqualTo(recognisedVersion, FIRST_SUPPORTED_VERSION)
+				&& RecognisedVersion.isOlderOrEqualTo(recognisedVersion, LAST_SUPPORTED_VERSION)
+				&& !(RecognisedVersion.isNewer(recognisedVersion, LAST_BIRCH_FOREST_HILLS_BUG_VERSION)
+						&& RecognisedVersion.isOlder(recognisedVersion, FIRST_VERSION_WITHOUT_BIRCH_FOREST_HILLS_BUG));
+	}
+
+	private static boolean hasBirchForestHillsMutationBug(RecognisedVersion recognisedVersion) {
+		return RecognisedVersion.isNewerOrEqualTo(recognisedVersion, FIRST_BIRCH_FOREST_HILLS_BUG_VERSION)
+				&& RecognisedVersion.isOlderOrEqualTo(recognisedVersion, LAST_BIRCH_FOREST_HILLS_BUG_VERSION);
+	}
+
+	private final RecognisedVersion recognisedVersion;
+	private final FallbackFactory fallbackFactory;
+	private final ThreadLocal<LayerContext> context = ThreadLocal.withInitial(LayerContext::new);
+	private volatile LayerStack layerStack;
+	private PooledMinecraftInterface fallback;
+	private volatile MinecraftInterface currentFallback;
+
+	/**
+	 * Generates all worlds without the game, including worlds with generator
+	 * options.
+	 */
+	public LayerStackMinecraftInterface(RecognisedVersion recognisedVersion) {
+		this(recognisedVersion, null);
+	}
+
+	public LayerStackMinecraftInterface(RecognisedVersion recognisedVersion, FallbackFactory fallbackFactory) {
+		this.recognisedVersion = recognisedVersion;
+		this.fallbackFactory = fallbackFactory;
+	}
+
+	/**
+	 * Returns a minecraft interface with its own world. If it needs to load the
+	 * game for a world with generator options, it shares the game with this
+	 * one.
+	 */
+	public LayerStackMinecraftInterface createSharedView() {
+		if (fallbackFactory == null) {
+			return new LayerStackMinecraftInterface(recognisedVersion);
+		} else {
+			return new LayerStackMinecraftInterface(recognisedVersion, () -> getFallback().createSharedView());
+		}
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		MinecraftInterface currentFallback = this.currentFallback;
+		if (currentFallback != null) {
+			return currentFallback.getBiomeData(x, y, width, height, useQuarterResolution);
+		}
+		LayerStack layerStack = getLayerStack();
+		LayerContext context = this.context.get();
+		context.reset();
+		return layerStack.get(useQuarterResolution).getInts(context, x, y, width, height);
+	}
+
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		MinecraftInterface currentFallback = this.currentFallback;
+		if (currentFallback != null) {
+			currentFallback.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+			return;
+		}
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
+	private LayerStack getLayerStack() throws MinecraftInterfaceException {
+		LayerStack result = layerStack;
+		if (result != null) {
+			return result;
+		} else {
+			throw new MinecraftInterfaceException("the world needs to be created first");
+		}
+	}
+
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		if (fallbackFactory != null && !generatorOptions.isEmpty()) {
+			currentFallback = null;
+			layerStack = null;
+			MinecraftInterface fallback = getFallbackForWorld();
+			fallback.createWorld(seed, worldType, generatorOptions);
+			currentFallback = fallback;
+		} else {
+			currentFallback = null;
+			layerStack = LayerStack
+					.create(seed, worldType, generatorOptions, hasBirchForestHillsMutationBug(recognisedVersion));
+		}
+	}
+
+	private MinecraftInterface getFallbackForWorld() throws MinecraftInterfaceException {
+		try {
+			return getFallback();
+		} catch (MinecraftInterfaceCreationException e) {
+			throw new MinecraftInterfaceException("unable to load minecraft for a world with generator options", e);
+		}
+	}
+
+	private synchronized PooledMinecraftInterface getFallback() throws MinecraftInterfaceCreationException {
+		if (fallback == null) {
+			AmidstLogger.info("Loading minecraft for a world with generator options.");
+			fallback = fallbackFactory.create();
+		}
+		return fallback;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (fallback != null) {
+			fallback.close();
+		}
+	}
+}
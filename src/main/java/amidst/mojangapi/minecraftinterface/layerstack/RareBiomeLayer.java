@@ -0,0 +1,35 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Turns 1/57 of the plains into sunflower plains.
+ */
+@Immutable
+class RareBiomeLayer extends Layer {
+	private final Layer parent;
+
+	RareBiomeLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (context.nextInt(57) == 0 && center == BiomeIds.PLAINS) {
+					result[i + j * width] = BiomeIds.PLAINS + BiomeIds.MUTATION_OFFSET;
+				} else {
+					result[i + j * width] = center;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,38 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Turns half of the ocean cells that are surrounded by ocean into land.
+ */
+@Immutable
+class RemoveTooMuchOceanLayer extends Layer {
+	private final Layer parent;
+
+	RemoveTooMuchOceanLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int north = parentInts[i + 1 + j * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				result[i + j * width] = center;
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				if (center == 0 && north == 0 && east == 0 && west == 0 && south == 0 && context.nextInt(2) == 0) {
+					result[i + j * width] = 1;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,30 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Assigns a random value to each land cell. Rivers are placed at the borders
+ * between the values.
+ */
+@Immutable
+class RiverInitLayer extends Layer {
+	private final Layer parent;
+
+	RiverInitLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int[] parentInts = parent.getInts(context, x, y, width, height);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				context.initChunkSeed(worldGenSeed, x + i, y + j);
+				result[i + j * width] = parentInts[i + j * width] > 0 ? context.nextInt(299999) + 2 : 0;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,43 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Places rivers at the borders between the values of the river init layer.
+ * All other cells are set to -1.
+ */
+@Immutable
+class RiverLayer extends Layer {
+	private final Layer parent;
+
+	RiverLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int west = reduce(parentInts[i + (j + 1) * parentWidth]);
+				int east = reduce(parentInts[i + 2 + (j + 1) * parentWidth]);
+				int north = reduce(parentInts[i + 1 + j * parentWidth]);
+				int south = reduce(parentInts[i + 1 + (j + 2) * parentWidth]);
+				int center = reduce(parentInts[i + 1 + (j + 1) * parentWidth]);
+				if (center == west && center == north && center == east && center == south) {
+					result[i + j * width] = -1;
+				} else {
+					result[i + j * width] = BiomeIds.RIVER;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static int reduce(int value) {
+		return value >= 2 ? 2 + (value & 1) : value;
+	}
+}
@@ -0,0 +1,41 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static amidst.mojangapi.minecraftinterface.layerstack.BiomeIds.*;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Combines the biome layer with the river layer. This is the
+ * quarter-resolution biome data.
+ */
+@Immutable
+class RiverMixLayer extends Layer {
+	private final Layer biomeParent;
+	private final Layer riverParent;
+
+	RiverMixLayer(long worldSeed, long baseSeed, Layer biomeParent, Layer riverParent) {
+		super(worldSeed, baseSeed);
+		this.biomeParent = biomeParent;
+		this.riverParent = riverParent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int[] biomeInts = biomeParent.getInts(context, x, y, width, height);
+		int[] riverInts = riverParent.getInts(context, x, y, width, height);
+		int[] result = context.allocate(width * height);
+		for (int i = 0; i < width * height; i++) {
+			int biome = biomeInts[i];
+			if (biome == OCEAN || biome == DEEP_OCEAN || riverInts[i] != RIVER) {
+				result[i] = biome;
+			} else if (biome == ICE_PLAINS) {
+				result[i] = FROZEN_RIVER;
+			} else if (biome == MUSHROOM_ISLAND || biome == MUSHROOM_ISLAND_SHORE) {
+				result[i] = MUSHROOM_ISLAND_SHORE;
+			} else {
+				result[i] = riverInts[i] & 0xFF;
+			}
+		}
+		return result;
+	}
+}
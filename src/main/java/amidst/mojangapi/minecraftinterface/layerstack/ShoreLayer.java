@@ -0,0 +1,89 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static amidst.mojangapi.minecraftinterface.layerstack.BiomeIds.*;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Adds beaches and other shore biomes at the coasts.
+ */
+@Immutable
+class ShoreLayer extends Layer {
+	private final Layer parent;
+
+	ShoreLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int north = parentInts[i + 1 + j * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int west = parentInts[i + (j + 1) * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				result[i + j * width] = getBiome(north, east, west, south, center);
+			}
+		}
+		return result;
+	}
+
+	private int getBiome(int north, int east, int west, int south, int center) {
+		if (center == MUSHROOM_ISLAND) {
+			if (north == OCEAN || east == OCEAN || west == OCEAN || south == OCEAN) {
+				return MUSHROOM_ISLAND_SHORE;
+			} else {
+				return center;
+			}
+		} else if (isJungle(center)) {
+			if (!isJungleCompatible(north) || !isJungleCompatible(east) || !isJungleCompatible(west)
+					|| !isJungleCompatible(south)) {
+				return JUNGLE_EDGE;
+			} else if (isAnyOceanic(north, east, west, south)) {
+				return BEACH;
+			} else {
+				return center;
+			}
+		} else if (center == EXTREME_HILLS || center == EXTREME_HILLS_PLUS || center == EXTREME_HILLS_EDGE) {
+			return getBeach(north, east, west, south, center, STONE_BEACH);
+		} else if (isSnowy(center)) {
+			return getBeach(north, east, west, south, center, COLD_BEACH);
+		} else if (center == MESA || center == MESA_PLATEAU_F) {
+			if (isAnyOceanic(north, east, west, south)) {
+				return center;
+			} else if (isMesa(north) && isMesa(east) && isMesa(west) && isMesa(south)) {
+				return center;
+			} else {
+				return DESERT;
+			}
+		} else if (center == OCEAN || center == DEEP_OCEAN || center == RIVER || center == SWAMPLAND) {
+			return center;
+		} else if (isAnyOceanic(north, east, west, south)) {
+			return BEACH;
+		} else {
+			return center;
+		}
+	}
+
+	private int getBeach(int north, int east, int west, int south, int center, int beach) {
+		if (isOceanic(center) || !isAnyOceanic(north, east, west, south)) {
+			return center;
+		} else {
+			return beach;
+		}
+	}
+
+	private static boolean isJungleCompatible(int biome) {
+		return isJungle(biome) || biome == FOREST || biome == TAIGA || isOceanic(biome);
+	}
+
+	private static boolean isAnyOceanic(int north, int east, int west, int south) {
+		return isOceanic(north) || isOceanic(east) || isOceanic(west) || isOceanic(south);
+	}
+}
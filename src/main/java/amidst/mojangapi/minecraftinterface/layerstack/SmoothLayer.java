@@ -0,0 +1,46 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Removes single cells that differ from both of their horizontal or both of
+ * their vertical neighbors.
+ */
+@Immutable
+class SmoothLayer extends Layer {
+	private final Layer parent;
+
+	SmoothLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentWidth = width + 2;
+		int[] parentInts = parent.getInts(context, x - 1, y - 1, parentWidth, height + 2);
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			for (int i = 0; i < width; i++) {
+				int west = parentInts[i + (j + 1) * parentWidth];
+				int east = parentInts[i + 2 + (j + 1) * parentWidth];
+				int north = parentInts[i + 1 + j * parentWidth];
+				int south = parentInts[i + 1 + (j + 2) * parentWidth];
+				int center = parentInts[i + 1 + (j + 1) * parentWidth];
+				if (west == east && north == south) {
+					context.initChunkSeed(worldGenSeed, x + i, y + j);
+					center = context.nextInt(2) == 0 ? west : north;
+				} else {
+					if (west == east) {
+						center = west;
+					}
+					if (north == south) {
+						center = north;
+					}
+				}
+				result[i + j * width] = center;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,95 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Quadruples the resolution of the parent layer. Each cell of the parent layer
+ * gets a randomly jittered center point and each cell of the result takes the
+ * value of the nearest center point. This is the full-resolution biome data.
+ */
+@Immutable
+class VoronoiZoomLayer extends Layer {
+	private final Layer parent;
+
+	VoronoiZoomLayer(long worldSeed, long baseSeed, Layer parent) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+	}
+
+	/**
+	 * The game requests (width >> 2) + 2 parent cells, which does not cover
+	 * the whole area when it is not aligned to the parent cells. The game then
+	 * copies data that is left over in the int cache, so the parent area is
+	 * enlarged instead. This does not change the other cells, because each
+	 * cell only depends on its position.
+	 */
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		x -= 2;
+		y -= 2;
+		int parentX = x >> 2;
+		int parentY = y >> 2;
+		int parentWidth = ((x & 3) + width + 3 >> 2) + 1;
+		int parentHeight = ((y & 3) + height + 3 >> 2) + 1;
+		int[] parentInts = parent.getInts(context, parentX, parentY, parentWidth, parentHeight);
+		int zoomedWidth = (parentWidth - 1) << 2;
+		int zoomedHeight = (parentHeight - 1) << 2;
+		int[] zoomed = context.allocate(zoomedWidth * zoomedHeight);
+		for (int j = 0; j < parentHeight - 1; j++) {
+			int topLeft = parentInts[j * parentWidth];
+			int bottomLeft = parentInts[(j + 1) * parentWidth];
+			for (int i = 0; i < parentWidth - 1; i++) {
+				context.initChunkSeed(worldGenSeed, (i + parentX) << 2, (j + parentY) << 2);
+				double topLeftX = nextJitter(context);
+				double topLeftY = nextJitter(context);
+				context.initChunkSeed(worldGenSeed, (i + parentX + 1) << 2, (j + parentY) << 2);
+				double topRightX = nextJitter(context) + 4.0D;
+				double topRightY = nextJitter(context);
+				context.initChunkSeed(worldGenSeed, (i + parentX) << 2, (j + parentY + 1) << 2);
+				double bottomLeftX = nextJitter(context);
+				double bottomLeftY = nextJitter(context) + 4.0D;
+				context.initChunkSeed(worldGenSeed, (i + parentX + 1) << 2, (j + parentY + 1) << 2);
+				double bottomRightX = nextJitter(context) + 4.0D;
+				double bottomRightY = nextJitter(context) + 4.0D;
+				int topRight = parentInts[i + 1 + j * parentWidth] & 0xFF;
+				int bottomRight = parentInts[i + 1 + (j + 1) * parentWidth] & 0xFF;
+				for (int dy = 0; dy < 4; dy++) {
+					int index = ((j << 2) + dy) * zoomedWidth + (i << 2);
+					for (int dx = 0; dx < 4; dx++) {
+						double topLeftDistance = getSquaredDistance(dx, dy, topLeftX, topLeftY);
+						double topRightDistance = getSquaredDistance(dx, dy, topRightX, topRightY);
+						double bottomLeftDistance = getSquaredDistance(dx, dy, bottomLeftX, bottomLeftY);
+						double bottomRightDistance = getSquaredDistance(dx, dy, bottomRightX, bottomRightY);
+						if (topLeftDistance < topRightDistance && topLeftDistance < bottomLeftDistance
+								&& topLeftDistance < bottomRightDistance) {
+							zoomed[index++] = topLeft;
+						} else if (topRightDistance < topLeftDistance && topRightDistance < bottomLeftDistance
+								&& topRightDistance < bottomRightDistance) {
+							zoomed[index++] = topRight;
+						} else if (bottomLeftDistance < topLeftDistance && bottomLeftDistance < topRightDistance
+								&& bottomLeftDistance < bottomRightDistance) {
+							zoomed[index++] = bottomLeft;
+						} else {
+							zoomed[index++] = bottomRight;
+						}
+					}
+				}
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(zoomed, (j + (y & 3)) * zoomedWidth + (x & 3), result, j * width, width);
+		}
+		return result;
+	}
+
+	private static double nextJitter(LayerContext context) {
+		return (context.nextInt(1024) / 1024.0D - 0.5D) * 3.6D;
+	}
+
+	private static double getSquaredDistance(int x, int y, double centerX, double centerY) {
+		return (y - centerY) * (y - centerY) + (x - centerX) * (x - centerX);
+	}
+}
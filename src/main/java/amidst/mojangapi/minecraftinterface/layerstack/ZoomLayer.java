@@ -0,0 +1,89 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Doubles the resolution of the parent layer. The fuzzy variant picks a random
+ * neighbor for the diagonal cells, while the normal variant prefers the most
+ * common neighbor.
+ */
+@Immutable
+class ZoomLayer extends Layer {
+	static Layer magnify(long worldSeed, long baseSeed, Layer parent, int times) {
+		Layer result = parent;
+		for (int i = 0; i < times; i++) {
+			result = new ZoomLayer(worldSeed, baseSeed + i, result, false);
+		}
+		return result;
+	}
+
+	/**
+	 * The game does not initialize the world seed of these layers, so it stays
+	 * 0 and the result does not depend on the world seed.
+	 */
+	static Layer magnifyUninitialized(Layer parent, int times) {
+		Layer result = parent;
+		for (int i = 0; i < times; i++) {
+			result = new ZoomLayer(0, result, false);
+		}
+		return result;
+	}
+
+	private final Layer parent;
+	private final boolean isFuzzy;
+
+	ZoomLayer(long worldSeed, long baseSeed, Layer parent, boolean isFuzzy) {
+		super(worldSeed, baseSeed);
+		this.parent = parent;
+		this.isFuzzy = isFuzzy;
+	}
+
+	private ZoomLayer(long worldGenSeed, Layer parent, boolean isFuzzy) {
+		super(worldGenSeed);
+		this.parent = parent;
+		this.isFuzzy = isFuzzy;
+	}
+
+	@Override
+	int[] getInts(LayerContext context, int x, int y, int width, int height) {
+		int parentX = x >> 1;
+		int parentY = y >> 1;
+		int parentWidth = (width >> 1) + 2;
+		int parentHeight = (height >> 1) + 2;
+		int[] parentInts = parent.getInts(context, parentX, parentY, parentWidth, parentHeight);
+		int zoomedWidth = (parentWidth - 1) << 1;
+		int zoomedHeight = (parentHeight - 1) << 1;
+		int[] zoomed = context.allocate(zoomedWidth * zoomedHeight);
+		for (int j = 0; j < parentHeight - 1; j++) {
+			int index = (j << 1) * zoomedWidth;
+			int topLeft = parentInts[j * parentWidth];
+			int bottomLeft = parentInts[(j + 1) * parentWidth];
+			for (int i = 0; i < parentWidth - 1; i++) {
+				context.initChunkSeed(worldGenSeed, (i + parentX) << 1, (j + parentY) << 1);
+				int topRight = parentInts[i + 1 + j * parentWidth];
+				int bottomRight = parentInts[i + 1 + (j + 1) * parentWidth];
+				zoomed[index] = topLeft;
+				zoomed[index + zoomedWidth] = context.selectRandom(topLeft, bottomLeft);
+				index++;
+				zoomed[index] = context.selectRandom(topLeft, topRight);
+				zoomed[index + zoomedWidth] = selectDiagonal(context, topLeft, topRight, bottomLeft, bottomRight);
+				index++;
+				topLeft = topRight;
+				bottomLeft = bottomRight;
+			}
+		}
+		int[] result = context.allocate(width * height);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(zoomed, (j + (y & 1)) * zoomedWidth + (x & 1), result, j * width, width);
+		}
+		return result;
+	}
+
+	private int selectDiagonal(LayerContext context, int topLeft, int topRight, int bottomLeft, int bottomRight) {
+		if (isFuzzy) {
+			return context.selectRandom(topLeft, topRight, bottomLeft, bottomRight);
+		} else {
+			return context.selectModeOrRandom(topLeft, topRight, bottomLeft, bottomRight);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package amidst.mojangapi.minecraftinterface.legacy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
@@ -16,12 +18,21 @@ import amidst.mojangapi.world.WorldType;
  * This is the MinecraftInterface used for versions older than 18w06a, before the 1.13 refactoring
  */
 public class LegacyMinecraftInterface implements MinecraftInterface {
+	/**
+	 * The type of the method handles that return the biome data of a GenLayer:
+	 * (int x, int y, int width, int height) -> int[]
+	 */
+	private static final MethodType GET_INTS_TYPE = MethodType
+			.methodType(int[].class, int.class, int.class, int.class, int.class);
 
+	/**
+	 * The GenLayer instances are bound to the method handles, which have the
+	 * type {@link #GET_INTS_TYPE}.
+	 */
+	private volatile MethodHandle quarterResolutionBiomeGenerator;
+	private volatile MethodHandle fullResolutionBiomeGenerator;
 
-	private volatile SymbolicObject quarterResolutionBiomeGenerator;
-	private volatile SymbolicObject fullResolutionBiomeGenerator;
-
-	private final SymbolicClass intCacheClass;
+	private final MethodHandle resetIntCacheMethod;
 	private final SymbolicClass blockInitClass;
 	private final SymbolicClass genLayerClass;
 	private final SymbolicClass worldTypeClass;
@@ -35,7 +46,8 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 			SymbolicClass worldTypeClass,
 			SymbolicClass genOptionsFactoryClass,
 			RecognisedVersion recognisedVersion) {
-		this.intCacheClass = intCacheClass;
+		this.resetIntCacheMethod = intCacheClass.getMethod(LegacySymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE)
+				.getMethodHandle();
 		this.blockInitClass = blockInitClass;
 		this.genLayerClass = genLayerClass;
 		this.worldTypeClass = worldTypeClass;
@@ -57,15 +69,34 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 	public synchronized int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
 		try {
-			intCacheClass.callStaticMethod(LegacySymbolicNames.METHOD_INT_CACHE_RESET_INT_CACHE);
-			return (int[]) getBiomeGenerator(useQuarterResolution)
-					.callMethod(LegacySymbolicNames.METHOD_GEN_LAYER_GET_INTS, x, y, width, height);
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			resetIntCacheMethod.invokeExact();
+			return (int[]) getBiomeGenerator(useQuarterResolution).invokeExact(x, y, width, height);
+		} catch (Throwable e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
 		}
 	}
 
-	private SymbolicObject getBiomeGenerator(boolean useQuarterResolution) {
+	/**
+	 * The array that is returned by the game is only valid until the next
+	 * request, so it is copied while the lock is held.
+	 */
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
+	private MethodHandle getBiomeGenerator(boolean useQuarterResolution) {
 		if (useQuarterResolution) {
 			return quarterResolutionBiomeGenerator;
 		} else {
@@ -79,13 +110,20 @@ public class LegacyMinecraftInterface implements MinecraftInterface {
 		try {
 			initializeBlock();
 			Object[] genLayers = getGenLayers(seed, worldType, generatorOptions);
-			quarterResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[0]);
-			fullResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[1]);
+			quarterResolutionBiomeGenerator = createBiomeGenerator(genLayers[0]);
+			fullResolutionBiomeGenerator = createBiomeGenerator(genLayers[1]);
 		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
 			throw new MinecraftInterfaceException("unable to create world", e);
 		}
 	}
 
+	private MethodHandle createBiomeGenerator(Object genLayer) {
+		return genLayerClass.getMethod(LegacySymbolicNames.METHOD_GEN_LAYER_GET_INTS)
+				.getMethodHandle()
+				.bindTo(genLayer)
+				.asType(GET_INTS_TYPE);
+	}
+
 	/**
 	 * Minecraft 1.8 and higher require block initialization to be called before
 	 * creating a biome generator.
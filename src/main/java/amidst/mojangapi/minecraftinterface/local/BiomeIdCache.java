@@ -0,0 +1,119 @@
+package amidst.mojangapi.minecraftinterface.local;
+
+import java.lang.invoke.MethodHandle;
+
+import amidst.documentation.ThreadSafe;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+
+/**
+ * Maps biome instances to their ids by identity. The game only has a few
+ * hundred biome instances, so once they are known, getting the id of a biome
+ * is a lookup in an open addressing table instead of a call into the game.
+ * 
+ * An unknown biome instance is resolved with the Biome.getId method handle and
+ * added to a copy of the table. The copy replaces the table, so reading the
+ * table never needs a lock.
+ */
+@ThreadSafe
+public class BiomeIdCache {
+	/**
+	 * Must be a power of two. There are less than 256 biome instances, so the
+	 * table does not need to grow in practice.
+	 */
+	private static final int INITIAL_CAPACITY = 512;
+
+	private static final int NOT_FOUND = Integer.MIN_VALUE;
+
+	private final MethodHandle biomeGetIdMethod;
+	private volatile Table table = new Table(INITIAL_CAPACITY);
+
+	/**
+	 * @param biomeGetIdMethod has the type (Biome biome) -> int
+	 */
+	public BiomeIdCache(MethodHandle biomeGetIdMethod) {
+		this.biomeGetIdMethod = biomeGetIdMethod;
+	}
+
+	public int getId(Object biome) throws MinecraftInterfaceException {
+		if (biome != null) {
+			int result = table.find(biome);
+			if (result != NOT_FOUND) {
+				return result;
+			}
+		}
+		return resolve(biome);
+	}
+
+	private synchronized int resolve(Object biome) throws MinecraftInterfaceException {
+		int result = invoke(biome);
+		if (table.find(biome) == NOT_FOUND) {
+			table = table.with(biome, result);
+		}
+		return result;
+	}
+
+	private int invoke(Object biome) throws MinecraftInterfaceException {
+		try {
+			return (int) biomeGetIdMethod.invokeExact(biome);
+		} catch (Throwable e) {
+			throw new MinecraftInterfaceException("unable to get biome data", e);
+		}
+	}
+
+	/**
+	 * A table is never modified after it is published.
+	 */
+	private static class Table {
+		private final Object[] biomes;
+		private final int[] ids;
+		private final int size;
+
+		private Table(int capacity) {
+			this.biomes = new Object[capacity];
+			this.ids = new int[capacity];
+			this.size = 0;
+		}
+
+		private Table(Table previous, Object biome, int id) {
+			int capacity = previous.biomes.length;
+			if ((previous.size + 1) * 2 > capacity) {
+				capacity *= 2;
+			}
+			this.biomes = new Object[capacity];
+			this.ids = new int[capacity];
+			this.size = previous.size + 1;
+			for (int i = 0; i < previous.biomes.length; i++) {
+				if (previous.biomes[i] != null) {
+					insert(previous.biomes[i], previous.ids[i]);
+				}
+			}
+			insert(biome, id);
+		}
+
+		private Table with(Object biome, int id) {
+			return new Table(this, biome, id);
+		}
+
+		private void insert(Object biome, int id) {
+			int mask = biomes.length - 1;
+			int i = System.identityHashCode(biome) & mask;
+			while (biomes[i] != null) {
+				i = (i + 1) & mask;
+			}
+			biomes[i] = biome;
+			ids[i] = id;
+		}
+
+		private int find(Object biome) {
+			int mask = biomes.length - 1;
+			for (int i = System.identityHashCode(biome) & mask;; i = (i + 1) & mask) {
+				Object current = biomes[i];
+				if (current == biome) {
+					return ids[i];
+				} else if (current == null) {
+					return NOT_FOUND;
+				}
+			}
+		}
+	}
+}
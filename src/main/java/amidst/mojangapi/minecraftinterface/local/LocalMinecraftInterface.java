@@ -2,20 +2,35 @@ package amidst.mojangapi.minecraftinterface.local;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Map;
 
 import amidst.clazz.symbolic.SymbolicClass;
+import amidst.clazz.symbolic.SymbolicMethod;
 import amidst.clazz.symbolic.SymbolicObject;
+import amidst.documentation.ThreadSafe;
 import amidst.logging.AmidstLogger;
 import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
 import amidst.mojangapi.world.WorldType;
 
+@ThreadSafe
 public class LocalMinecraftInterface implements MinecraftInterface {
+	/**
+	 * The type of the method handles that return the biome data of a GenLayer:
+	 * (int x, int y, int width, int height) -> Biome[]
+	 */
+	private static final MethodType GET_BIOME_DATA_TYPE = MethodType
+			.methodType(Object[].class, int.class, int.class, int.class, int.class);
+
+	/**
+	 * The type of the method handle that returns the id of a biome: (Biome
+	 * biome) -> int
+	 */
+	private static final MethodType GET_BIOME_ID_TYPE = MethodType.methodType(int.class, Object.class);
 
 	private final SymbolicClass bootstrapClass;
 	private final SymbolicClass worldTypeClass;
@@ -31,37 +46,38 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	private final RecognisedVersion recognisedVersion;
 
 	/**
-	 * The Biome.getId method handle. If version < 18w33a, the signature is: int
-	 * getId(Biome) If version >= 18w33a, the signature is: int
-	 * getId(Registry<Biome>, Biome)
-	 */
-	private MethodHandle biomeGetIdMethod;
-
-	/**
-	 * The biome registry, for use with versions >= 18w33a
+	 * Resolves the ids of biome instances with the Biome.getId method handle,
+	 * which has the type {@link #GET_BIOME_ID_TYPE}. If version < 18w33a, it
+	 * calls int getId(Biome). If version >= 18w33a, it calls int
+	 * getId(Registry<Biome>, Biome) with the biome registry bound to the first
+	 * parameter.
 	 */
-	private Object biomeRegistry;
+	private volatile BiomeIdCache biomeIdCache;
 
 	/**
-	 * A GenLayer instance, at quarter scale to the final biome layer (i.e. both
-	 * axis are divided by 4). Minecraft calculates biomes at
-	 * quarter-resolution, then noisily interpolates the biome-map up to 1:1
-	 * resolution when needed, this is the biome GenLayer before it is
-	 * interpolated.
+	 * The biome data method of a GenLayer instance, at quarter scale to the
+	 * final biome layer (i.e. both axis are divided by 4). Minecraft calculates
+	 * biomes at quarter-resolution, then noisily interpolates the biome-map up
+	 * to 1:1 resolution when needed, this is the biome GenLayer before it is
+	 * interpolated. The GenLayer instance is bound to the method handle, which
+	 * has the type {@link #GET_BIOME_DATA_TYPE}.
 	 */
-	private volatile SymbolicObject quarterResolutionBiomeGenerator;
+	private volatile MethodHandle quarterResolutionBiomeGenerator;
 
 	/**
-	 * A GenLayer instance, the biome layer. (1:1 scale) Minecraft calculates
-	 * biomes at quarter-resolution, then noisily interpolates the biome-map up
-	 * to 1:1 resolution when needed, this is the interpolated biome GenLayer.
+	 * The biome data method of a GenLayer instance, the biome layer. (1:1
+	 * scale) Minecraft calculates biomes at quarter-resolution, then noisily
+	 * interpolates the biome-map up to 1:1 resolution when needed, this is the
+	 * interpolated biome GenLayer. The GenLayer instance is bound to the method
+	 * handle, which has the type {@link #GET_BIOME_DATA_TYPE}.
 	 */
-	private volatile SymbolicObject fullResolutionBiomeGenerator;
+	private volatile MethodHandle fullResolutionBiomeGenerator;
 
 	/**
-	 * An array used to return biome data
+	 * An array used to return biome data. Each thread gets its own array, so
+	 * the returned array stays valid when another thread requests biome data.
 	 */
-	private volatile int[] dataArray = new int[256];
+	private final ThreadLocal<int[]> dataArray = ThreadLocal.withInitial(() -> new int[256]);
 
 	public LocalMinecraftInterface(
 			SymbolicClass bootstrapClass,
@@ -101,68 +117,87 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 	@Override
 	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
-		try {
-			if (biomeGetIdMethod == null) {
-				biomeGetIdMethod = getBiomeGetIdHandle();
-			}
+		int[] data = ensureArrayCapacity(width * height);
+		getBiomeData(x, y, width, height, useQuarterResolution, data, 0, width);
+		return data;
+	}
 
-			int[] data = ensureArrayCapacity(width * height);
-
-			/**
-			 * We break the region in 16x16 chunks, to get better performance
-			 * out of the LazyArea used by the game. Sadly, we get no
-			 * performance gain in 18w16a and newer, but in previous snapshots
-			 * we get a ~1.5x improvement.
-			 */
-			if (RecognisedVersion.isNewerOrEqualTo(recognisedVersion, RecognisedVersion._18w16a)) {
-				Object[] biomes = getBiomeDataInner(x, y, width, height, useQuarterResolution);
-				for (int i = 0; i < biomes.length; i++) {
-					data[i] = getBiomeId(biomes[i]);
+	/**
+	 * The generator objects of the game are not thread safe, so only one
+	 * request runs at a time. Use a
+	 * {@link amidst.mojangapi.minecraftinterface.PooledMinecraftInterface} to
+	 * generate biome data on several threads.
+	 */
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		MethodHandle biomeGenerator = getBiomeGenerator(useQuarterResolution);
+		BiomeIdCache biomeIdCache = this.biomeIdCache;
+
+		/**
+		 * We break the region in 16x16 chunks, to get better performance out
+		 * of the LazyArea used by the game. Sadly, we get no performance gain
+		 * in 18w16a and newer, but in previous snapshots we get a ~1.5x
+		 * improvement.
+		 */
+		if (RecognisedVersion.isNewerOrEqualTo(recognisedVersion, RecognisedVersion._18w16a)) {
+			Object[] biomes = getBiomeDataInner(biomeGenerator, x, y, width, height);
+			for (int j = 0; j < height; j++) {
+				for (int i = 0; i < width; i++) {
+					result[offset + i + j * stride] = biomeIdCache.getId(biomes[i + j * width]);
 				}
-			} else {
-				int chunkSize = 16;
-				for (int x0 = 0; x0 < width; x0 += chunkSize) {
-					int w = Math.min(chunkSize, width - x0);
-
-					for (int y0 = 0; y0 < height; y0 += chunkSize) {
-						int h = Math.min(chunkSize, height - y0);
-
-						Object[] biomes = getBiomeDataInner(x + x0, y + y0, w, h, useQuarterResolution);
-
-						for (int i = 0; i < w; i++) {
-							for (int j = 0; j < h; j++) {
-								int idx = i + j * w;
-								int trueIdx = (x0 + i) + (y0 + j) * width;
-								data[trueIdx] = getBiomeId(biomes[idx]);
-							}
+			}
+		} else {
+			int chunkSize = 16;
+			for (int x0 = 0; x0 < width; x0 += chunkSize) {
+				int w = Math.min(chunkSize, width - x0);
+
+				for (int y0 = 0; y0 < height; y0 += chunkSize) {
+					int h = Math.min(chunkSize, height - y0);
+
+					Object[] biomes = getBiomeDataInner(biomeGenerator, x + x0, y + y0, w, h);
+
+					for (int i = 0; i < w; i++) {
+						for (int j = 0; j < h; j++) {
+							int idx = i + j * w;
+							int trueIdx = offset + (x0 + i) + (y0 + j) * stride;
+							result[trueIdx] = biomeIdCache.getId(biomes[idx]);
 						}
 					}
 				}
 			}
-			return data;
-		} catch (
-				IllegalAccessException
-				| IllegalArgumentException
-				| InvocationTargetException
-				| InstantiationException e) {
+		}
+	}
+
+	private Object[] getBiomeDataInner(MethodHandle biomeGenerator, int x, int y, int width, int height)
+			throws MinecraftInterfaceException {
+		try {
+			return (Object[]) biomeGenerator.invokeExact(x, y, width, height);
+		} catch (Throwable e) {
 			throw new MinecraftInterfaceException("unable to get biome data", e);
 		}
 	}
 
-	private Object[] getBiomeDataInner(int x, int y, int width, int height, boolean useQuarterResolution)
-			throws IllegalAccessException,
-			IllegalArgumentException,
-			InvocationTargetException {
-		SymbolicObject biomeGen = getBiomeGenerator(useQuarterResolution);
-		Object[] biomes = null;
-		if(genLayerClass.hasMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA)) {
-			biomes = (Object[]) biomeGen.callMethod(
-					SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA, x, y, width, height, null);
+	/**
+	 * Binds the biome data method to the GenLayer instance and adapts it to
+	 * {@link #GET_BIOME_DATA_TYPE}, so it can be called without reflection.
+	 */
+	private MethodHandle createBiomeGenerator(Object genLayer) {
+		MethodHandle result;
+		if (genLayerClass.hasMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA)) {
+			result = genLayerClass.getMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA).getMethodHandle();
+			result = MethodHandles.insertArguments(result, 5, (Object) null);
 		} else {
-			biomes = (Object[]) biomeGen.callMethod(
-					SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA2, x, y, width, height);
+			result = genLayerClass.getMethod(SymbolicNames.METHOD_GEN_LAYER_GET_BIOME_DATA2).getMethodHandle();
 		}
-		return biomes;
+		return result.bindTo(genLayer).asType(GET_BIOME_DATA_TYPE);
 	}
 
 	private MethodHandle getBiomeGetIdHandle()
@@ -170,12 +205,12 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 			IllegalAccessException,
 			InstantiationException,
 			InvocationTargetException {
-		Method biomeRawMethod = biomeClass.getMethod(SymbolicNames.METHOD_BIOME_GET_ID).getRawMethod();
-		if (registryKeyClass != null && !biomeRawMethod.getReturnType().equals(Integer.TYPE)) {
-			biomeRegistry = getBiomeRegistry();
-			biomeRawMethod = registryClass.getMethod(SymbolicNames.METHOD_REGISTRY_GET_ID).getRawMethod();
+		SymbolicMethod biomeGetId = biomeClass.getMethod(SymbolicNames.METHOD_BIOME_GET_ID);
+		if (registryKeyClass != null && !biomeGetId.hasReturnType(Integer.TYPE)) {
+			MethodHandle result = registryClass.getMethod(SymbolicNames.METHOD_REGISTRY_GET_ID).getMethodHandle();
+			return result.bindTo(getBiomeRegistry()).asType(GET_BIOME_ID_TYPE);
 		}
-		return MethodHandles.lookup().unreflect(biomeRawMethod);
+		return biomeGetId.getMethodHandle().asType(GET_BIOME_ID_TYPE);
 	}
 
 	private Object getBiomeRegistry()
@@ -207,6 +242,9 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 				callBootstrapRegister();
 				isBootstrapCalled = true;
 			}
+			if (biomeIdCache == null) {
+				biomeIdCache = new BiomeIdCache(getBiomeGetIdHandle());
+			}
 
 			// @formatter:off
 			Object[] genLayers = (Object[]) layerUtilClass.callStaticMethod(
@@ -217,8 +255,8 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 			);
 			// @formatter:on
 
-			quarterResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[0]);
-			fullResolutionBiomeGenerator = new SymbolicObject(genLayerClass, genLayers[1]);
+			quarterResolutionBiomeGenerator = createBiomeGenerator(genLayers[0]);
+			fullResolutionBiomeGenerator = createBiomeGenerator(genLayers[1]);
 
 		} catch (
 				IllegalAccessException
@@ -245,7 +283,7 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 		bootstrapClass.callStaticMethod(register);
 	}
 
-	private SymbolicObject getBiomeGenerator(boolean useQuarterResolution) {
+	private MethodHandle getBiomeGenerator(boolean useQuarterResolution) {
 		if (useQuarterResolution) {
 			return quarterResolutionBiomeGenerator;
 		} else {
@@ -269,29 +307,18 @@ public class LocalMinecraftInterface implements MinecraftInterface {
 		return genSettingsClass.callConstructor(SymbolicNames.CONSTRUCTOR_GEN_SETTINGS);
 	}
 
-	private int getBiomeId(Object biome) throws MinecraftInterfaceException {
-		try {
-			if (biomeRegistry != null) {
-				return (int) biomeGetIdMethod.invoke(biomeRegistry, biome);
-			} else {
-				return (int) biomeGetIdMethod.invoke(biome);
-			}
-		} catch (Throwable e) {
-			e.printStackTrace();
-			throw new MinecraftInterfaceException("unable to get biome data", e);
-		}
-	}
-
 	private int[] ensureArrayCapacity(int length) {
-		int cur = dataArray.length;
+		int[] data = dataArray.get();
+		int cur = data.length;
 		if (length <= cur)
-			return dataArray;
+			return data;
 
 		while (cur < length)
 			cur *= 2;
 
-		dataArray = new int[cur];
-		return dataArray;
+		data = new int[cur];
+		dataArray.set(data);
+		return data;
 	}
 
 	@Override
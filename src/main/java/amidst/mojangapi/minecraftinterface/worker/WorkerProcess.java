@@ -0,0 +1,99 @@
+package amidst.mojangapi.minecraftinterface.worker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import amidst.documentation.NotThreadSafe;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The parent side of the communication with a single worker process. An
+ * IOException means that the worker process crashed or was killed, while a
+ * MinecraftInterfaceException means that the game failed to handle the
+ * request.
+ */
+@NotThreadSafe
+class WorkerProcess {
+	public static WorkerProcess start(List<String> command) throws IOException {
+		Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		return new WorkerProcess(
+				process,
+				new DataInputStream(new BufferedInputStream(process.getInputStream())),
+				new DataOutputStream(new BufferedOutputStream(process.getOutputStream())));
+	}
+
+	private final Process process;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+	private boolean isReady = false;
+
+	private WorkerProcess(Process process, DataInputStream in, DataOutputStream out) {
+		this.process = process;
+		this.in = in;
+		this.out = out;
+	}
+
+	/**
+	 * Waits until the worker process has loaded the game.
+	 */
+	public void awaitReady() throws IOException, MinecraftInterfaceException {
+		if (!isReady) {
+			readStatus();
+			isReady = true;
+		}
+	}
+
+	public void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws IOException,
+			MinecraftInterfaceException {
+		out.writeByte(WorkerProtocol.CREATE_WORLD);
+		out.writeLong(seed);
+		out.writeUTF(worldType.name());
+		out.writeUTF(generatorOptions);
+		out.flush();
+		readStatus();
+	}
+
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws IOException, MinecraftInterfaceException {
+		out.writeByte(WorkerProtocol.GET_BIOME_DATA);
+		out.writeInt(x);
+		out.writeInt(y);
+		out.writeInt(width);
+		out.writeInt(height);
+		out.writeBoolean(useQuarterResolution);
+		out.flush();
+		readStatus();
+		WorkerProtocol.readBiomeData(in, width, height, result, offset, stride);
+	}
+
+	private void readStatus() throws IOException, MinecraftInterfaceException {
+		byte status = in.readByte();
+		if (status == WorkerProtocol.ERROR) {
+			throw new MinecraftInterfaceException("the worker process reported an error: " + in.readUTF());
+		} else if (status != WorkerProtocol.OK) {
+			throw new IOException("unknown status: " + status);
+		}
+	}
+
+	/**
+	 * Can be called by any thread. The streams are closed by killing the
+	 * process, so a thread that waits for a response is woken up by an
+	 * IOException.
+	 */
+	public void kill() {
+		process.destroyForcibly();
+	}
+}
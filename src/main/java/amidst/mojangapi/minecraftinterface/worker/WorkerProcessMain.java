@@ -0,0 +1,186 @@
+package amidst.mojangapi.minecraftinterface.worker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import amidst.clazz.ClassTranslationCache;
+import amidst.documentation.NotThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * The main class of a worker process. It loads the game and answers the
+ * requests that it reads from the standard input until the standard input is
+ * closed. The standard output is only used for the responses, so everything
+ * else that is printed goes to the standard error.
+ *
+ * A worker process exits when it did not receive a request for a while, so the
+ * worker processes of a launcher profile that is no longer used do not keep
+ * their copy of the game in memory. It is restarted when it is needed again.
+ */
+@NotThreadSafe
+public class WorkerProcessMain {
+	private static final long MAX_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(15);
+	private static final long IDLE_CHECK_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	/**
+	 * Without it, each worker process could grow up to the default maximum
+	 * heap size of a quarter of the physical memory. Generating biome data
+	 * needs much less than that.
+	 */
+	private static final String MAX_HEAP_SIZE = "512m";
+
+	/**
+	 * The first argument is the jar file of the game, the second argument is
+	 * the class translation cache directory and all other arguments are the
+	 * class path of the game.
+	 */
+	public static List<String> createCommand(File jar, File classTranslationCacheDirectory, URL[] classPath) {
+		List<String> result = new ArrayList<>();
+		result.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		result.add("-Xmx" + MAX_HEAP_SIZE);
+		result.add("-cp");
+		result.add(System.getProperty("java.class.path"));
+		result.add(WorkerProcessMain.class.getName());
+		result.add(jar.getPath());
+		result.add(classTranslationCacheDirectory.getPath());
+		for (URL url : classPath) {
+			result.add(url.toString());
+		}
+		return result;
+	}
+
+	public static void main(String[] args) {
+		PrintStream protocolOut = System.out;
+		System.setOut(System.err);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(protocolOut));
+		try {
+			MinecraftInterface minecraftInterface;
+			try {
+				minecraftInterface = createMinecraftInterface(args);
+			} catch (MinecraftInterfaceCreationException | MalformedURLException e) {
+				AmidstLogger.error(e, "unable to load the game in the worker process");
+				writeError(out, e);
+				return;
+			}
+			out.writeByte(WorkerProtocol.OK);
+			out.flush();
+			new WorkerProcessMain(minecraftInterface, in, out).run();
+		} catch (EOFException e) {
+			// the parent process closed the standard input
+		} catch (IOException e) {
+			AmidstLogger.error(e, "communication with the parent process failed");
+		} finally {
+			System.exit(0);
+		}
+	}
+
+	private static MinecraftInterface createMinecraftInterface(String[] args)
+			throws MinecraftInterfaceCreationException,
+			MalformedURLException {
+		if (args.length < 2) {
+			throw new MinecraftInterfaceCreationException(
+					"the jar file of the game or the class translation cache directory is missing");
+		}
+		URL[] classPath = new URL[args.length - 2];
+		for (int i = 0; i < classPath.length; i++) {
+			classPath[i] = new URL(args[i + 2]);
+		}
+		return MinecraftInterfaces.fromClassLoader(
+				new URLClassLoader(classPath),
+				new File(args[0]),
+				new ClassTranslationCache(new File(args[1])));
+	}
+
+	private static void writeError(DataOutputStream out, Exception e) throws IOException {
+		out.writeByte(WorkerProtocol.ERROR);
+		out.writeUTF(String.valueOf(e.getMessage()));
+		out.flush();
+	}
+
+	private final MinecraftInterface minecraftInterface;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+	private volatile long lastRequestTime = System.currentTimeMillis();
+
+	private WorkerProcessMain(MinecraftInterface minecraftInterface, DataInputStream in, DataOutputStream out) {
+		this.minecraftInterface = minecraftInterface;
+		this.in = in;
+		this.out = out;
+	}
+
+	private void run() throws IOException {
+		startIdleChecker();
+		while (true) {
+			byte type = in.readByte();
+			lastRequestTime = System.currentTimeMillis();
+			try {
+				if (type == WorkerProtocol.CREATE_WORLD) {
+					createWorld();
+				} else if (type == WorkerProtocol.GET_BIOME_DATA) {
+					getBiomeData();
+				} else {
+					throw new IOException("unknown request type: " + type);
+				}
+			} catch (MinecraftInterfaceException | RuntimeException e) {
+				AmidstLogger.error(e, "error in the worker process");
+				writeError(out, e);
+			}
+			lastRequestTime = System.currentTimeMillis();
+		}
+	}
+
+	private void createWorld() throws IOException, MinecraftInterfaceException {
+		long seed = in.readLong();
+		WorldType worldType = WorldType.valueOf(in.readUTF());
+		String generatorOptions = in.readUTF();
+		minecraftInterface.createWorld(seed, worldType, generatorOptions);
+		out.writeByte(WorkerProtocol.OK);
+		out.flush();
+	}
+
+	private void getBiomeData() throws IOException, MinecraftInterfaceException {
+		int x = in.readInt();
+		int y = in.readInt();
+		int width = in.readInt();
+		int height = in.readInt();
+		boolean useQuarterResolution = in.readBoolean();
+		int[] biomeData = minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		out.writeByte(WorkerProtocol.OK);
+		WorkerProtocol.writeBiomeData(out, biomeData, width * height);
+		out.flush();
+	}
+
+	private void startIdleChecker() {
+		Thread thread = new Thread(() -> {
+			while (System.currentTimeMillis() - lastRequestTime < MAX_IDLE_MILLIS) {
+				try {
+					Thread.sleep(IDLE_CHECK_INTERVAL_MILLIS);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			System.exit(0);
+		}, "IdleChecker");
+		thread.setDaemon(true);
+		thread.start();
+	}
+}
@@ -0,0 +1,176 @@
+package amidst.mojangapi.minecraftinterface.worker;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+
+/**
+ * Generates the biome data in a worker process, so several instances can run
+ * the game on all processors without sharing a JVM. Use a
+ * {@link amidst.mojangapi.minecraftinterface.PooledMinecraftInterface} to
+ * dispatch the requests to several instances.
+ *
+ * A worker process that crashes or that does not answer in time is killed and
+ * restarted. The restarted worker process creates the current world again and
+ * the request is repeated once.
+ */
+@ThreadSafe
+public class WorkerProcessMinecraftInterface implements MinecraftInterface {
+	@FunctionalInterface
+	private static interface Request {
+		void execute(WorkerProcess process) throws IOException, MinecraftInterfaceException;
+	}
+
+	/**
+	 * Creating the current world is part of every request.
+	 */
+	private static final Request NO_REQUEST = process -> {
+	};
+
+	private static final long CREATE_WORLD_TIMEOUT_SECONDS = 300;
+	private static final long GET_BIOME_DATA_TIMEOUT_SECONDS = 60;
+
+	private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "WorkerProcessWatchdog");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final List<String> command;
+	private final RecognisedVersion recognisedVersion;
+	private volatile WorkerProcess process;
+	private volatile boolean isClosed = false;
+	private boolean hasWorld = false;
+	private boolean isWorldCreated = false;
+	private long seed;
+	private WorldType worldType;
+	private String generatorOptions;
+
+	/**
+	 * The worker process is started by the first request.
+	 */
+	public WorkerProcessMinecraftInterface(List<String> command, RecognisedVersion recognisedVersion) {
+		this.command = command;
+		this.recognisedVersion = recognisedVersion;
+	}
+
+	@Override
+	public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
+			throws MinecraftInterfaceException {
+		int[] result = new int[width * height];
+		getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		execute(
+				GET_BIOME_DATA_TIMEOUT_SECONDS,
+				process -> process
+						.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride));
+	}
+
+	@Override
+	public synchronized void createWorld(long seed, WorldType worldType, String generatorOptions)
+			throws MinecraftInterfaceException {
+		this.hasWorld = true;
+		this.isWorldCreated = false;
+		this.seed = seed;
+		this.worldType = worldType;
+		this.generatorOptions = generatorOptions;
+		execute(CREATE_WORLD_TIMEOUT_SECONDS, NO_REQUEST);
+	}
+
+	private void execute(long timeoutSeconds, Request request) throws MinecraftInterfaceException {
+		try {
+			executeOnce(timeoutSeconds, request);
+		} catch (IOException e) {
+			AmidstLogger.warn(e, "The worker process failed. Restarting it.");
+			stop();
+			try {
+				executeOnce(timeoutSeconds, request);
+			} catch (IOException e2) {
+				stop();
+				throw new MinecraftInterfaceException("the worker process failed again after a restart", e2);
+			}
+		}
+	}
+
+	private void executeOnce(long timeoutSeconds, Request request) throws IOException, MinecraftInterfaceException {
+		if (isClosed) {
+			throw new MinecraftInterfaceException("the worker process was closed");
+		}
+		if (process == null) {
+			process = WorkerProcess.start(command);
+			if (isClosed) {
+				stop();
+				throw new MinecraftInterfaceException("the worker process was closed");
+			}
+		}
+		WorkerProcess process = this.process;
+		ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> {
+			AmidstLogger.warn("The worker process did not answer in time. Killing it.");
+			process.kill();
+		}, timeoutSeconds, TimeUnit.SECONDS);
+		try {
+			try {
+				process.awaitReady();
+			} catch (MinecraftInterfaceException e) {
+				// the worker process exits when it is unable to load the game
+				stop();
+				throw e;
+			}
+			if (hasWorld && !isWorldCreated) {
+				process.createWorld(seed, worldType, generatorOptions);
+				isWorldCreated = true;
+			}
+			request.execute(process);
+		} finally {
+			watchdog.cancel(false);
+		}
+	}
+
+	private void stop() {
+		if (process != null) {
+			process.kill();
+			process = null;
+		}
+		isWorldCreated = false;
+	}
+
+	@Override
+	public RecognisedVersion getRecognisedVersion() {
+		return recognisedVersion;
+	}
+
+	/**
+	 * Kills the worker process and prevents it from being restarted. This does
+	 * not wait for the current request, which fails instead.
+	 */
+	@Override
+	public void close() {
+		isClosed = true;
+		WorkerProcess process = this.process;
+		if (process != null) {
+			process.kill();
+		}
+	}
+}
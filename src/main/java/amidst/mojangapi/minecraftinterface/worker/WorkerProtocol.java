@@ -0,0 +1,83 @@
+package amidst.mojangapi.minecraftinterface.worker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import amidst.documentation.Immutable;
+
+/**
+ * The messages that are exchanged with a worker process via its standard input
+ * and output. Each request starts with its type and each response starts with
+ * its status. An error response only contains the error message. When the
+ * worker process is started, it loads the game and sends a response without
+ * being asked.
+ *
+ * Biome data is sent with one byte per biome, if all biome indices fit into a
+ * single byte, and with four bytes per biome otherwise.
+ */
+@Immutable
+enum WorkerProtocol {
+	;
+
+	static final byte CREATE_WORLD = 1;
+	static final byte GET_BIOME_DATA = 2;
+
+	static final byte OK = 0;
+	static final byte ERROR = 1;
+
+	private static final byte BYTE_BIOME_DATA = 0;
+	private static final byte INT_BIOME_DATA = 1;
+
+	static void writeBiomeData(DataOutputStream out, int[] biomeData, int length) throws IOException {
+		if (fitsIntoBytes(biomeData, length)) {
+			byte[] bytes = new byte[length];
+			for (int i = 0; i < length; i++) {
+				bytes[i] = (byte) biomeData[i];
+			}
+			out.writeByte(BYTE_BIOME_DATA);
+			out.write(bytes);
+		} else {
+			out.writeByte(INT_BIOME_DATA);
+			for (int i = 0; i < length; i++) {
+				out.writeInt(biomeData[i]);
+			}
+		}
+	}
+
+	private static boolean fitsIntoBytes(int[] biomeData, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((biomeData[i] & ~0xFF) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The biome at (i, j) is written to result[offset + i + j * stride].
+	 */
+	static void readBiomeData(DataInputStream in, int width, int height, int[] result, int offset, int stride)
+			throws IOException {
+		byte format = in.readByte();
+		if (format == BYTE_BIOME_DATA) {
+			byte[] bytes = new byte[width * height];
+			in.readFully(bytes);
+			for (int j = 0; j < height; j++) {
+				int rowStart = offset + j * stride;
+				for (int i = 0; i < width; i++) {
+					result[rowStart + i] = bytes[i + j * width] & 0xFF;
+				}
+			}
+		} else if (format == INT_BIOME_DATA) {
+			for (int j = 0; j < height; j++) {
+				int rowStart = offset + j * stride;
+				for (int i = 0; i < width; i++) {
+					result[rowStart + i] = in.readInt();
+				}
+			}
+		} else {
+			throw new IOException("unknown biome data format: " + format);
+		}
+	}
+}
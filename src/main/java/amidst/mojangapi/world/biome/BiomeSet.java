@@ -0,0 +1,74 @@
+package amidst.mojangapi.world.biome;
+
+import java.util.Collection;
+
+import amidst.documentation.Immutable;
+
+/**
+ * A set of biomes that is stored as a bit set of the biome indices. Unlike a
+ * list of biomes, it can check the raw biome indices of the biome data without
+ * looking up the biome of each index. Indices of unknown biomes are never
+ * contained.
+ */
+@Immutable
+public class BiomeSet {
+	public static BiomeSet of(Biome... biomes) {
+		long[] bits = new long[getBitSetLength()];
+		for (Biome biome : biomes) {
+			bits[biome.getIndex() >>> 6] |= 1L << biome.getIndex();
+		}
+		return new BiomeSet(bits);
+	}
+
+	public static BiomeSet from(Collection<Biome> biomes) {
+		return of(biomes.toArray(new Biome[biomes.size()]));
+	}
+
+	private static int getBitSetLength() {
+		return (Biome.getBiomesLength() + 63) >>> 6;
+	}
+
+	private final long[] bits;
+	private final boolean isEmpty;
+
+	private BiomeSet(long[] bits) {
+		this.bits = bits;
+		this.isEmpty = isEmpty(bits);
+	}
+
+	private static boolean isEmpty(long[] bits) {
+		for (long word : bits) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean containsIndex(int index) {
+		int word = index >>> 6;
+		return word < bits.length && (bits[word] & 1L << index) != 0;
+	}
+
+	public boolean contains(Biome biome) {
+		return containsIndex(biome.getIndex());
+	}
+
+	/**
+	 * Returns true, if the first length biome indices of the biome data are
+	 * all contained in this set.
+	 */
+	public boolean containsAllIndices(int[] biomeData, int length) {
+		for (int i = 0; i < length; i++) {
+			if (!containsIndex(biomeData[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return isEmpty;
+	}
+
+}
@@ -22,6 +22,30 @@ public class AllValidLocationChecker implements LocationChecker {
 		return true;
 	}
 
+	/**
+	 * Each checker only checks the locations that all previous checkers
+	 * accepted.
+	 */
+	@Override
+	public void removeInvalidLocations(int[] xs, int[] ys, boolean[] isValid, int count) {
+		for (LocationChecker checker : checkers) {
+			checker.removeInvalidLocations(xs, ys, isValid, count);
+		}
+	}
+
+	/**
+	 * A location is only valid if all checkers accept it, so the candidates of
+	 * the first checker are enough.
+	 */
+	@Override
+	public long[] getCandidateLocations(int left, int top, int width, int height) {
+		if (checkers.length > 0) {
+			return checkers[0].getCandidateLocations(left, top, width, height);
+		} else {
+			return LocationChecker.super.getCandidateLocations(left, top, width, height);
+		}
+	}
+
 	@Override
 	public boolean hasValidLocations() {
 		return hasValidLocation;
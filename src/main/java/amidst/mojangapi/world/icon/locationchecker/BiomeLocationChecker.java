@@ -1,17 +1,15 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
 public class BiomeLocationChecker implements LocationChecker {
 	private final BiomeDataOracle biomeDataOracle;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public BiomeLocationChecker(BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public BiomeLocationChecker(BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		this.biomeDataOracle = biomeDataOracle;
 		this.validBiomes = validBiomes;
 	}
@@ -21,6 +19,11 @@ public class BiomeLocationChecker implements LocationChecker {
 		return biomeDataOracle.isValidBiomeAtMiddleOfChunk(x, y, validBiomes);
 	}
 
+	@Override
+	public void removeInvalidLocations(int[] xs, int[] ys, boolean[] isValid, int count) {
+		biomeDataOracle.removeInvalidBiomesAtMiddleOfChunks(xs, ys, isValid, count, validBiomes);
+	}
+
 	@Override
 	public boolean hasValidLocations() {
 		return !validBiomes.isEmpty();
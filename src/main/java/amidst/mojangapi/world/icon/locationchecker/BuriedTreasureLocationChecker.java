@@ -1,18 +1,16 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-import java.util.Random;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
+import amidst.util.JavaRandom;
 
 @ThreadSafe
 public class BuriedTreasureLocationChecker extends AllValidLocationChecker {
 	private static final float BURIED_TREASURE_CHANCE = 0.01F;
 
 	public BuriedTreasureLocationChecker(
-			long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesForStructure, long seedForStructure) {
+			long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesForStructure, long seedForStructure) {
 		super(
 			new BuriedTreasureAlgorithm(seed + seedForStructure, BURIED_TREASURE_CHANCE),
 			new BiomeLocationChecker(biomeDataOracle, validBiomesForStructure)
@@ -25,6 +23,7 @@ public class BuriedTreasureLocationChecker extends AllValidLocationChecker {
 
 		private final long seed;
 		private final float chance;
+		private final ThreadLocal<JavaRandom> random = ThreadLocal.withInitial(JavaRandom::new);
 
 		public BuriedTreasureAlgorithm(long seed, float chance) {
 			this.seed = seed;
@@ -33,7 +32,7 @@ public class BuriedTreasureLocationChecker extends AllValidLocationChecker {
 
 		@Override
 		public boolean isValidLocation(int x, int y) {
-			Random random = new Random();
+			JavaRandom random = this.random.get();
 			random.setSeed(x*MAGIC_NUMBER_FOR_SEED_1 + y*MAGIC_NUMBER_FOR_SEED_2 + seed);
 			return random.nextFloat() < chance;
 		}
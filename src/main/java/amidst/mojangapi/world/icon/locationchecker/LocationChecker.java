@@ -6,6 +6,36 @@ import amidst.documentation.ThreadSafe;
 public interface LocationChecker {
 	boolean isValidLocation(int x, int y);
 
+	/**
+	 * Marks each location that is still marked as valid, but is not a valid
+	 * location, as invalid. Checkers that can check many locations faster than
+	 * one location at a time should override this.
+	 */
+	default void removeInvalidLocations(int[] xs, int[] ys, boolean[] isValid, int count) {
+		for (int i = 0; i < count; i++) {
+			if (isValid[i] && !isValidLocation(xs[i], ys[i])) {
+				isValid[i] = false;
+			}
+		}
+	}
+
+	/**
+	 * Returns the locations of the given area that can be valid, in no
+	 * particular order. Each location is packed as x << 32 | y & 0xFFFFFFFFL.
+	 * Checkers that only accept a few locations per area should override this,
+	 * so the other locations are never checked.
+	 */
+	default long[] getCandidateLocations(int left, int top, int width, int height) {
+		long[] result = new long[width * height];
+		int i = 0;
+		for (int x = left; x < left + width; x++) {
+			for (int y = top; y < top + height; y++) {
+				result[i++] = (long) x << 32 | y & 0xFFFFFFFFL;
+			}
+		}
+		return result;
+	}
+
 	default boolean hasValidLocations() {
 		return true;
 	}
@@ -1,12 +1,12 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
-import amidst.documentation.Immutable;
-
-@Immutable
+@ThreadSafe
 public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 	private final long seed;
+	private final ThreadLocal<JavaRandom> random = ThreadLocal.withInitial(JavaRandom::new);
 
 	public MineshaftAlgorithm_Base(long seed) {
 		this.seed = seed;
@@ -20,7 +20,8 @@ public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 		 * a cave or a ravine). We can't check these cases, so we will have to accept
 		 * some false positives.
 		 */
-		Random random = new Random(seed);
+		JavaRandom random = this.random.get();
+		random.setSeed(seed);
 
 		long var13 = chunkX * random.nextLong();
 		long var15 = chunkY * random.nextLong();
@@ -34,7 +35,7 @@ public abstract class MineshaftAlgorithm_Base implements LocationChecker {
 		return !doExtraCheck() || random.nextInt(80) < Math.max(Math.abs(chunkX), Math.abs(chunkY));
 	}
 
-	protected abstract boolean getResult(int chunkX, int chunkY, Random random);
+	protected abstract boolean getResult(int chunkX, int chunkY, JavaRandom random);
 
 	protected boolean doExtraCheck() {
 		return true;
@@ -1,13 +1,12 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
-import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
 /**
  * As of v1.4.2 Minecraft switched to this version of the algorithm
  */
-@Immutable
+@ThreadSafe
 public class MineshaftAlgorithm_ChanceBased extends MineshaftAlgorithm_Base {
 	private final double chancePerChunk;
 	private final boolean extraCheck;
@@ -19,7 +18,7 @@ public class MineshaftAlgorithm_ChanceBased extends MineshaftAlgorithm_Base {
 	}
 
 	@Override
-	protected boolean getResult(int chunkX, int chunkY, Random random) {
+	protected boolean getResult(int chunkX, int chunkY, JavaRandom random) {
 		return random.nextDouble() < chancePerChunk;
 	}
 
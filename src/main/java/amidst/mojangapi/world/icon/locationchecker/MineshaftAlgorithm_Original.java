@@ -1,8 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
-
-import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
 /**
  * Empirical testing suggests this version of the algorithm works all the way
@@ -19,14 +18,14 @@ import amidst.documentation.Immutable;
  * do appear in the game can't tell us whether the very early versions have
  * fewer mineshafts near the origin.
  */
-@Immutable
+@ThreadSafe
 public class MineshaftAlgorithm_Original extends MineshaftAlgorithm_Base {
 	public MineshaftAlgorithm_Original(long seed) {
 		super(seed);
 	}
 
 	@Override
-	protected boolean getResult(int chunkX, int chunkY, Random random) {
+	protected boolean getResult(int chunkX, int chunkY, JavaRandom random) {
 		return random.nextInt(100) == 0;
 	}
 }
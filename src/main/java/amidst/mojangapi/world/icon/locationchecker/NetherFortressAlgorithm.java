@@ -1,12 +1,12 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
-import amidst.documentation.Immutable;
-
-@Immutable
+@ThreadSafe
 public class NetherFortressAlgorithm implements LocationChecker {
 	private final long seed;
+	private final ThreadLocal<JavaRandom> random = ThreadLocal.withInitial(JavaRandom::new);
 
 	public NetherFortressAlgorithm(long seed) {
 		this.seed = seed;
@@ -16,7 +16,8 @@ public class NetherFortressAlgorithm implements LocationChecker {
 	public boolean isValidLocation(int x, int y) {
 		int i = x >> 4;
 		int j = y >> 4;
-		Random random = new Random(i ^ j << 4 ^ seed);
+		JavaRandom random = this.random.get();
+		random.setSeed(i ^ j << 4 ^ seed);
 		random.nextInt();
 		// @formatter:off
 		return random.nextInt(3) == 0
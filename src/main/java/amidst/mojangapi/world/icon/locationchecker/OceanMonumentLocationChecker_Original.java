@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
@@ -19,8 +17,8 @@ public class OceanMonumentLocationChecker_Original extends AllValidLocationCheck
 	public OceanMonumentLocationChecker_Original(
 			long seed,
 			BiomeDataOracle biomeDataOracle,
-			List<Biome> validBiomesAtMiddleOfChunk,
-			List<Biome> validBiomesForStructure) {
+			BiomeSet validBiomesAtMiddleOfChunk,
+			BiomeSet validBiomesForStructure) {
 		super(
 				new StructureAlgorithm(
 						seed,
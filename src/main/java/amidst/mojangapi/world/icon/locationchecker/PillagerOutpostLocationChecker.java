@@ -1,11 +1,9 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-import java.util.Random;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
+import amidst.util.JavaRandom;
 
 @ThreadSafe
 public class PillagerOutpostLocationChecker extends AllValidLocationChecker {
@@ -19,7 +17,7 @@ public class PillagerOutpostLocationChecker extends AllValidLocationChecker {
 
 
 	public PillagerOutpostLocationChecker(
-			long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesForStructure) {
+			long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesForStructure) {
 		super(
 			new StructureAlgorithm(
 				seed,
@@ -36,6 +34,7 @@ public class PillagerOutpostLocationChecker extends AllValidLocationChecker {
 
 	private static class PillagerOutpostAlgorithm implements LocationChecker {
 		private final long seed;
+		private final ThreadLocal<JavaRandom> random = ThreadLocal.withInitial(JavaRandom::new);
 
 		public PillagerOutpostAlgorithm(long seed) {
 			this.seed = seed;
@@ -43,7 +42,8 @@ public class PillagerOutpostLocationChecker extends AllValidLocationChecker {
 
 		@Override
 		public boolean isValidLocation(int x, int y) {
-			Random random = new Random((x >> 4) ^ ((y >> 4) << 4) ^ seed);
+			JavaRandom random = this.random.get();
+			random.setSeed((x >> 4) ^ ((y >> 4) << 4) ^ seed);
 			random.nextInt();
 			return random.nextInt(5) == 0;
 		}
@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
@@ -16,7 +14,7 @@ public class ScatteredFeaturesLocationChecker extends AllValidLocationChecker {
 
 	public ScatteredFeaturesLocationChecker(
 			long seed, BiomeDataOracle biomeDataOracle,
-			List<Biome> validBiomesAtMiddleOfChunk,
+			BiomeSet validBiomesAtMiddleOfChunk,
 			long magicNumber,
 			boolean buggyStructureCoordinateMath) {
 		
@@ -31,7 +29,7 @@ public class ScatteredFeaturesLocationChecker extends AllValidLocationChecker {
 	public ScatteredFeaturesLocationChecker(
 			long seed, BiomeDataOracle biomeDataOracle,
 			byte maxDistanceBetweenFeatures, byte minDistanceBetweenFeatures,
-			List<Biome> validBiomesAtMiddleOfChunk,
+			BiomeSet validBiomesAtMiddleOfChunk,
 			long magicNumber,
 			boolean buggyStructureCoordinateMath) {
 
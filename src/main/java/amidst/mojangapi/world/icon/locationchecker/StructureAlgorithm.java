@@ -1,10 +1,11 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.Random;
+import java.util.Arrays;
 
-import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
-@Immutable
+@ThreadSafe
 public class StructureAlgorithm implements LocationChecker {
 	private final long seed;
 	private final long magicNumberForSeed1;
@@ -14,6 +15,7 @@ public class StructureAlgorithm implements LocationChecker {
 	private final int distanceBetweenScatteredFeaturesRange;
 	private final boolean useTwoValuesForUpdate;
 	private final boolean buggyStructureCoordinateMath;
+	private final ThreadLocal<JavaRandom> random = ThreadLocal.withInitial(JavaRandom::new);
 
 	public StructureAlgorithm(
 			long seed,
@@ -56,12 +58,58 @@ public class StructureAlgorithm implements LocationChecker {
 
 	@Override
 	public boolean isValidLocation(int x, int y) {
-		int value1 = getInitialValue(x);
-		int value2 = getInitialValue(y);
-		Random random = new Random(getSeed(value1, value2));
+		long candidate = getCandidate(getInitialValue(x), getInitialValue(y));
+		return x == getCandidateX(candidate) && y == getCandidateY(candidate);
+	}
+
+	/**
+	 * Each region contains a single candidate location, so only the candidate
+	 * of each region that overlaps the area is computed. Due to bug MC-131462,
+	 * a candidate can lie outside of its region, in which case it is never
+	 * valid.
+	 */
+	@Override
+	public long[] getCandidateLocations(int left, int top, int width, int height) {
+		int right = left + width - 1;
+		int bottom = top + height - 1;
+		int fromRegionX = getInitialValue(left);
+		int toRegionX = getInitialValue(right);
+		int fromRegionY = getInitialValue(top);
+		int toRegionY = getInitialValue(bottom);
+		long[] result = new long[(toRegionX - fromRegionX + 1) * (toRegionY - fromRegionY + 1)];
+		int count = 0;
+		for (int regionX = fromRegionX; regionX <= toRegionX; regionX++) {
+			for (int regionY = fromRegionY; regionY <= toRegionY; regionY++) {
+				long candidate = getCandidate(regionX, regionY);
+				int x = getCandidateX(candidate);
+				int y = getCandidateY(candidate);
+				if (x >= left && x <= right && y >= top && y <= bottom
+						&& getInitialValue(x) == regionX && getInitialValue(y) == regionY) {
+					result[count++] = candidate;
+				}
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	private long getCandidate(int value1, int value2) {
+		JavaRandom random = this.random.get();
+		random.setSeed(getSeed(value1, value2));
 		value1 = updateValue(random, value1);
 		value2 = updateValue(random, value2);
-		return x == value1 && y == value2;
+		return pack(value1, value2);
+	}
+
+	private static long pack(int x, int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	private static int getCandidateX(long candidate) {
+		return (int) (candidate >> 32);
+	}
+
+	private static int getCandidateY(long candidate) {
+		return (int) candidate;
 	}
 
 	private int getInitialValue(int coordinate) {
@@ -90,7 +138,7 @@ public class StructureAlgorithm implements LocationChecker {
 		// @formatter:on
 	}
 
-	private int updateValue(Random random, int value) {
+	private int updateValue(JavaRandom random, int value) {
 		int result = value * maxDistanceBetweenScatteredFeatures;
 		if (useTwoValuesForUpdate) {
 			result += (random.nextInt(distanceBetweenScatteredFeaturesRange)
@@ -1,18 +1,16 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
 public class StructureBiomeLocationChecker implements LocationChecker {
 	private final BiomeDataOracle biomeDataOracle;
 	private final int size;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public StructureBiomeLocationChecker(BiomeDataOracle biomeDataOracle, int size, List<Biome> validBiomes) {
+	public StructureBiomeLocationChecker(BiomeDataOracle biomeDataOracle, int size, BiomeSet validBiomes) {
 		this.biomeDataOracle = biomeDataOracle;
 		this.size = size;
 		this.validBiomes = validBiomes;
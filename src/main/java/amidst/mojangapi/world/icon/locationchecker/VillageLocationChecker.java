@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
@@ -17,12 +15,12 @@ public class VillageLocationChecker extends AllValidLocationChecker {
 	private static final int STRUCTURE_SIZE = 0;
 
 	public VillageLocationChecker(
-			long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesForStructure, boolean doComplexVillageCheck) {
+			long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesForStructure, boolean doComplexVillageCheck) {
 		super(getLocationCheckers(seed, biomeDataOracle, validBiomesForStructure, doComplexVillageCheck));
 	}
 	
 	private static LocationChecker[] getLocationCheckers(
-			long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesForStructure, boolean doComplexVillageCheck) {
+			long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesForStructure, boolean doComplexVillageCheck) {
 		LocationChecker base = new StructureAlgorithm(
 				seed,
 				MAGIC_NUMBER_FOR_SEED_1,
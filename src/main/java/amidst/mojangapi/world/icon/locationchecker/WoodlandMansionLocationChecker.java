@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.locationchecker;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 @ThreadSafe
@@ -16,7 +14,7 @@ public class WoodlandMansionLocationChecker extends AllValidLocationChecker {
 	private static final boolean USE_TWO_VALUES_FOR_UPDATE = true;
 	private static final int STRUCTURE_SIZE = 32;
 
-	public WoodlandMansionLocationChecker(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomesForStructure) {
+	public WoodlandMansionLocationChecker(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomesForStructure) {
 		super(
 				new StructureAlgorithm(
 						seed,
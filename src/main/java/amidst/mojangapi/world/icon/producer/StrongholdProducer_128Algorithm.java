@@ -1,10 +1,9 @@
 package amidst.mojangapi.world.icon.producer;
 
-import java.util.List;
 import java.util.Random;
 
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 /**
@@ -15,7 +14,7 @@ import amidst.mojangapi.world.oracle.BiomeDataOracle;
  */
 @ThreadSafe
 public class StrongholdProducer_128Algorithm extends StrongholdProducer_Buggy128Algorithm {
-	public StrongholdProducer_128Algorithm(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public StrongholdProducer_128Algorithm(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		super(seed, biomeDataOracle, validBiomes);
 	}
 
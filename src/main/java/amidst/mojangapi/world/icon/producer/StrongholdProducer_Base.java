@@ -6,7 +6,7 @@ import java.util.Random;
 
 import amidst.documentation.ThreadSafe;
 import amidst.mojangapi.world.Dimension;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.icon.WorldIcon;
 import amidst.mojangapi.world.icon.type.DefaultWorldIconTypes;
@@ -19,9 +19,9 @@ public abstract class StrongholdProducer_Base extends CachedWorldIconProducer {
 
 	private final long seed;
 	private final BiomeDataOracle biomeDataOracle;
-	private final List<Biome> validBiomes;
+	private final BiomeSet validBiomes;
 
-	public StrongholdProducer_Base(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public StrongholdProducer_Base(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		this.seed = seed;
 		this.biomeDataOracle = biomeDataOracle;
 		this.validBiomes = validBiomes;
@@ -1,9 +1,7 @@
 package amidst.mojangapi.world.icon.producer;
 
-import java.util.List;
-
 import amidst.documentation.ThreadSafe;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
 
 /**
@@ -14,7 +12,7 @@ import amidst.mojangapi.world.oracle.BiomeDataOracle;
  */
 @ThreadSafe
 public class StrongholdProducer_Buggy128Algorithm extends StrongholdProducer_Base {
-	public StrongholdProducer_Buggy128Algorithm(long seed, BiomeDataOracle biomeDataOracle, List<Biome> validBiomes) {
+	public StrongholdProducer_Buggy128Algorithm(long seed, BiomeDataOracle biomeDataOracle, BiomeSet validBiomes) {
 		super(seed, biomeDataOracle, validBiomes);
 	}
 
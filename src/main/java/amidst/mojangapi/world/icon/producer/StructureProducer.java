@@ -37,15 +37,33 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 		this.displayDimension = displayDimension;
 	}
 
+	/**
+	 * Only the candidate locations of the fragment are checked, e.g. one per
+	 * structure region. They are checked at once, so the checker can request
+	 * the biomes of all of them together.
+	 */
 	@Override
 	public void produce(CoordinatesInWorld corner, Consumer<WorldIcon> consumer, T additionalData) {
 		if(!checker.hasValidLocations()) {
 			return; // No need to check if the LocationChecker will never accept anything
 		}
 
-		for (int xRelativeToFragment = 0; xRelativeToFragment < size; xRelativeToFragment++) {
-			for (int yRelativeToFragment = 0; yRelativeToFragment < size; yRelativeToFragment++) {
-				generateAt(corner, consumer, additionalData, xRelativeToFragment, yRelativeToFragment);
+		int cornerX = (int) corner.getXAs(resolution);
+		int cornerY = (int) corner.getYAs(resolution);
+		long[] candidates = checker.getCandidateLocations(cornerX, cornerY, size, size);
+		int count = candidates.length;
+		int[] xs = new int[count];
+		int[] ys = new int[count];
+		boolean[] isValid = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			xs[i] = (int) (candidates[i] >> 32);
+			ys[i] = (int) candidates[i];
+			isValid[i] = true;
+		}
+		checker.removeInvalidLocations(xs, ys, isValid, count);
+		for (int i = 0; i < count; i++) {
+			if (isValid[i]) {
+				generateAt(corner, consumer, additionalData, xs[i], ys[i], xs[i] - cornerX, ys[i] - cornerY);
 			}
 		}
 	}
@@ -55,22 +73,20 @@ public class StructureProducer<T> extends WorldIconProducer<T> {
 			CoordinatesInWorld corner,
 			Consumer<WorldIcon> consumer,
 			T additionalData,
+			int x,
+			int y,
 			int xRelativeToFragment,
 			int yRelativeToFragment) {
-		int x = xRelativeToFragment + (int) corner.getXAs(resolution);
-		int y = yRelativeToFragment + (int) corner.getYAs(resolution);
-		if (checker.isValidLocation(x, y)) {
-			DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
-			if (worldIconType != null) {
-				CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
-				consumer.accept(
-						new WorldIcon(
-								coordinates,
-								worldIconType.getLabel(),
-								worldIconType.getImage(),
-								dimension,
-								displayDimension));
-			}
+		DefaultWorldIconTypes worldIconType = provider.get(x, y, additionalData);
+		if (worldIconType != null) {
+			CoordinatesInWorld coordinates = createCoordinates(corner, xRelativeToFragment, yRelativeToFragment);
+			consumer.accept(
+					new WorldIcon(
+							coordinates,
+							worldIconType.getLabel(),
+							worldIconType.getImage(),
+							dimension,
+							displayDimension));
 		}
 	}
 
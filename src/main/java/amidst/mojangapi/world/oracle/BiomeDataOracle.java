@@ -1,6 +1,6 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Random;
 
 import amidst.documentation.ThreadSafe;
@@ -10,18 +10,58 @@ import amidst.mojangapi.minecraftinterface.MinecraftInterface;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
 import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.biome.UnknownBiomeIndexException;
 import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
 import amidst.mojangapi.world.coordinates.Resolution;
 
 @ThreadSafe
 public class BiomeDataOracle {
+	/**
+	 * No biome uses this index, so it is displayed as an unknown biome.
+	 */
+	public static final byte UNKNOWN_BIOME_INDEX_AS_BYTE = (byte) 0xFF;
+
+	/**
+	 * The points of a batch query are grouped by squares of this size in
+	 * blocks. All points of a group are requested at once by requesting their
+	 * bounding box, which can contain up to GROUP_SIZE * GROUP_SIZE biomes.
+	 */
+	private static final int GROUP_SIZE = 32;
+
+	/**
+	 * Requesting a row of biomes costs about as much as requesting several
+	 * rows, because the biome layers need a margin around the requested area.
+	 * Sampling rows only beats requesting the whole fragment from this stride
+	 * on. See SampledBiomeDataBencher.
+	 */
+	private static final int MINIMUM_SAMPLED_STRIDE = 32;
+
 	private final MinecraftInterface minecraftInterface;
 
+	/**
+	 * The biome data is written to an array of the requesting thread, so no
+	 * array needs to be allocated per request.
+	 */
+	private final ThreadLocal<int[]> biomeDataArray = ThreadLocal.withInitial(() -> new int[256]);
+
+	/**
+	 * The structure checks read the biome data of the loaded fragments from
+	 * here, instead of generating it again.
+	 */
+	private volatile LoadedBiomeDataView loadedBiomeDataView = LoadedBiomeDataView.NONE;
+
 	public BiomeDataOracle(MinecraftInterface minecraftInterface) {
 		this.minecraftInterface = minecraftInterface;
 	}
 
+	/**
+	 * The view must only provide the biome data of this world.
+	 */
+	public void setLoadedBiomeDataView(LoadedBiomeDataView loadedBiomeDataView) {
+		this.loadedBiomeDataView = loadedBiomeDataView;
+	}
+
 	public void populateArray(CoordinatesInWorld corner, short[][] result, boolean useQuarterResolution) {
 		Resolution resolution = Resolution.from(useQuarterResolution);
 		int width = result.length;
@@ -38,6 +78,89 @@ public class BiomeDataOracle {
 		}
 	}
 
+	/**
+	 * The result is stored row by row with one byte per biome. Biome indices
+	 * that do not fit into a byte are stored as
+	 * {@link #UNKNOWN_BIOME_INDEX_AS_BYTE}.
+	 */
+	public void populateArray(
+			CoordinatesInWorld corner,
+			byte[] result,
+			int width,
+			int height,
+			boolean useQuarterResolution) {
+		Resolution resolution = Resolution.from(useQuarterResolution);
+		int left = (int) corner.getXAs(resolution);
+		int top = (int) corner.getYAs(resolution);
+		try {
+			copyToResult(result, width * height, getBiomeData(left, top, width, height, useQuarterResolution));
+		} catch (MinecraftInterfaceException e) {
+			AmidstLogger.error(e);
+			AmidstMessageBox.displayError("Error", e);
+		}
+	}
+
+	/**
+	 * Only samples the biome at the center of each square of stride x stride
+	 * biomes and fills the whole square with it. All samples of a row are
+	 * requested at once. Below {@link #MINIMUM_SAMPLED_STRIDE}, requesting the
+	 * whole area is faster than requesting each row, so the array is populated
+	 * with all biomes instead.
+	 *
+	 * @return the stride of the biome data that was actually populated
+	 */
+	public int populateArraySampled(
+			CoordinatesInWorld corner,
+			byte[] result,
+			int width,
+			int height,
+			int stride,
+			boolean useQuarterResolution) {
+		if (stride < MINIMUM_SAMPLED_STRIDE) {
+			populateArray(corner, result, width, height, useQuarterResolution);
+			return 1;
+		}
+		Resolution resolution = Resolution.from(useQuarterResolution);
+		int left = (int) corner.getXAs(resolution);
+		int top = (int) corner.getYAs(resolution);
+		int offset = stride >> 1;
+		int numberOfSamples = (width + stride - 1) / stride;
+		int rowWidth = (numberOfSamples - 1) * stride + 1;
+		try {
+			for (int y = 0; y < height; y += stride) {
+				int[] row = getBiomeData(left + offset, top + y + offset, rowWidth, 1, useQuarterResolution);
+				for (int i = 0; i < numberOfSamples; i++) {
+					fillSquare(result, width, height, i * stride, y, stride, toByte(row[i * stride]));
+				}
+			}
+		} catch (MinecraftInterfaceException e) {
+			AmidstLogger.error(e);
+			AmidstMessageBox.displayError("Error", e);
+		}
+		return stride;
+	}
+
+	private static void fillSquare(byte[] result, int width, int height, int left, int top, int stride, byte value) {
+		int right = Math.min(left + stride, width);
+		int bottom = Math.min(top + stride, height);
+		for (int y = top; y < bottom; y++) {
+			int rowStart = y * width;
+			for (int x = left; x < right; x++) {
+				result[rowStart + x] = value;
+			}
+		}
+	}
+
+	public static void copyToResult(byte[] result, int size, int[] biomeData) {
+		for (int i = 0; i < size; i++) {
+			result[i] = toByte(biomeData[i]);
+		}
+	}
+
+	private static byte toByte(int biomeIndex) {
+		return (biomeIndex & ~0xFF) == 0 ? (byte) biomeIndex : UNKNOWN_BIOME_INDEX_AS_BYTE;
+	}
+
 	public static void copyToResult(short[][] result, int width, int height, int[] biomeData) {
 		for (int y = 0; y < height; y++) {
 			for (int x = 0; x < width; x++) {
@@ -50,17 +173,154 @@ public class BiomeDataOracle {
 		return x + y * width;
 	}
 
-	public boolean isValidBiomeAtMiddleOfChunk(int chunkX, int chunkY, List<Biome> validBiomes) {
+	public boolean isValidBiomeAtMiddleOfChunk(int chunkX, int chunkY, BiomeSet validBiomes) {
 		return isValidBiome(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), validBiomes);
 	}
 
-	private boolean isValidBiome(int x, int y, List<Biome> validBiomes) {
+	/**
+	 * This is the batch version of
+	 * {@link #isValidBiomeAtMiddleOfChunk(int, int, BiomeSet)}. It only checks the
+	 * chunks that are still marked as valid and marks the chunks with an invalid
+	 * biome as invalid.
+	 */
+	public void removeInvalidBiomesAtMiddleOfChunks(
+			int[] chunkXs,
+			int[] chunkYs,
+			boolean[] isValid,
+			int count,
+			BiomeSet validBiomes) {
+		int[] indices = new int[count];
+		int[] xs = new int[count];
+		int[] ys = new int[count];
+		int numberOfPoints = 0;
+		for (int i = 0; i < count; i++) {
+			if (isValid[i]) {
+				indices[numberOfPoints] = i;
+				xs[numberOfPoints] = getMiddleOfChunk(chunkXs[i]);
+				ys[numberOfPoints] = getMiddleOfChunk(chunkYs[i]);
+				numberOfPoints++;
+			}
+		}
+		if (numberOfPoints == 0) {
+			return;
+		}
 		try {
-			return validBiomes.contains(getBiomeAt(x, y));
-		} catch (UnknownBiomeIndexException e) {
+			int[] biomeIndices = getBiomeIndicesAt(xs, ys, numberOfPoints);
+			for (int i = 0; i < numberOfPoints; i++) {
+				isValid[indices[i]] = validBiomes.containsIndex(biomeIndices[i]);
+			}
+		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
-			return false;
+			for (int i = 0; i < numberOfPoints; i++) {
+				isValid[indices[i]] = false;
+			}
+		}
+	}
+
+	/**
+	 * Gets the full resolution biome indices at the given block coordinates.
+	 * Unlike {@link #getBiomeAt(int, int)}, this does not request each point
+	 * on its own. Instead, the points are grouped by their location and each
+	 * group is requested at once, so points that are close to each other or
+	 * occur multiple times need only a single request.
+	 */
+	public int[] getBiomeIndicesAt(int[] xs, int[] ys, int count) throws MinecraftInterfaceException {
+		int[] result = new int[count];
+		long[] groupKeys = new long[count];
+		for (int i = 0; i < count; i++) {
+			groupKeys[i] = getGroupKey(xs[i], ys[i]);
+		}
+		long[] groups = getDistinctSorted(groupKeys);
+		int[] groupStarts = new int[groups.length + 1];
+		int[] points = groupPoints(groupKeys, groups, groupStarts);
+		for (int group = 0; group < groups.length; group++) {
+			int left = Integer.MAX_VALUE;
+			int top = Integer.MAX_VALUE;
+			int right = Integer.MIN_VALUE;
+			int bottom = Integer.MIN_VALUE;
+			for (int j = groupStarts[group]; j < groupStarts[group + 1]; j++) {
+				int i = points[j];
+				left = Math.min(left, xs[i]);
+				top = Math.min(top, ys[i]);
+				right = Math.max(right, xs[i]);
+				bottom = Math.max(bottom, ys[i]);
+			}
+			int width = right - left + 1;
+			int height = bottom - top + 1;
+			if (!isCoveredByVoronoiZoom(left, width) || !isCoveredByVoronoiZoom(top, height)) {
+				left = alignToVoronoiZoom(left);
+				top = alignToVoronoiZoom(top);
+				width = right - left + 4 & ~3;
+				height = bottom - top + 4 & ~3;
+			}
+			int[] biomeData = getFullResolutionBiomeData(left, top, width, height);
+			for (int j = groupStarts[group]; j < groupStarts[group + 1]; j++) {
+				int i = points[j];
+				result[i] = biomeData[getBiomeDataIndex(xs[i] - left, ys[i] - top, width)];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The voronoi zoom layer of the game requests (size >> 2) + 2 cells of its
+	 * parent layer, which does not cover every alignment of the area. The
+	 * blocks that are not covered contain data that was left over from
+	 * previous requests. Areas that start two blocks after a quarter-resolution
+	 * cell and whose size is a multiple of four are always covered.
+	 */
+	private static boolean isCoveredByVoronoiZoom(int start, int size) {
+		return (start - 2 & 3) + size <= (size >> 2) + 1 << 2;
+	}
+
+	private static int alignToVoronoiZoom(int start) {
+		return start - (start - 2 & 3);
+	}
+
+	private static long getGroupKey(int x, int y) {
+		long groupX = Math.floorDiv(x, GROUP_SIZE);
+		long groupY = Math.floorDiv(y, GROUP_SIZE);
+		return groupX << 32 | groupY & 0xFFFFFFFFL;
+	}
+
+	private static long[] getDistinctSorted(long[] keys) {
+		long[] result = keys.clone();
+		Arrays.sort(result);
+		int length = 0;
+		for (int i = 0; i < result.length; i++) {
+			if (length == 0 || result[length - 1] != result[i]) {
+				result[length++] = result[i];
+			}
+		}
+		return Arrays.copyOf(result, length);
+	}
+
+	/**
+	 * Returns the indices of the points, sorted by their group. The points of
+	 * the n-th group are stored from groupStarts[n] to groupStarts[n + 1].
+	 */
+	private static int[] groupPoints(long[] groupKeys, long[] groups, int[] groupStarts) {
+		int[] groupOfPoints = new int[groupKeys.length];
+		for (int i = 0; i < groupKeys.length; i++) {
+			int group = Arrays.binarySearch(groups, groupKeys[i]);
+			groupOfPoints[i] = group;
+			groupStarts[group + 1]++;
+		}
+		for (int group = 0; group < groups.length; group++) {
+			groupStarts[group + 1] += groupStarts[group];
+		}
+		int[] result = new int[groupKeys.length];
+		int[] nextPositions = Arrays.copyOf(groupStarts, groups.length);
+		for (int i = 0; i < groupKeys.length; i++) {
+			result[nextPositions[groupOfPoints[i]]++] = i;
+		}
+		return result;
+	}
+
+	private boolean isValidBiome(int x, int y, BiomeSet validBiomes) {
+		try {
+			return validBiomes.containsIndex(getFullResolutionBiomeData(x, y, 1, 1)[0]);
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -68,11 +328,11 @@ public class BiomeDataOracle {
 		}
 	}
 
-	public boolean isValidBiomeForStructureAtMiddleOfChunk(int chunkX, int chunkY, int size, List<Biome> validBiomes) {
+	public boolean isValidBiomeForStructureAtMiddleOfChunk(int chunkX, int chunkY, int size, BiomeSet validBiomes) {
 		return isValidBiomeForStructure(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), size, validBiomes);
 	}
 
-	public boolean isValidBiomeForStructure(int x, int y, int size, List<Biome> validBiomes) {
+	public boolean isValidBiomeForStructure(int x, int y, int size, BiomeSet validBiomes) {
 		int left = x - size >> 2;
 		int top = y - size >> 2;
 		int right = x + size >> 2;
@@ -81,16 +341,7 @@ public class BiomeDataOracle {
 		int height = bottom - top + 1;
 		try {
 			int[] biomeData = getQuarterResolutionBiomeData(left, top, width, height);
-			for (int i = 0; i < width * height; i++) {
-				if (!validBiomes.contains(Biome.getByIndex(biomeData[i]))) {
-					return false;
-				}
-			}
-			return true;
-		} catch (UnknownBiomeIndexException e) {
-			AmidstLogger.error(e);
-			AmidstMessageBox.displayError("Error", e);
-			return false;
+			return validBiomes.containsAllIndices(biomeData, width * height);
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -102,12 +353,12 @@ public class BiomeDataOracle {
 			int chunkX,
 			int chunkY,
 			int size,
-			List<Biome> validBiomes,
+			BiomeSet validBiomes,
 			Random random) {
 		return findValidLocation(getMiddleOfChunk(chunkX), getMiddleOfChunk(chunkY), size, validBiomes, random);
 	}
 
-	public CoordinatesInWorld findValidLocation(int x, int y, int size, List<Biome> validBiomes, Random random) {
+	public CoordinatesInWorld findValidLocation(int x, int y, int size, BiomeSet validBiomes, Random random) {
 		if(RecognisedVersion.isNewerOrEqualTo(minecraftInterface.getRecognisedVersion(), RecognisedVersion._18w06a)) {
 			return doFindValidLocation(x, y, size, validBiomes, random, true);
 		} else {
@@ -119,7 +370,7 @@ public class BiomeDataOracle {
 	// numberOfValidLocations was only incremented if the random check
 	// succeeded; it is now always incremented.
 	private CoordinatesInWorld doFindValidLocation(
-			int x, int y, int size, List<Biome> validBiomes,
+			int x, int y, int size, BiomeSet validBiomes,
 			Random random, boolean accurateLocationCount) {
 		int left = x - size >> 2;
 		int top = y - size >> 2;
@@ -132,7 +383,7 @@ public class BiomeDataOracle {
 			CoordinatesInWorld result = null;
 			int numberOfValidLocations = 0;
 			for (int i = 0; i < width * height; i++) {
-				if(validBiomes.contains(Biome.getByIndex(biomeData[i]))) {
+				if(validBiomes.containsIndex(biomeData[i])) {
 					boolean updateResult = result == null || random.nextInt(numberOfValidLocations + 1) == 0;
 					result = updateResult ? createCoordinates(left, top, width, i) : result;
 
@@ -142,10 +393,6 @@ public class BiomeDataOracle {
 				}
 			}
 			return result;
-		} catch (UnknownBiomeIndexException e) {
-			AmidstLogger.error(e);
-			AmidstMessageBox.displayError("Error", e);
-			return null;
 		} catch (MinecraftInterfaceException e) {
 			AmidstLogger.error(e);
 			AmidstMessageBox.displayError("Error", e);
@@ -179,17 +426,46 @@ public class BiomeDataOracle {
 		return Biome.getByIndex(biomeData[0]);
 	}
 
+	/**
+	 * Only the biome data of areas that are not completely within loaded
+	 * fragments is requested from the minecraft interface. The returned array
+	 * is reused by the next request of the same thread.
+	 */
 	private int[] getQuarterResolutionBiomeData(int x, int y, int width, int height)
 			throws MinecraftInterfaceException {
-		return getBiomeData(x, y, width, height, true);
+		int[] result = ensureArrayCapacity(width * height);
+		if (loadedBiomeDataView.copyTo(x, y, width, height, result)) {
+			return result;
+		} else {
+			return getBiomeData(x, y, width, height, true);
+		}
 	}
 
 	private int[] getFullResolutionBiomeData(int x, int y, int width, int height) throws MinecraftInterfaceException {
 		return getBiomeData(x, y, width, height, false);
 	}
 
+	/**
+	 * The returned array is reused by the next request of the same thread.
+	 */
 	private int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution)
 			throws MinecraftInterfaceException {
-		return minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+		int[] result = ensureArrayCapacity(width * height);
+		minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+		return result;
+	}
+
+	private int[] ensureArrayCapacity(int length) {
+		int[] data = biomeDataArray.get();
+		int cur = data.length;
+		if (length <= cur)
+			return data;
+
+		while (cur < length)
+			cur *= 2;
+
+		data = new int[cur];
+		biomeDataArray.set(data);
+		return data;
 	}
 }
@@ -0,0 +1,21 @@
+package amidst.mojangapi.world.oracle;
+
+import amidst.documentation.ThreadSafe;
+
+/**
+ * Provides the quarter resolution biome data that was already generated, e.g.
+ * by the loaded fragments. The structure checks usually need the biome data of
+ * the fragment they are loaded for, so they can read it from here instead of
+ * generating it again.
+ */
+@ThreadSafe
+public interface LoadedBiomeDataView {
+	public static final LoadedBiomeDataView NONE = (left, top, width, height, result) -> false;
+
+	/**
+	 * Copies the biome data of the area to the result, row by row. Returns
+	 * false, if the biome data of the area is not completely available. In
+	 * this case, the content of the result is undefined.
+	 */
+	public boolean copyTo(int left, int top, int width, int height, int[] result);
+}
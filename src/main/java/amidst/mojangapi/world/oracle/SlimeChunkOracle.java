@@ -1,10 +1,11 @@
 package amidst.mojangapi.world.oracle;
 
-import java.util.Random;
+import java.util.Arrays;
 
-import amidst.documentation.Immutable;
+import amidst.documentation.ThreadSafe;
+import amidst.util.JavaRandom;
 
-@Immutable
+@ThreadSafe
 public class SlimeChunkOracle {
 	private final long seed;
 
@@ -13,8 +14,36 @@ public class SlimeChunkOracle {
 	}
 
 	public boolean isSlimeChunk(long chunkX, long chunkY) {
-		Random random = new Random(getSeed((int) chunkX, (int) chunkY));
-		return isSlimeChunk(random);
+		return isSlimeChunk(getSeed((int) chunkX, (int) chunkY));
+	}
+
+	/**
+	 * Returns the number of longs that are needed to store the slime chunks of
+	 * a rectangle with {@link #getSlimeChunks(long, long, int, int, long[])}.
+	 */
+	public static int getBitSetLength(int width, int height) {
+		return (int) (((long) width * height + 63) >>> 6);
+	}
+
+	/**
+	 * Stores whether each chunk of the rectangle is a slime chunk in the given
+	 * bit set. The bit of the chunk (chunkX + x, chunkY + y) has the index x +
+	 * y * width, like in {@link java.util.BitSet#valueOf(long[])}. This does
+	 * the same as {@link #isSlimeChunk(long, long)}, but the seed is only
+	 * computed once per row and once per column.
+	 */
+	public void getSlimeChunks(long chunkX, long chunkY, int width, int height, long[] result) {
+		Arrays.fill(result, 0, getBitSetLength(width, height), 0);
+		int index = 0;
+		for (int y = 0; y < height; y++) {
+			long seedOfRow = seed + getSeedOfY((int) (chunkY + y));
+			for (int x = 0; x < width; x++) {
+				if (isSlimeChunk(seedOfRow + getSeedOfX((int) (chunkX + x)) ^ 0x3ad8025f)) {
+					result[index >>> 6] |= 1L << index;
+				}
+				index++;
+			}
+		}
 	}
 
 	/**
@@ -26,7 +55,19 @@ public class SlimeChunkOracle {
 				^ 0x3ad8025f;
 	}
 
-	private boolean isSlimeChunk(Random random) {
-		return random.nextInt(10) == 0;
+	/**
+	 * The sum of both parts is the same as {@link #getSeed(int, int)} without
+	 * the world seed and without the final xor.
+	 */
+	private static long getSeedOfX(int chunkX) {
+		return (long) (chunkX * chunkX * 0x4c1906) + (long) (chunkX * 0x5ac0db);
+	}
+
+	private static long getSeedOfY(int chunkY) {
+		return chunkY * chunkY * 0x4307a7L + chunkY * 0x5f24f;
+	}
+
+	private static boolean isSlimeChunk(long seed) {
+		return JavaRandom.nextInt(seed, 10) == 0;
 	}
 }
@@ -8,6 +8,7 @@ import amidst.documentation.Immutable;
 import amidst.fragment.layer.LayerIds;
 import amidst.mojangapi.minecraftinterface.RecognisedVersion;
 import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.icon.locationchecker.LocationChecker;
 import amidst.mojangapi.world.icon.locationchecker.MineshaftAlgorithm_ChanceBased;
 import amidst.mojangapi.world.icon.locationchecker.MineshaftAlgorithm_Original;
@@ -26,24 +27,24 @@ public enum DefaultVersionFeatures {
 	public static VersionFeatures create(RecognisedVersion version) {
 		return new VersionFeatures(
 				INSTANCE.enabledLayers.getValue(version),
-				INSTANCE.validBiomesForStructure_Spawn.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_Stronghold.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_Spawn.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_Stronghold.getValue(version)),
 				INSTANCE.strongholdProducerFactory.getValue(version),
-				INSTANCE.validBiomesForStructure_Village.getValue(version),
-				INSTANCE.validBiomesForStructure_PillagerOutpost.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_Village.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_PillagerOutpost.getValue(version)),
 				INSTANCE.doComplexVillageCheck.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_DesertTemple.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_Igloo.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_JungleTemple.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_WitchHut.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_OceanRuins.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_Shipwreck.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_DesertTemple.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_Igloo.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_JungleTemple.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_WitchHut.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_OceanRuins.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_Shipwreck.getValue(version)),
 				INSTANCE.mineshaftAlgorithmFactory.getValue(version),
 				INSTANCE.oceanMonumentLocationCheckerFactory.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_OceanMonument.getValue(version),
-				INSTANCE.validBiomesAtMiddleOfChunk_BuriedTreasure.getValue(version),
-				INSTANCE.validBiomesForStructure_OceanMonument.getValue(version),
-				INSTANCE.validBiomesForStructure_WoodlandMansion.getValue(version),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_OceanMonument.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesAtMiddleOfChunk_BuriedTreasure.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_OceanMonument.getValue(version)),
+				BiomeSet.from(INSTANCE.validBiomesForStructure_WoodlandMansion.getValue(version)),
 				INSTANCE.seedForStructure_DesertTemple.getValue(version),
 				INSTANCE.seedForStructure_Igloo.getValue(version),
 				INSTANCE.seedForStructure_JungleTemple.getValue(version),
@@ -58,7 +59,7 @@ public enum DefaultVersionFeatures {
 	private final VersionFeature<List<Integer>> enabledLayers;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_Spawn;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_Stronghold;
-	private final VersionFeature<TriFunction<Long, BiomeDataOracle, List<Biome>, CachedWorldIconProducer>> strongholdProducerFactory;
+	private final VersionFeature<TriFunction<Long, BiomeDataOracle, BiomeSet, CachedWorldIconProducer>> strongholdProducerFactory;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_Village;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_PillagerOutpost;
 	private final VersionFeature<Boolean> doComplexVillageCheck;
@@ -69,7 +70,7 @@ public enum DefaultVersionFeatures {
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_OceanRuins;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_Shipwreck;
 	private final VersionFeature<Function<Long, LocationChecker>> mineshaftAlgorithmFactory;
-	private final VersionFeature<QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker>> oceanMonumentLocationCheckerFactory;
+	private final VersionFeature<QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker>> oceanMonumentLocationCheckerFactory;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_OceanMonument;
 	private final VersionFeature<List<Biome>> validBiomesAtMiddleOfChunk_BuriedTreasure;
 	private final VersionFeature<List<Biome>> validBiomesForStructure_OceanMonument;
@@ -142,7 +143,7 @@ public enum DefaultVersionFeatures {
 						// this includes all the biomes above, except for the swampland
 						getValidBiomesForStrongholdSinceV13w36a()
 				).construct();
-		this.strongholdProducerFactory = VersionFeature.<TriFunction<Long, BiomeDataOracle, List<Biome>, CachedWorldIconProducer>> builder()
+		this.strongholdProducerFactory = VersionFeature.<TriFunction<Long, BiomeDataOracle, BiomeSet, CachedWorldIconProducer>> builder()
 				.init(
 						(seed, biomeOracle, validBiomes) -> new StrongholdProducer_Original(seed, biomeOracle, validBiomes)
 				).since(RecognisedVersion._15w43c,
@@ -238,7 +239,7 @@ public enum DefaultVersionFeatures {
 				).since(RecognisedVersion._18w06a,
 						seed -> new MineshaftAlgorithm_ChanceBased(seed, 0.01D, false)
 				).construct();
-		this.oceanMonumentLocationCheckerFactory = VersionFeature.<QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker>> builder()
+		this.oceanMonumentLocationCheckerFactory = VersionFeature.<QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker>> builder()
 				.init(
 						(seed, biomeOracle, validCenterBiomes, validBiomes) -> new OceanMonumentLocationChecker_Original(seed, biomeOracle, validCenterBiomes, validBiomes)
 				).since(RecognisedVersion._15w46a,
@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import amidst.documentation.Immutable;
-import amidst.mojangapi.world.biome.Biome;
+import amidst.mojangapi.world.biome.BiomeSet;
 import amidst.mojangapi.world.icon.locationchecker.LocationChecker;
 import amidst.mojangapi.world.icon.producer.CachedWorldIconProducer;
 import amidst.mojangapi.world.oracle.BiomeDataOracle;
@@ -12,24 +12,24 @@ import amidst.mojangapi.world.oracle.BiomeDataOracle;
 @Immutable
 public class VersionFeatures {
 	private final List<Integer> enabledLayers;
-	private final List<Biome> validBiomesForStructure_Spawn;
-	private final List<Biome> validBiomesAtMiddleOfChunk_Stronghold;
-	private final TriFunction<Long, BiomeDataOracle, List<Biome>, CachedWorldIconProducer> strongholdProducerFactory;
-	private final List<Biome> validBiomesForStructure_Village;
-	private final List<Biome> validBiomesForStructure_PillagerOutpost;
+	private final BiomeSet validBiomesForStructure_Spawn;
+	private final BiomeSet validBiomesAtMiddleOfChunk_Stronghold;
+	private final TriFunction<Long, BiomeDataOracle, BiomeSet, CachedWorldIconProducer> strongholdProducerFactory;
+	private final BiomeSet validBiomesForStructure_Village;
+	private final BiomeSet validBiomesForStructure_PillagerOutpost;
 	private final Boolean doComplexVillageCheck;
-	private final List<Biome> validBiomesAtMiddleOfChunk_DesertTemple;
-	private final List<Biome> validBiomesAtMiddleOfChunk_Igloo;
-	private final List<Biome> validBiomesAtMiddleOfChunk_JungleTemple;
-	private final List<Biome> validBiomesAtMiddleOfChunk_WitchHut;
-	private final List<Biome> validBiomesAtMiddleOfChunk_OceanRuins;
-	private final List<Biome> validBiomesAtMiddleOfChunk_Shipwreck;
+	private final BiomeSet validBiomesAtMiddleOfChunk_DesertTemple;
+	private final BiomeSet validBiomesAtMiddleOfChunk_Igloo;
+	private final BiomeSet validBiomesAtMiddleOfChunk_JungleTemple;
+	private final BiomeSet validBiomesAtMiddleOfChunk_WitchHut;
+	private final BiomeSet validBiomesAtMiddleOfChunk_OceanRuins;
+	private final BiomeSet validBiomesAtMiddleOfChunk_Shipwreck;
 	private final Function<Long, LocationChecker> mineshaftAlgorithmFactory;
-	private final QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> oceanMonumentLocationCheckerFactory;
-	private final List<Biome> validBiomesAtMiddleOfChunk_OceanMonument;
-	private final List<Biome> validBiomesAtMiddleOfChunk_BuriedTreasure;
-	private final List<Biome> validBiomesForStructure_OceanMonument;
-	private final List<Biome> validBiomesForStructure_WoodlandMansion;
+	private final QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> oceanMonumentLocationCheckerFactory;
+	private final BiomeSet validBiomesAtMiddleOfChunk_OceanMonument;
+	private final BiomeSet validBiomesAtMiddleOfChunk_BuriedTreasure;
+	private final BiomeSet validBiomesForStructure_OceanMonument;
+	private final BiomeSet validBiomesForStructure_WoodlandMansion;
 	private final Long seedForStructure_DesertTemple;
 	private final Long seedForStructure_Igloo;
 	private final Long seedForStructure_JungleTemple;
@@ -42,24 +42,24 @@ public class VersionFeatures {
 
 	public VersionFeatures(
 			List<Integer> enabledLayers,
-			List<Biome> validBiomesForStructure_Spawn,
-			List<Biome> validBiomesAtMiddleOfChunk_Stronghold,
-			TriFunction<Long, BiomeDataOracle, List<Biome>, CachedWorldIconProducer> strongholdProducerFactory,
-			List<Biome> validBiomesForStructure_Village,
-			List<Biome> validBiomesForStructure_PillagerOutpost,
+			BiomeSet validBiomesForStructure_Spawn,
+			BiomeSet validBiomesAtMiddleOfChunk_Stronghold,
+			TriFunction<Long, BiomeDataOracle, BiomeSet, CachedWorldIconProducer> strongholdProducerFactory,
+			BiomeSet validBiomesForStructure_Village,
+			BiomeSet validBiomesForStructure_PillagerOutpost,
 			Boolean doComplexVillageCheck,
-			List<Biome> validBiomesAtMiddleOfChunk_DesertTemple,
-			List<Biome> validBiomesAtMiddleOfChunk_Igloo,
-			List<Biome> validBiomesAtMiddleOfChunk_JungleTemple,
-			List<Biome> validBiomesAtMiddleOfChunk_WitchHut,
-			List<Biome> validBiomesAtMiddleOfChunk_OceanRuins,
-			List<Biome> validBiomesAtMiddleOfChunk_Shipwreck,
+			BiomeSet validBiomesAtMiddleOfChunk_DesertTemple,
+			BiomeSet validBiomesAtMiddleOfChunk_Igloo,
+			BiomeSet validBiomesAtMiddleOfChunk_JungleTemple,
+			BiomeSet validBiomesAtMiddleOfChunk_WitchHut,
+			BiomeSet validBiomesAtMiddleOfChunk_OceanRuins,
+			BiomeSet validBiomesAtMiddleOfChunk_Shipwreck,
 			Function<Long, LocationChecker> mineshaftAlgorithmFactory,
-			QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> oceanMonumentLocationCheckerFactory,
-			List<Biome> validBiomesAtMiddleOfChunk_OceanMonument,
-			List<Biome> validBiomesAtMiddleOfChunk_BuriedTreasure,
-			List<Biome> validBiomesForStructure_OceanMonument,
-			List<Biome> validBiomesForStructure_WoodlandMansion,
+			QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> oceanMonumentLocationCheckerFactory,
+			BiomeSet validBiomesAtMiddleOfChunk_OceanMonument,
+			BiomeSet validBiomesAtMiddleOfChunk_BuriedTreasure,
+			BiomeSet validBiomesForStructure_OceanMonument,
+			BiomeSet validBiomesForStructure_WoodlandMansion,
 			Long seedForStructure_DesertTemple,
 			Long seedForStructure_Igloo,
 			Long seedForStructure_JungleTemple,
@@ -103,23 +103,23 @@ public class VersionFeatures {
 		return enabledLayers.contains(layerId);
 	}
 
-	public List<Biome> getValidBiomesForStructure_Spawn() {
+	public BiomeSet getValidBiomesForStructure_Spawn() {
 		return validBiomesForStructure_Spawn;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_Stronghold() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_Stronghold() {
 		return validBiomesAtMiddleOfChunk_Stronghold;
 	}
 
-	public TriFunction<Long, BiomeDataOracle, List<Biome>, CachedWorldIconProducer> getStrongholdProducerFactory() {
+	public TriFunction<Long, BiomeDataOracle, BiomeSet, CachedWorldIconProducer> getStrongholdProducerFactory() {
 		return strongholdProducerFactory;
 	}
 
-	public List<Biome> getValidBiomesForStructure_Village() {
+	public BiomeSet getValidBiomesForStructure_Village() {
 		return validBiomesForStructure_Village;
 	}
 
-	public List<Biome> getValidBiomesForStructure_PillagerOutpost() {
+	public BiomeSet getValidBiomesForStructure_PillagerOutpost() {
 		return validBiomesForStructure_PillagerOutpost;
 	}
 
@@ -127,27 +127,27 @@ public class VersionFeatures {
 		return doComplexVillageCheck;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_DesertTemple() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_DesertTemple() {
 		return validBiomesAtMiddleOfChunk_DesertTemple;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_Igloo() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_Igloo() {
 		return validBiomesAtMiddleOfChunk_Igloo;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_JungleTemple() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_JungleTemple() {
 		return validBiomesAtMiddleOfChunk_JungleTemple;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_WitchHut() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_WitchHut() {
 		return validBiomesAtMiddleOfChunk_WitchHut;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_OceanRuins() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_OceanRuins() {
 		return validBiomesAtMiddleOfChunk_OceanRuins;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_Shipwreck() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_Shipwreck() {
 		return validBiomesAtMiddleOfChunk_Shipwreck;
 	}
 
@@ -155,23 +155,23 @@ public class VersionFeatures {
 		return mineshaftAlgorithmFactory;
 	}
 
-	public QuadFunction<Long, BiomeDataOracle, List<Biome>, List<Biome>, LocationChecker> getOceanMonumentLocationCheckerFactory() {
+	public QuadFunction<Long, BiomeDataOracle, BiomeSet, BiomeSet, LocationChecker> getOceanMonumentLocationCheckerFactory() {
 		return oceanMonumentLocationCheckerFactory;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_OceanMonument() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_OceanMonument() {
 		return validBiomesAtMiddleOfChunk_OceanMonument;
 	}
 
-	public List<Biome> getValidBiomesAtMiddleOfChunk_BuriedTreasure() {
+	public BiomeSet getValidBiomesAtMiddleOfChunk_BuriedTreasure() {
 		return validBiomesAtMiddleOfChunk_BuriedTreasure;
 	}
 
-	public List<Biome> getValidBiomesForStructure_OceanMonument() {
+	public BiomeSet getValidBiomesForStructure_OceanMonument() {
 		return validBiomesForStructure_OceanMonument;
 	}
 
-	public List<Biome> getValidBiomesForStructure_WoodlandMansion() {
+	public BiomeSet getValidBiomesForStructure_WoodlandMansion() {
 		return validBiomesForStructure_WoodlandMansion;
 	}
 
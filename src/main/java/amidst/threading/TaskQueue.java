@@ -25,6 +25,10 @@ public class TaskQueue {
 		return result;
 	}
 
+	public boolean isEmpty() {
+		return tasks.isEmpty();
+	}
+
 	public void invoke(Runnable runnable) {
 		tasks.offer(runnable);
 	}
@@ -20,16 +20,26 @@ public class ThreadMaster {
 	};
 
 	private final ScheduledExecutorService repaintExecutorService;
-	private final ScheduledExecutorService fragmentLoaderExecutorService;
+	private final ExecutorService fragmentLoaderExecutorService;
+	private final ExecutorService fragmentLoaderPoolExecutorService;
 	private final ExecutorService workerExecutorService;
 	private final WorkerExecutor workerExecutor;
+	private final int numberOfFragmentLoaders;
+	private final WakeUpSignal fragmentLoaderWakeUpSignal = new WakeUpSignal();
 
 	private volatile Runnable onRepaintTick;
 	private volatile Runnable onFragmentLoadTick;
 
-	public ThreadMaster() {
+	/**
+	 * @param numberOfFragmentLoaders The number of threads that load fragments
+	 *            in parallel. Values lower than 1 use one thread per available
+	 *            processor.
+	 */
+	public ThreadMaster(int numberOfFragmentLoaders) {
+		this.numberOfFragmentLoaders = getNumberOfFragmentLoaders(numberOfFragmentLoaders);
 		this.repaintExecutorService = createRepaintExecutorService();
 		this.fragmentLoaderExecutorService = createFragmentLoaderExecutorService();
+		this.fragmentLoaderPoolExecutorService = createFragmentLoaderPoolExecutorService();
 		this.workerExecutorService = createWorkerExecutorService();
 		this.workerExecutor = createWorkerExecutor();
 		this.onRepaintTick = NOOP;
@@ -38,6 +48,14 @@ public class ThreadMaster {
 		startFragmentLoader();
 	}
 
+	private static int getNumberOfFragmentLoaders(int numberOfFragmentLoaders) {
+		if (numberOfFragmentLoaders < 1) {
+			return Runtime.getRuntime().availableProcessors();
+		} else {
+			return numberOfFragmentLoaders;
+		}
+	}
+
 	private ScheduledExecutorService createRepaintExecutorService() {
 		return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
 			@Override
@@ -49,8 +67,20 @@ public class ThreadMaster {
 		});
 	}
 
-	private ScheduledExecutorService createFragmentLoaderExecutorService() {
-		return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+	private ExecutorService createFragmentLoaderExecutorService() {
+		return Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	private ExecutorService createFragmentLoaderPoolExecutorService() {
+		return Executors.newFixedThreadPool(numberOfFragmentLoaders, new ThreadFactory() {
 			@Override
 			public Thread newThread(Runnable r) {
 				Thread thread = new Thread(r);
@@ -86,26 +116,58 @@ public class ThreadMaster {
 		}, 0, 20, TimeUnit.MILLISECONDS);
 	}
 
+	/**
+	 * The fragment loader sleeps until it receives a wake up signal, e.g.
+	 * because a fragment was requested or recycled, because a layer was
+	 * invalidated or because a layer setting was changed.
+	 */
 	private void startFragmentLoader() {
-		fragmentLoaderExecutorService.scheduleWithFixedDelay(new Runnable() {
+		fragmentLoaderExecutorService.execute(new Runnable() {
 			@CalledOnlyBy(AmidstThread.FRAGMENT_LOADER)
 			@Override
 			public void run() {
-				onFragmentLoadTick.run();
+				try {
+					while (true) {
+						onFragmentLoadTick.run();
+						fragmentLoaderWakeUpSignal.await();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
 			}
-		}, 0, 20, TimeUnit.MILLISECONDS);
+		});
 	}
 
 	public WorkerExecutor getWorkerExecutor() {
 		return workerExecutor;
 	}
 
+	/**
+	 * The pool of threads that is used by the fragment loader to load multiple
+	 * fragments at the same time.
+	 */
+	public ExecutorService getFragmentLoaderPool() {
+		return fragmentLoaderPoolExecutorService;
+	}
+
+	public int getNumberOfFragmentLoaders() {
+		return numberOfFragmentLoaders;
+	}
+
+	/**
+	 * Wakes up the fragment loader when there is something to load.
+	 */
+	public WakeUpSignal getFragmentLoaderWakeUpSignal() {
+		return fragmentLoaderWakeUpSignal;
+	}
+
 	public void setOnRepaintTick(Runnable onRepaintTick) {
 		this.onRepaintTick = onRepaintTick;
 	}
 
 	public void setOnFragmentLoadTick(Runnable onFragmentLoadTick) {
 		this.onFragmentLoadTick = onFragmentLoadTick;
+		fragmentLoaderWakeUpSignal.signal();
 	}
 
 	public void clearOnRepaintTick() {
@@ -0,0 +1,34 @@
+package amidst.threading;
+
+import amidst.documentation.CalledByAny;
+import amidst.documentation.ThreadSafe;
+
+/**
+ * Allows a single thread to sleep until there is something to do. A signal is
+ * remembered until the waiting thread wakes up, so it is not lost when it is
+ * sent while the thread is still busy.
+ */
+@ThreadSafe
+public class WakeUpSignal {
+	private volatile boolean isSignaled = false;
+
+	@CalledByAny
+	public void signal() {
+		if (!isSignaled) {
+			synchronized (this) {
+				isSignaled = true;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Waits until a signal is sent and consumes the signal.
+	 */
+	public synchronized void await() throws InterruptedException {
+		while (!isSignaled) {
+			wait();
+		}
+		isSignaled = false;
+	}
+}
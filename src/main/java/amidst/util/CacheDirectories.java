@@ -0,0 +1,57 @@
+package amidst.util;
+
+import java.io.File;
+
+import amidst.documentation.Immutable;
+
+/**
+ * Locates the per-user directory where Amidst keeps data that can be generated
+ * again, like the biome tile cache. It is never the current working directory,
+ * because that is often the download folder of the user.
+ */
+@Immutable
+public enum CacheDirectories {
+	;
+
+	private static final String APPLICATION_NAME = "amidst";
+
+	/**
+	 * Returns the given subdirectory of the cache directory. It is not created.
+	 */
+	public static File get(String name) {
+		return new File(getRoot(), name);
+	}
+
+	private static File getRoot() {
+		File home = new File(System.getProperty("user.home", "."));
+		if (OperatingSystemDetector.isWindows()) {
+			File localAppData = getDirectoryFromEnvironment("LOCALAPPDATA");
+			if (localAppData != null) {
+				return new File(localAppData, APPLICATION_NAME);
+			}
+			File appData = getDirectoryFromEnvironment("APPDATA");
+			if (appData != null) {
+				return new File(appData, APPLICATION_NAME);
+			}
+		} else if (OperatingSystemDetector.isMac()) {
+			return new File(home, "Library/Caches/" + APPLICATION_NAME);
+		} else {
+			File xdgCacheHome = getDirectoryFromEnvironment("XDG_CACHE_HOME");
+			if (xdgCacheHome != null) {
+				return new File(xdgCacheHome, APPLICATION_NAME);
+			}
+		}
+		return new File(home, ".cache/" + APPLICATION_NAME);
+	}
+
+	private static File getDirectoryFromEnvironment(String name) {
+		String value = System.getenv(name);
+		if (value != null && !value.isEmpty()) {
+			File result = new File(value);
+			if (result.isAbsolute()) {
+				return result;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,104 @@
+package amidst.util;
+
+import amidst.documentation.NotThreadSafe;
+
+/**
+ * Generates exactly the same numbers as {@link java.util.Random}, but the seed
+ * can be set without creating a new instance and the state is a plain long
+ * instead of an AtomicLong. This is used for the many short-lived random
+ * number generators of the world generation, e.g. one per chunk. Each thread
+ * should use its own instance.
+ */
+@NotThreadSafe
+public class JavaRandom {
+	private static final long MULTIPLIER = 0x5DEECE66DL;
+	private static final long ADDEND = 0xBL;
+	private static final long MASK = (1L << 48) - 1;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final float FLOAT_UNIT = 1 << 24;
+
+	private long seed;
+
+	public JavaRandom() {
+		this(0);
+	}
+
+	public JavaRandom(long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Returns the same number as new JavaRandom(seed).nextInt(bound), but
+	 * without creating an instance. This is used when a random number
+	 * generator is seeded only to draw a single number, e.g. for each chunk
+	 * of a slime chunk bit set.
+	 */
+	public static int nextInt(long seed, int bound) {
+		checkBound(bound);
+		long state = step(scramble(seed));
+		int r = (int) (state >>> 17);
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			return (int) ((bound * (long) r) >> 31);
+		}
+		int u = r;
+		while (u - (r = u % bound) + m < 0) {
+			state = step(state);
+			u = (int) (state >>> 17);
+		}
+		return r;
+	}
+
+	private static long scramble(long seed) {
+		return (seed ^ MULTIPLIER) & MASK;
+	}
+
+	private static long step(long state) {
+		return (state * MULTIPLIER + ADDEND) & MASK;
+	}
+
+	private static void checkBound(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+	}
+
+	public void setSeed(long seed) {
+		this.seed = scramble(seed);
+	}
+
+	private int next(int bits) {
+		seed = step(seed);
+		return (int) (seed >>> (48 - bits));
+	}
+
+	public int nextInt() {
+		return next(32);
+	}
+
+	public int nextInt(int bound) {
+		checkBound(bound);
+		int r = next(31);
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			return (int) ((bound * (long) r) >> 31);
+		}
+		int u = r;
+		while (u - (r = u % bound) + m < 0) {
+			u = next(31);
+		}
+		return r;
+	}
+
+	public long nextLong() {
+		return ((long) next(32) << 32) + next(32);
+	}
+
+	public float nextFloat() {
+		return next(24) / FLOAT_UNIT;
+	}
+
+	public double nextDouble() {
+		return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+	}
+}
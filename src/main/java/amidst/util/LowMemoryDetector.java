@@ -0,0 +1,69 @@
+package amidst.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+
+import amidst.documentation.ThreadSafe;
+import amidst.logging.AmidstLogger;
+
+/**
+ * Detects whether the heap is still almost full after a garbage collection.
+ * This uses the collection usage threshold of the heap memory pools, so it
+ * does not report memory that could be reclaimed by the garbage collector.
+ */
+@ThreadSafe
+public class LowMemoryDetector {
+	/**
+	 * @param onMemoryLow Is called by the thread that sends the notification
+	 *            whenever the memory is low.
+	 */
+	public static LowMemoryDetector create(double usageThreshold, Runnable onMemoryLow) {
+		LowMemoryDetector result = new LowMemoryDetector(onMemoryLow);
+		result.register(usageThreshold);
+		return result;
+	}
+
+	private final AtomicBoolean isMemoryLow = new AtomicBoolean(false);
+	private final Runnable onMemoryLow;
+
+	private LowMemoryDetector(Runnable onMemoryLow) {
+		this.onMemoryLow = onMemoryLow;
+	}
+
+	private void register(double usageThreshold) {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()) {
+				long max = pool.getUsage().getMax();
+				if (max > 0) {
+					pool.setCollectionUsageThreshold((long) (max * usageThreshold));
+				}
+			}
+		}
+		try {
+			((NotificationEmitter) ManagementFactory.getMemoryMXBean())
+					.addNotificationListener((notification, handback) -> onNotification(notification), null, null);
+		} catch (ClassCastException e) {
+			AmidstLogger.warn(e, "unable to detect low memory");
+		}
+	}
+
+	private void onNotification(Notification notification) {
+		if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+			isMemoryLow.set(true);
+			onMemoryLow.run();
+		}
+	}
+
+	/**
+	 * Returns whether the memory was low since the last call of this method.
+	 */
+	public boolean pollIsMemoryLow() {
+		return isMemoryLow.getAndSet(false);
+	}
+}
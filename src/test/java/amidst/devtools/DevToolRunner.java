@@ -11,6 +11,7 @@ import amidst.ResourceLoader;
 import amidst.devtools.settings.DevToolSettings;
 import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.VersionList;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
 import amidst.mojangapi.world.biome.Biome;
 import amidst.parsing.FormatException;
 
@@ -74,6 +75,12 @@ public class DevToolRunner {
 		new WorldGenerationBencher(benchmarksDirectory(), versionsDirectory(), librariesDirectory(), versionList()).run();
 	}
 
+	@Ignore
+	@Test
+	public void benchmarkSampledBiomeData() throws MinecraftInterfaceException {
+		new SampledBiomeDataBencher().run();
+	}
+
 	private VersionList versionList() throws FormatException, IOException {
 		return VersionList.newRemoteVersionList();
 	}
@@ -0,0 +1,98 @@
+package amidst.devtools;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.layerstack.LayerStackMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.BiomeDataOracle;
+
+/**
+ * Compares the ways to request the quarter resolution biome data of a
+ * fragment at each stride: the whole area at once, one request per sampled row
+ * and one request per sample. It also measures
+ * {@link BiomeDataOracle#populateArraySampled}, which should never be slower
+ * than populating the whole area. The built-in biome generator is used, so no
+ * minecraft jar file is needed.
+ */
+public class SampledBiomeDataBencher {
+	private static final long SEED = 123456;
+	private static final int SIZE = Resolution.QUARTER.getStepsPerFragment();
+	private static final int[] STRIDES = { 1, 2, 4, 8, 16, 32, 64 };
+	private static final int NUMBER_OF_FRAGMENTS = 16;
+	private static final int NUMBER_OF_FRAGMENTS_PER_SAMPLE_REQUEST = 2;
+	private static final int NUMBER_OF_ROUNDS = 2;
+
+	private final MinecraftInterface minecraftInterface = new LayerStackMinecraftInterface(RecognisedVersion._1_12_2);
+	private final BiomeDataOracle biomeDataOracle = new BiomeDataOracle(minecraftInterface);
+	private final byte[] result = new byte[SIZE * SIZE];
+	private int fragmentOffset = 0;
+
+	public void run() throws MinecraftInterfaceException {
+		minecraftInterface.createWorld(SEED, WorldType.DEFAULT, "");
+		System.out.println("time per fragment");
+		System.out.println("stride   whole area         rows      samples      sampled");
+		for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+			for (int stride : STRIDES) {
+				long wholeArea = measure(stride, NUMBER_OF_FRAGMENTS, this::requestWholeArea);
+				long rows = measure(stride, NUMBER_OF_FRAGMENTS, this::requestRows);
+				long samples = measure(stride, NUMBER_OF_FRAGMENTS_PER_SAMPLE_REQUEST, this::requestSamples);
+				long sampled = measure(stride, NUMBER_OF_FRAGMENTS, this::populateArraySampled);
+				if (round == NUMBER_OF_ROUNDS - 1) {
+					System.out.println(String.format("%6d %12s %12s %12s %12s", stride,
+							format(wholeArea), format(rows), format(samples), format(sampled)));
+				}
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private static interface Request {
+		void execute(int x, int y, int stride) throws MinecraftInterfaceException;
+	}
+
+	/**
+	 * Each measurement uses other fragments, so no measurement profits from
+	 * the biome data that was loaded by a previous one. One request per
+	 * sample is very slow for small strides, so it uses fewer fragments.
+	 */
+	private long measure(int stride, int numberOfFragments, Request request) throws MinecraftInterfaceException {
+		long start = System.nanoTime();
+		for (int i = 0; i < numberOfFragments; i++) {
+			fragmentOffset++;
+			request.execute(fragmentOffset * SIZE, -fragmentOffset * SIZE, stride);
+		}
+		return (System.nanoTime() - start) / numberOfFragments;
+	}
+
+	private void requestWholeArea(int x, int y, int stride) throws MinecraftInterfaceException {
+		minecraftInterface.getBiomeData(x, y, SIZE, SIZE, true);
+	}
+
+	private void requestRows(int x, int y, int stride) throws MinecraftInterfaceException {
+		int offset = stride >> 1;
+		for (int row = 0; row < SIZE; row += stride) {
+			minecraftInterface.getBiomeData(x + offset, y + row + offset, SIZE - stride + 1, 1, true);
+		}
+	}
+
+	private void requestSamples(int x, int y, int stride) throws MinecraftInterfaceException {
+		int offset = stride >> 1;
+		for (int row = 0; row < SIZE; row += stride) {
+			for (int column = 0; column < SIZE; column += stride) {
+				minecraftInterface.getBiomeData(x + column + offset, y + row + offset, 1, 1, true);
+			}
+		}
+	}
+
+	private void populateArraySampled(int x, int y, int stride) {
+		CoordinatesInWorld corner = CoordinatesInWorld.from((long) x << 2, (long) y << 2);
+		biomeDataOracle.populateArraySampled(corner, result, SIZE, SIZE, stride, true);
+	}
+
+	private String format(long nanos) {
+		return String.format("%.3f ms", nanos / 1e6);
+	}
+}
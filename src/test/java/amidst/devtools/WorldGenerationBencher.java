@@ -28,6 +28,7 @@ import amidst.mojangapi.file.LauncherProfile;
 import amidst.mojangapi.file.MinecraftInstallation;
 import amidst.mojangapi.file.Version;
 import amidst.mojangapi.file.VersionList;
+import amidst.mojangapi.minecraftinterface.BiomeTileCacheDirectory;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaceCreationException;
 import amidst.mojangapi.minecraftinterface.MinecraftInterfaces;
 import amidst.mojangapi.mocking.BenchmarkingMinecraftInterface;
@@ -87,6 +88,7 @@ public class WorldGenerationBencher {
 			profile = new RunningLauncherProfile(
 					WorldBuilder.createSilentPlayerless(),
 					launcherProfile,
+					BiomeTileCacheDirectory.createDisabled(),
 					new BenchmarkingMinecraftInterface(MinecraftInterfaces.fromLocalProfile(launcherProfile), records));
 		} catch (FormatException | IOException | MinecraftInterfaceCreationException e) {
 			failed.add(version);
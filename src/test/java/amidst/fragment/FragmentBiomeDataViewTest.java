@@ -0,0 +1,123 @@
+package amidst.fragment;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.coordinates.CoordinatesInWorld;
+import amidst.mojangapi.world.coordinates.Resolution;
+import amidst.mojangapi.world.oracle.BiomeDataOracle;
+
+public class FragmentBiomeDataViewTest {
+	private static final int FRAGMENT_SIZE = Resolution.QUARTER.getStepsPerFragment();
+
+	private final BiomeDataOracle biomeDataOracle = new BiomeDataOracle(new MinecraftInterface() {
+		@Override
+		public int[] getBiomeData(int x, int y, int width, int height, boolean useQuarterResolution) {
+			int[] result = new int[width * height];
+			getBiomeData(x, y, width, height, useQuarterResolution, result, 0, width);
+			return result;
+		}
+
+		@Override
+		public void getBiomeData(
+				int x,
+				int y,
+				int width,
+				int height,
+				boolean useQuarterResolution,
+				int[] result,
+				int offset,
+				int stride) {
+			for (int j = 0; j < height; j++) {
+				for (int i = 0; i < width; i++) {
+					result[offset + i + j * stride] = getBiomeIndex(x + i, y + j);
+				}
+			}
+		}
+
+		@Override
+		public void createWorld(long seed, WorldType worldType, String generatorOptions) {
+		}
+
+		@Override
+		public RecognisedVersion getRecognisedVersion() {
+			return RecognisedVersion._1_12_2;
+		}
+	});
+
+	@Test
+	public void testCopiesAreasAcrossFragmentEdges() {
+		FragmentBiomeDataView view = new FragmentBiomeDataView();
+		for (int fragmentY = -1; fragmentY <= 0; fragmentY++) {
+			for (int fragmentX = -1; fragmentX <= 0; fragmentX++) {
+				view.put(createFragment(fragmentX, fragmentY, 1));
+			}
+		}
+		assertCopiesArea(view, -20, -7, 41, 30);
+		assertCopiesArea(view, 3, 5, 17, 17);
+		assertCopiesArea(view, -FRAGMENT_SIZE, -FRAGMENT_SIZE, 2 * FRAGMENT_SIZE, 2 * FRAGMENT_SIZE);
+	}
+
+	@Test
+	public void testRejectsAreasWithMissingFragments() {
+		FragmentBiomeDataView view = new FragmentBiomeDataView();
+		view.put(createFragment(0, 0, 1));
+		int[] result = new int[40 * 40];
+		Assert.assertFalse(view.copyTo(FRAGMENT_SIZE - 20, 0, 40, 40, result));
+		Assert.assertFalse(view.copyTo(-1, 0, 1, 1, result));
+		Assert.assertTrue(view.copyTo(FRAGMENT_SIZE - 40, FRAGMENT_SIZE - 40, 40, 40, result));
+	}
+
+	@Test
+	public void testRejectsSampledFragments() {
+		FragmentBiomeDataView view = new FragmentBiomeDataView();
+		view.put(createFragment(0, 0, FRAGMENT_SIZE));
+		Assert.assertFalse(view.copyTo(0, 0, 1, 1, new int[1]));
+	}
+
+	@Test
+	public void testRejectsRecycledFragments() {
+		FragmentBiomeDataView view = new FragmentBiomeDataView();
+		Fragment fragment = createFragment(0, 0, 1);
+		view.put(fragment);
+		fragment.recycle();
+		Assert.assertFalse(view.copyTo(0, 0, 1, 1, new int[1]));
+
+		populate(fragment, 0, 0, 1);
+		Assert.assertFalse(view.copyTo(0, 0, 1, 1, new int[1]));
+		view.put(fragment);
+		assertCopiesArea(view, 0, 0, 1, 1);
+		view.remove(fragment);
+		Assert.assertFalse(view.copyTo(0, 0, 1, 1, new int[1]));
+	}
+
+	private Fragment createFragment(int fragmentX, int fragmentY, int stride) {
+		Fragment fragment = new Fragment(0);
+		fragment.initBiomeData(FRAGMENT_SIZE, FRAGMENT_SIZE);
+		populate(fragment, fragmentX, fragmentY, stride);
+		return fragment;
+	}
+
+	private void populate(Fragment fragment, int fragmentX, int fragmentY, int stride) {
+		fragment.setCorner(CoordinatesInWorld.from(fragmentX * Fragment.SIZE, fragmentY * Fragment.SIZE));
+		fragment.setInitialized();
+		fragment.populateBiomeData(biomeDataOracle, stride);
+	}
+
+	private void assertCopiesArea(FragmentBiomeDataView view, int left, int top, int width, int height) {
+		int[] result = new int[width * height];
+		Assert.assertTrue(view.copyTo(left, top, width, height, result));
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				Assert.assertEquals(getBiomeIndex(left + x, top + y), result[x + y * width]);
+			}
+		}
+	}
+
+	private static int getBiomeIndex(int x, int y) {
+		return Math.floorMod(x * 31 + y * 7, 256);
+	}
+}
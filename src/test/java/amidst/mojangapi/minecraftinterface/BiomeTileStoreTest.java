@@ -0,0 +1,143 @@
+package amidst.mojangapi.minecraftinterface;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BiomeTileStoreTest {
+	private static final int TILE_SIZE = BiomeTileStore.TILE_SIZE;
+	private static final int CAPACITY = 2;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadWrittenTile() throws IOException {
+		BiomeTileStore store = BiomeTileStore.open(folder.newFile(), createKeyDigest(1), CAPACITY);
+		int[] tile = createTile(7);
+		store.write(-3, 5, tile, 0, TILE_SIZE);
+		assertTile(store, -3, 5, tile);
+		assertFalse(store.read(5, -3, new int[TILE_SIZE * TILE_SIZE], 0, TILE_SIZE));
+		store.close();
+	}
+
+	@Test
+	public void shouldNotStoreBiomeIndicesAboveByteRange() throws IOException {
+		BiomeTileStore store = BiomeTileStore.open(folder.newFile(), createKeyDigest(1), CAPACITY);
+		int[] tile = createTile(7);
+		tile[TILE_SIZE + 1] = 256;
+		store.write(0, 0, tile, 0, TILE_SIZE);
+		assertEquals(0, store.size());
+		store.close();
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedTile() throws IOException {
+		BiomeTileStore store = BiomeTileStore.open(folder.newFile(), createKeyDigest(1), CAPACITY);
+		store.write(0, 0, createTile(1), 0, TILE_SIZE);
+		store.write(1, 0, createTile(2), 0, TILE_SIZE);
+		assertTile(store, 0, 0, createTile(1));
+		store.write(2, 0, createTile(3), 0, TILE_SIZE);
+		assertEquals(CAPACITY, store.size());
+		assertTile(store, 0, 0, createTile(1));
+		assertFalse(store.read(1, 0, new int[TILE_SIZE * TILE_SIZE], 0, TILE_SIZE));
+		assertTile(store, 2, 0, createTile(3));
+		store.close();
+	}
+
+	@Test
+	public void shouldKeepTilesWhenReopened() throws IOException {
+		File file = folder.newFile();
+		BiomeTileStore store = BiomeTileStore.open(file, createKeyDigest(1), CAPACITY);
+		store.write(0, 0, createTile(1), 0, TILE_SIZE);
+		store.write(1, 0, createTile(2), 0, TILE_SIZE);
+		assertTile(store, 0, 0, createTile(1));
+		store.close();
+
+		store = BiomeTileStore.open(file, createKeyDigest(1), CAPACITY);
+		assertEquals(CAPACITY, store.size());
+		assertTile(store, 1, 0, createTile(2));
+		assertTile(store, 0, 0, createTile(1));
+		store.write(2, 0, createTile(3), 0, TILE_SIZE);
+		assertFalse(store.read(1, 0, new int[TILE_SIZE * TILE_SIZE], 0, TILE_SIZE));
+		store.close();
+	}
+
+	@Test
+	public void shouldClearTilesWhenReopenedWithDifferentKeyOrCapacity() throws IOException {
+		File file = folder.newFile();
+		BiomeTileStore store = BiomeTileStore.open(file, createKeyDigest(1), CAPACITY);
+		store.write(0, 0, createTile(1), 0, TILE_SIZE);
+		store.close();
+
+		store = BiomeTileStore.open(file, createKeyDigest(2), CAPACITY);
+		assertEquals(0, store.size());
+		store.write(0, 0, createTile(1), 0, TILE_SIZE);
+		store.close();
+
+		store = BiomeTileStore.open(file, createKeyDigest(2), CAPACITY + 1);
+		assertEquals(0, store.size());
+		assertEquals(BiomeTileStore.getFileSize(CAPACITY + 1), file.length());
+		store.close();
+	}
+
+	@Test
+	public void shouldNotOpenLockedFile() throws IOException {
+		File file = folder.newFile();
+		BiomeTileStore store = BiomeTileStore.open(file, createKeyDigest(1), CAPACITY);
+		assertNotNull(store);
+		assertNull(BiomeTileStore.open(file, createKeyDigest(1), CAPACITY));
+		store.close();
+		BiomeTileStore reopened = BiomeTileStore.open(file, createKeyDigest(1), CAPACITY);
+		assertNotNull(reopened);
+		reopened.close();
+	}
+
+	@Test
+	public void shouldReadAndWriteWithOffsetAndStride() throws IOException {
+		BiomeTileStore store = BiomeTileStore.open(folder.newFile(), createKeyDigest(1), CAPACITY);
+		int stride = 2 * TILE_SIZE;
+		int offset = TILE_SIZE;
+		int[] biomeData = new int[stride * TILE_SIZE];
+		int[] tile = createTile(3);
+		for (int j = 0; j < TILE_SIZE; j++) {
+			System.arraycopy(tile, j * TILE_SIZE, biomeData, offset + j * stride, TILE_SIZE);
+		}
+		store.write(0, 0, biomeData, offset, stride);
+		int[] result = new int[stride * TILE_SIZE];
+		assertTrue(store.read(0, 0, result, offset, stride));
+		assertArrayEquals(biomeData, result);
+		store.close();
+	}
+
+	private void assertTile(BiomeTileStore store, int tileX, int tileY, int[] expected) {
+		int[] result = new int[TILE_SIZE * TILE_SIZE];
+		assertTrue(store.read(tileX, tileY, result, 0, TILE_SIZE));
+		assertArrayEquals(expected, result);
+	}
+
+	private int[] createTile(int seed) {
+		int[] result = new int[TILE_SIZE * TILE_SIZE];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = (i * 31 + seed * 17) & 0xFF;
+		}
+		return result;
+	}
+
+	private byte[] createKeyDigest(int seed) {
+		byte[] result = new byte[32];
+		Arrays.fill(result, (byte) seed);
+		return result;
+	}
+}
@@ -0,0 +1,81 @@
+package amidst.mojangapi.minecraftinterface;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.layerstack.LayerStackMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+
+public class PooledMinecraftInterfaceTest {
+	private static final RecognisedVersion VERSION = RecognisedVersion._1_12_2;
+	private static final long SEED_1 = 123456;
+	private static final long SEED_2 = -98765;
+	private static final int SIZE = 32;
+
+	@Test
+	public void shouldKeepTheWorldOfEachSharedView() throws MinecraftInterfaceException {
+		PooledMinecraftInterface pool = new PooledMinecraftInterface(
+				Arrays.asList(new LayerStackMinecraftInterface(VERSION), new LayerStackMinecraftInterface(VERSION)));
+		PooledMinecraftInterface view = pool.createSharedView();
+		pool.createWorld(SEED_1, WorldType.DEFAULT, "");
+		view.createWorld(SEED_2, WorldType.DEFAULT, "");
+		int[] expected1 = getExpectedBiomeData(SEED_1);
+		int[] expected2 = getExpectedBiomeData(SEED_2);
+		for (int i = 0; i < 4; i++) {
+			assertArrayEquals(expected1, getBiomeData(pool));
+			assertArrayEquals(expected2, getBiomeData(view));
+		}
+	}
+
+	@Test
+	public void shouldOnlyCreateTheWorldOfASharedViewOnOneInstance() throws MinecraftInterfaceException {
+		AtomicInteger numberOfCreatedWorlds = new AtomicInteger();
+		PooledMinecraftInterface pool = new PooledMinecraftInterface(
+				Arrays.asList(
+						new CountingMinecraftInterface(numberOfCreatedWorlds),
+						new CountingMinecraftInterface(numberOfCreatedWorlds),
+						new CountingMinecraftInterface(numberOfCreatedWorlds)));
+		PooledMinecraftInterface view = pool.createSharedView();
+		pool.createWorld(SEED_1, WorldType.DEFAULT, "");
+		assertEquals(3, numberOfCreatedWorlds.get());
+		for (int i = 0; i < 4; i++) {
+			view.createWorld(SEED_2 + i, WorldType.DEFAULT, "");
+			getBiomeData(view);
+			getBiomeData(pool);
+		}
+		assertEquals(3 + 4, numberOfCreatedWorlds.get());
+	}
+
+	private int[] getExpectedBiomeData(long seed) throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = new LayerStackMinecraftInterface(VERSION);
+		minecraftInterface.createWorld(seed, WorldType.DEFAULT, "");
+		return getBiomeData(minecraftInterface);
+	}
+
+	private int[] getBiomeData(MinecraftInterface minecraftInterface) throws MinecraftInterfaceException {
+		int[] result = new int[SIZE * SIZE];
+		minecraftInterface.getBiomeData(0, 0, SIZE, SIZE, true, result, 0, SIZE);
+		return result;
+	}
+
+	private static class CountingMinecraftInterface extends LayerStackMinecraftInterface {
+		private final AtomicInteger numberOfCreatedWorlds;
+
+		public CountingMinecraftInterface(AtomicInteger numberOfCreatedWorlds) {
+			super(VERSION);
+			this.numberOfCreatedWorlds = numberOfCreatedWorlds;
+		}
+
+		@Override
+		public void createWorld(long seed, WorldType worldType, String generatorOptions)
+				throws MinecraftInterfaceException {
+			numberOfCreatedWorlds.incrementAndGet();
+			super.createWorld(seed, worldType, generatorOptions);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package amidst.mojangapi.minecraftinterface.layerstack;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.world.WorldOptions;
+import amidst.mojangapi.world.WorldType;
+import amidst.mojangapi.world.testworld.TestWorldCache;
+import amidst.mojangapi.world.testworld.TestWorldDeclaration;
+import amidst.mojangapi.world.testworld.TestWorldEntryNames;
+import amidst.mojangapi.world.testworld.storage.json.AreaJson;
+import amidst.mojangapi.world.testworld.storage.json.BiomeDataJson;
+
+public class LayerStackMinecraftInterfaceTest {
+	@Test
+	public void shouldGenerateSameBiomeDataAsTheGame() throws MinecraftInterfaceException {
+		int numberOfTestedWorlds = 0;
+		for (TestWorldDeclaration worldDeclaration : TestWorldDeclaration.values()) {
+			if (LayerStackMinecraftInterface.isSupported(worldDeclaration.getRecognisedVersion())) {
+				WorldOptions worldOptions = worldDeclaration.getWorldOptions();
+				LayerStackMinecraftInterface minecraftInterface = new LayerStackMinecraftInterface(
+						worldDeclaration.getRecognisedVersion());
+				minecraftInterface.createWorld(
+						worldOptions.getWorldSeed().getLong(),
+						worldOptions.getWorldType(),
+						worldOptions.getGeneratorOptions());
+				assertSameBiomeData(
+						worldDeclaration,
+						minecraftInterface,
+						TestWorldEntryNames.QUARTER_RESOLUTION_BIOME_DATA,
+						true);
+				assertSameBiomeData(
+						worldDeclaration,
+						minecraftInterface,
+						TestWorldEntryNames.FULL_RESOLUTION_BIOME_DATA,
+						false);
+				numberOfTestedWorlds++;
+			}
+		}
+		assertTrue("no test world is supported", numberOfTestedWorlds > 0);
+	}
+
+	@Test
+	public void shouldGenerateSameFullResolutionBiomeDataForUnalignedAreas() throws MinecraftInterfaceException {
+		LayerStackMinecraftInterface minecraftInterface = new LayerStackMinecraftInterface(RecognisedVersion._1_12_2);
+		minecraftInterface.createWorld(42, WorldType.DEFAULT, "");
+		Random random = new Random(42);
+		for (int i = 0; i < 200; i++) {
+			int x = random.nextInt(300) - 150;
+			int y = random.nextInt(300) - 150;
+			int width = 1 + random.nextInt(32);
+			int height = 1 + random.nextInt(32);
+			int[] actual = minecraftInterface.getBiomeData(x, y, width, height, false).clone();
+			for (int j = 0; j < height; j++) {
+				for (int k = 0; k < width; k++) {
+					assertEquals(
+							"area: " + x + ", " + y + ", " + width + ", " + height,
+							minecraftInterface.getBiomeData(x + k, y + j, 1, 1, false)[0],
+							actual[k + j * width]);
+				}
+			}
+		}
+	}
+
+	private void assertSameBiomeData(
+			TestWorldDeclaration worldDeclaration,
+			LayerStackMinecraftInterface minecraftInterface,
+			String name,
+			boolean useQuarterResolution) throws MinecraftInterfaceException {
+		BiomeDataJson expected = TestWorldCache.get(worldDeclaration).getEntryValue(name, BiomeDataJson.class);
+		for (AreaJson area : expected.getAreas()) {
+			int x = (int) area.getX();
+			int y = (int) area.getY();
+			int width = (int) area.getWidth();
+			int height = (int) area.getHeight();
+			int[] actual = minecraftInterface.getBiomeData(x, y, width, height, useQuarterResolution);
+			assertArrayEquals(
+					"biome data changed: [world: " + worldDeclaration + ", entry: " + name + ", area: " + x + ", " + y
+							+ ", " + width + ", " + height + "]",
+					expected.get(x, y, width, height),
+					Arrays.copyOf(actual, width * height));
+		}
+	}
+}
@@ -33,6 +33,24 @@ public class BenchmarkingMinecraftInterface implements MinecraftInterface {
 		return biomeData;
 	}
 
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		long start = System.nanoTime();
+		inner.getBiomeData(x, y, width, height, useQuarterResolution, result, offset, stride);
+		long end = System.nanoTime();
+		
+		String thread = Thread.currentThread().getName();
+		records.add(new BiomeRequestRecordJson(x, y, width, height, useQuarterResolution, start, end-start, thread));
+	}
+
 	@Override
 	public void createWorld(long seed, WorldType worldType, String generatorOptions)
 			throws MinecraftInterfaceException {
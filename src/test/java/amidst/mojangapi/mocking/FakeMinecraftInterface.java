@@ -34,6 +34,22 @@ public class FakeMinecraftInterface implements MinecraftInterface {
 		}
 	}
 
+	@Override
+	public void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
 	private BiomeDataJson getBiomeData(boolean useQuarterResolution) {
 		if (useQuarterResolution) {
 			return quarterBiomeData;
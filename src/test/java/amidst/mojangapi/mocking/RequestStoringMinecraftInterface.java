@@ -24,6 +24,22 @@ public class RequestStoringMinecraftInterface implements MinecraftInterface {
 		return biomeData;
 	}
 
+	@Override
+	public synchronized void getBiomeData(
+			int x,
+			int y,
+			int width,
+			int height,
+			boolean useQuarterResolution,
+			int[] result,
+			int offset,
+			int stride) throws MinecraftInterfaceException {
+		int[] biomeData = getBiomeData(x, y, width, height, useQuarterResolution);
+		for (int j = 0; j < height; j++) {
+			System.arraycopy(biomeData, j * width, result, offset + j * stride, width);
+		}
+	}
+
 	private void store(int x, int y, int width, int height, boolean useQuarterResolution, int[] biomeData) {
 		builder.store(x, y, width, height, useQuarterResolution, biomeData);
 	}
@@ -0,0 +1,39 @@
+package amidst.mojangapi.world.biome;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BiomeSetTest {
+	@Test
+	public void testContainsSameBiomesAsList() {
+		List<Biome> biomes = Arrays.asList(Biome.ocean, Biome.desert, Biome.swamplandM, Biome.bambooJungleHills);
+		BiomeSet biomeSet = BiomeSet.from(biomes);
+		for (Biome biome : Biome.allBiomes()) {
+			Assert.assertEquals(biomes.contains(biome), biomeSet.contains(biome));
+			Assert.assertEquals(biomes.contains(biome), biomeSet.containsIndex(biome.getIndex()));
+		}
+		Assert.assertFalse(biomeSet.isEmpty());
+	}
+
+	@Test
+	public void testUnknownIndicesAreNotContained() {
+		BiomeSet biomeSet = BiomeSet.from(Arrays.asList(Biome.ocean));
+		Assert.assertFalse(biomeSet.containsIndex(-1));
+		Assert.assertFalse(biomeSet.containsIndex(-256));
+		Assert.assertFalse(biomeSet.containsIndex(64));
+		Assert.assertFalse(biomeSet.containsIndex(256));
+		Assert.assertFalse(biomeSet.containsIndex(Integer.MIN_VALUE));
+		Assert.assertTrue(BiomeSet.of().isEmpty());
+	}
+
+	@Test
+	public void testContainsAllIndices() {
+		BiomeSet biomeSet = BiomeSet.of(Biome.plains, Biome.forest);
+		int[] biomeData = { Biome.plains.getIndex(), Biome.forest.getIndex(), Biome.ocean.getIndex() };
+		Assert.assertTrue(biomeSet.containsAllIndices(biomeData, 2));
+		Assert.assertFalse(biomeSet.containsAllIndices(biomeData, 3));
+	}
+}
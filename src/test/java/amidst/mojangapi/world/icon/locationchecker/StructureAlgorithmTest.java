@@ -0,0 +1,59 @@
+package amidst.mojangapi.world.icon.locationchecker;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StructureAlgorithmTest {
+	private static final int CHUNKS_PER_FRAGMENT = 32;
+
+	@Test
+	public void testCandidateLocationsMatchSingleChecks() {
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			StructureAlgorithm algorithm = createAlgorithm(random, i);
+			int left = (random.nextInt(2000) - 1000) * CHUNKS_PER_FRAGMENT;
+			int top = (random.nextInt(2000) - 1000) * CHUNKS_PER_FRAGMENT;
+			long[] expected = getValidLocations(algorithm, left, top, CHUNKS_PER_FRAGMENT, CHUNKS_PER_FRAGMENT);
+			long[] actual = algorithm.getCandidateLocations(left, top, CHUNKS_PER_FRAGMENT, CHUNKS_PER_FRAGMENT);
+			Arrays.sort(actual);
+			Assert.assertEquals("fragment " + left + ", " + top, Arrays.toString(expected), Arrays.toString(actual));
+		}
+	}
+
+	/**
+	 * The result is sorted, because the locations are packed with x in the
+	 * high bits.
+	 */
+	private long[] getValidLocations(StructureAlgorithm algorithm, int left, int top, int width, int height) {
+		long[] result = new long[width * height];
+		int count = 0;
+		for (int x = left; x < left + width; x++) {
+			for (int y = top; y < top + height; y++) {
+				if (algorithm.isValidLocation(x, y)) {
+					result[count++] = (long) x << 32 | y & 0xFFFFFFFFL;
+				}
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Small spacings make a fragment overlap many regions.
+	 */
+	private StructureAlgorithm createAlgorithm(Random random, int i) {
+		byte maxDistance = (byte) (2 + random.nextInt(i % 2 == 0 ? 4 : 39));
+		byte minDistance = (byte) random.nextInt(maxDistance);
+		return new StructureAlgorithm(
+				random.nextLong(),
+				random.nextLong(),
+				random.nextLong(),
+				random.nextLong(),
+				maxDistance,
+				minDistance,
+				random.nextBoolean(),
+				(i & 2) != 0);
+	}
+}
@@ -0,0 +1,38 @@
+package amidst.mojangapi.world.oracle;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import amidst.mojangapi.minecraftinterface.MinecraftInterface;
+import amidst.mojangapi.minecraftinterface.MinecraftInterfaceException;
+import amidst.mojangapi.minecraftinterface.RecognisedVersion;
+import amidst.mojangapi.minecraftinterface.layerstack.LayerStackMinecraftInterface;
+import amidst.mojangapi.world.WorldType;
+
+public class BiomeDataOracleTest {
+	@Test
+	public void testBatchedBiomeIndicesMatchSingleRequests() throws MinecraftInterfaceException {
+		MinecraftInterface minecraftInterface = new LayerStackMinecraftInterface(RecognisedVersion._1_12_2);
+		minecraftInterface.createWorld(42, WorldType.DEFAULT, "");
+		BiomeDataOracle oracle = new BiomeDataOracle(minecraftInterface);
+		Random random = new Random(42);
+		for (int round = 0; round < 20; round++) {
+			int count = 1 + random.nextInt(200);
+			int[] xs = new int[count];
+			int[] ys = new int[count];
+			for (int i = 0; i < count; i++) {
+				xs[i] = random.nextInt(300) - 150;
+				ys[i] = random.nextInt(300) - 150;
+			}
+			xs[count - 1] = xs[0];
+			ys[count - 1] = ys[0];
+			int[] actual = oracle.getBiomeIndicesAt(xs, ys, count);
+			for (int i = 0; i < count; i++) {
+				int expected = minecraftInterface.getBiomeData(xs[i], ys[i], 1, 1, false)[0];
+				Assert.assertEquals("biome at " + xs[i] + ", " + ys[i], expected, actual[i]);
+			}
+		}
+	}
+}
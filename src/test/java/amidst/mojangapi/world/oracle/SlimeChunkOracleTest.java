@@ -0,0 +1,31 @@
+package amidst.mojangapi.world.oracle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlimeChunkOracleTest {
+	private static final long[] SEEDS = { 0, 1, -4172144997902289642L, Long.MIN_VALUE, Long.MAX_VALUE };
+
+	@Test
+	public void testBitSetMatchesSingleChunks() {
+		for (long seed : SEEDS) {
+			SlimeChunkOracle oracle = new SlimeChunkOracle(seed);
+			assertBitSetMatches(oracle, -37, -20, 75, 41);
+			assertBitSetMatches(oracle, Integer.MAX_VALUE - 10, Integer.MIN_VALUE - 5L, 21, 13);
+			assertBitSetMatches(oracle, 1875000, -1875000, 1, 64);
+		}
+	}
+
+	private void assertBitSetMatches(SlimeChunkOracle oracle, long chunkX, long chunkY, int width, int height) {
+		long[] bitSet = new long[SlimeChunkOracle.getBitSetLength(width, height)];
+		bitSet[bitSet.length - 1] = -1;
+		oracle.getSlimeChunks(chunkX, chunkY, width, height, bitSet);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = x + y * width;
+				boolean actual = (bitSet[index >>> 6] & 1L << index) != 0;
+				Assert.assertEquals(oracle.isSlimeChunk(chunkX + x, chunkY + y), actual);
+			}
+		}
+	}
+}
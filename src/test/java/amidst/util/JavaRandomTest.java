@@ -0,0 +1,64 @@
+package amidst.util;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JavaRandomTest {
+	private static final int[] BOUNDS = { 1, 2, 3, 5, 8, 10, 24, 80, 100, 1 << 30, (1 << 30) + 1, Integer.MAX_VALUE };
+
+	@Test
+	public void testSameNumbersAsJavaUtilRandom() {
+		Random seeds = new Random(42);
+		JavaRandom actual = new JavaRandom();
+		for (int i = 0; i < 10000; i++) {
+			long seed = i < 4 ? new long[] { 0, -1, Long.MIN_VALUE, Long.MAX_VALUE }[i] : seeds.nextLong();
+			Random expected = new Random(seed);
+			actual.setSeed(seed);
+			for (int j = 0; j < 20; j++) {
+				int bound = BOUNDS[(i + j) % BOUNDS.length];
+				switch (j % 6) {
+				case 0:
+					Assert.assertEquals(expected.nextInt(), actual.nextInt());
+					break;
+				case 1:
+					Assert.assertEquals(expected.nextInt(bound), actual.nextInt(bound));
+					break;
+				case 2:
+					Assert.assertEquals(expected.nextLong(), actual.nextLong());
+					break;
+				case 3:
+					Assert.assertEquals(
+							Float.floatToIntBits(expected.nextFloat()),
+							Float.floatToIntBits(actual.nextFloat()));
+					break;
+				case 4:
+					Assert.assertEquals(
+							Double.doubleToLongBits(expected.nextDouble()),
+							Double.doubleToLongBits(actual.nextDouble()));
+					break;
+				default:
+					expected.setSeed(seed + j);
+					actual.setSeed(seed + j);
+					break;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSeededNextIntMatchesJavaUtilRandom() {
+		Random seeds = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			long seed = seeds.nextLong();
+			int bound = BOUNDS[i % BOUNDS.length];
+			Assert.assertEquals(new Random(seed).nextInt(bound), JavaRandom.nextInt(seed, bound));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonPositiveBound() {
+		new JavaRandom().nextInt(0);
+	}
+}